@@ -0,0 +1,14 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("kanban.cache.boards")
+public record BoardCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration expireAfterWrite,
+        @DefaultValue("false") boolean singleNode
+) {
+}
@@ -0,0 +1,13 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("kanban.events")
+public record BoardEventProperties(
+        @DefaultValue("256") int queueCapacity,
+        @DefaultValue("30m") Duration timeout
+) {
+}
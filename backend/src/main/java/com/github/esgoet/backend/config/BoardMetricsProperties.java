@@ -0,0 +1,10 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("kanban.metrics.boards")
+public record BoardMetricsProperties(
+        @DefaultValue("0.01") double sizeSampleRate
+) {
+}
@@ -0,0 +1,15 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("kanban.change-streams")
+public record ChangeStreamProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("PT1S") Duration tokenFlushInterval,
+        @DefaultValue("1s") Duration restartBackoff,
+        @DefaultValue("1m") Duration maxRestartBackoff
+) {
+}
@@ -0,0 +1,15 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("kanban.cleanup")
+public record CleanupProperties(
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("100ms") Duration batchDelay,
+        @DefaultValue("1m") Duration lease,
+        @DefaultValue("5s") Duration startDelay
+) {
+}
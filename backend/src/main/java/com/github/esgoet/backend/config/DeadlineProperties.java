@@ -0,0 +1,15 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("kanban.deadlines")
+public record DeadlineProperties(
+        @DefaultValue("true") boolean schedulerEnabled,
+        @DefaultValue("1h") Duration horizon,
+        @DefaultValue("15m") Duration refillInterval,
+        @DefaultValue("30d") Duration maxWindow
+) {
+}
@@ -0,0 +1,16 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("kanban.ids")
+public record IdProperties(
+        @DefaultValue("ulid") Strategy strategy
+) {
+    public enum Strategy {
+        RANDOM_UUID,
+        UUID_V7,
+        ULID,
+        OBJECT_ID
+    }
+}
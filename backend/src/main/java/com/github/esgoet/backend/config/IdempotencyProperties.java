@@ -0,0 +1,15 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("kanban.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue("24h") Duration expireAfterWrite,
+        @DefaultValue("255") int maxKeyLength,
+        @DefaultValue("10s") Duration waitTimeout
+) {
+}
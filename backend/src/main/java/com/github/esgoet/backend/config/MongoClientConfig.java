@@ -0,0 +1,25 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MongoClientConfig {
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolCustomizer(MongoPoolProperties properties, Environment environment) {
+        boolean virtualThreads = Threading.VIRTUAL.isActive(environment);
+        int maxSize = virtualThreads ? properties.virtualThreadsMaxSize() : properties.maxSize();
+        Duration maxWaitTime = virtualThreads ? properties.virtualThreadsMaxWaitTime() : properties.maxWaitTime();
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(maxSize)
+                .minSize(properties.minSize())
+                .maxConnecting(properties.maxConnecting())
+                .maxWaitTime(maxWaitTime.toMillis(), TimeUnit.MILLISECONDS));
+    }
+}
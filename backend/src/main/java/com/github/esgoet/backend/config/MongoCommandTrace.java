@@ -0,0 +1,16 @@
+package com.github.esgoet.backend.config;
+
+import java.time.Duration;
+
+/**
+ * One traced Mongo command. The byte counts are {@code null} unless the request was sampled for sizing.
+ */
+public record MongoCommandTrace(
+        String commandName,
+        String collection,
+        Duration duration,
+        Integer commandBytes,
+        Integer responseBytes,
+        boolean succeeded
+) {
+}
@@ -0,0 +1,126 @@
+package com.github.esgoet.backend.config;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traces the Mongo commands issued on the current thread while a scope is open. The blocking driver starts and
+ * completes every command on the calling thread, so a scope opened around a servlet request sees exactly that
+ * request's commands. Commands traced by a nested scope are also traced by the scopes enclosing it. Measuring command
+ * and reply sizes re-encodes both documents, so scopes only do it when opened with {@code measureBytes}.
+ */
+@Component
+public class MongoCommandTracer implements CommandListener {
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final BsonDocumentCodec CODEC = new BsonDocumentCodec();
+
+    public Scope open(boolean measureBytes) {
+        Scope scope = new Scope(CURRENT.get(), measureBytes);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.started.put(event.getRequestId(), new StartedCommand(
+                    event.getCommandName(),
+                    collection(event.getCommandName(), event.getCommand()),
+                    scope.measureBytes ? sizeOf(event.getCommand()) : null));
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.complete(event.getRequestId(), event.getElapsedTime(TimeUnit.NANOSECONDS),
+                    scope.measureBytes ? sizeOf(event.getResponse()) : null, true);
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.complete(event.getRequestId(), event.getElapsedTime(TimeUnit.NANOSECONDS), null, false);
+        }
+    }
+
+    static String collection(String commandName, BsonDocument command) {
+        BsonValue target = command.get("getMore".equals(commandName) ? "collection" : commandName);
+        return target != null && target.isString() ? target.asString().getValue() : null;
+    }
+
+    private static int sizeOf(BsonDocument document) {
+        if (document == null) {
+            return 0;
+        }
+        return new RawBsonDocument(document, CODEC).getByteBuffer().remaining();
+    }
+
+    private record StartedCommand(String commandName, String collection, Integer commandBytes) {
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope previous;
+        private final boolean measureBytes;
+        private final Map<Integer, StartedCommand> started = new HashMap<>();
+        private final List<MongoCommandTrace> commands = new ArrayList<>();
+
+        private Scope(Scope previous, boolean measureBytes) {
+            this.previous = previous;
+            this.measureBytes = measureBytes;
+        }
+
+        public int roundTrips() {
+            return commands.size() + started.size();
+        }
+
+        public List<MongoCommandTrace> commands() {
+            return List.copyOf(commands);
+        }
+
+        public Duration mongoTime() {
+            return commands.stream()
+                    .map(MongoCommandTrace::duration)
+                    .reduce(Duration.ZERO, Duration::plus);
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+
+        private void complete(int requestId, long elapsedNanos, Integer responseBytes, boolean succeeded) {
+            StartedCommand command = started.remove(requestId);
+            if (command == null) {
+                return;
+            }
+            MongoCommandTrace trace = new MongoCommandTrace(command.commandName(), command.collection(),
+                    Duration.ofNanos(elapsedNanos), command.commandBytes(), responseBytes, succeeded);
+            for (Scope scope = this; scope != null; scope = scope.previous) {
+                scope.commands.add(trace);
+            }
+        }
+    }
+}
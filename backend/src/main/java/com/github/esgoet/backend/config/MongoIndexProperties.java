@@ -0,0 +1,15 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("kanban.mongo.indexes")
+public record MongoIndexProperties(
+        @DefaultValue("warn") Verification verification
+) {
+    public enum Verification {
+        OFF,
+        WARN,
+        FAIL
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.esgoet.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexVerifier {
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+    private final MongoIndexProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyIndexes() {
+        if (properties.verification() == MongoIndexProperties.Verification.OFF) {
+            return;
+        }
+        List<String> missingIndexes = findMissingIndexes();
+        if (missingIndexes.isEmpty()) {
+            log.info("All expected MongoDB indexes are present");
+            return;
+        }
+        String message = "Missing MongoDB indexes: " + String.join(", ", missingIndexes);
+        if (properties.verification() == MongoIndexProperties.Verification.FAIL) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    public List<String> findMissingIndexes() {
+        IndexResolver indexResolver = IndexResolver.create(mappingContext);
+        List<String> missingIndexes = new ArrayList<>();
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(Document.class)) {
+                continue;
+            }
+            List<IndexInfo> existingIndexes = mongoTemplate.indexOps(entity.getType()).getIndexInfo();
+            for (IndexDefinition expectedIndex : indexResolver.resolveIndexFor(entity.getTypeInformation())) {
+                List<String> keys = new ArrayList<>(expectedIndex.getIndexKeys().keySet());
+                if (existingIndexes.stream().noneMatch(index -> index.isIndexForFields(keys))) {
+                    missingIndexes.add(entity.getCollection() + keys);
+                }
+            }
+        }
+        return missingIndexes;
+    }
+}
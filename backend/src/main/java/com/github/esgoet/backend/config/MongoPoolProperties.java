@@ -0,0 +1,22 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * With virtual threads every request holds its own thread, so the connection pool becomes the queue that Tomcat's
+ * worker pool used to be. The {@code virtualThreads*} values replace {@code maxSize} and {@code maxWaitTime} while
+ * {@code spring.threads.virtual.enabled} is set, so switching threads on does not leave the pool sized for 200 workers.
+ */
+@ConfigurationProperties("kanban.mongo.pool")
+public record MongoPoolProperties(
+        @DefaultValue("100") int maxSize,
+        @DefaultValue("0") int minSize,
+        @DefaultValue("2") int maxConnecting,
+        @DefaultValue("5s") Duration maxWaitTime,
+        @DefaultValue("500") int virtualThreadsMaxSize,
+        @DefaultValue("30s") Duration virtualThreadsMaxWaitTime
+) {
+}
@@ -0,0 +1,73 @@
+package com.github.esgoet.backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Traces the Mongo commands of every handled request, records their count and logs the full trace of requests that
+ * exceed the configured round-trip or latency budget. Command and reply sizes are only measured for the sampled
+ * fraction of requests set by {@code kanban.mongo.tracing.byte-sample-rate}.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "kanban.mongo.tracing.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MongoRequestTraceFilter extends OncePerRequestFilter {
+    static final String ROUND_TRIPS_METRIC = "kanban.mongo.round.trips";
+    static final String BUDGET_EXCEEDED_METRIC = "kanban.mongo.budget.exceeded";
+
+    private final MongoCommandTracer commandTracer;
+    private final MongoTracingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean measureBytes = ThreadLocalRandom.current().nextDouble() < properties.byteSampleRate();
+        try (MongoCommandTracer.Scope scope = commandTracer.open(measureBytes)) {
+            filterChain.doFilter(request, response);
+            if (request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String uri) {
+                record(request.getMethod(), uri, scope, Duration.ofNanos(System.nanoTime() - start));
+            }
+        }
+    }
+
+    private void record(String method, String uri, MongoCommandTracer.Scope scope, Duration elapsed) {
+        DistributionSummary.builder(ROUND_TRIPS_METRIC)
+                .description("Mongo commands issued while handling a request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(scope.roundTrips());
+        if (scope.roundTrips() <= properties.maxRoundTrips() && elapsed.compareTo(properties.maxDuration()) <= 0) {
+            return;
+        }
+        meterRegistry.counter(BUDGET_EXCEEDED_METRIC, "method", method, "uri", uri).increment();
+        log.atWarn()
+                .addKeyValue("method", method)
+                .addKeyValue("uri", uri)
+                .addKeyValue("roundTrips", scope.roundTrips())
+                .addKeyValue("durationMs", elapsed.toMillis())
+                .addKeyValue("mongoMs", scope.mongoTime().toMillis())
+                .addKeyValue("commands", scope.commands())
+                .log("{} {} exceeded its Mongo budget with {} round trips in {} ms: {}",
+                        method, uri, scope.roundTrips(), elapsed.toMillis(), scope.commands());
+    }
+}
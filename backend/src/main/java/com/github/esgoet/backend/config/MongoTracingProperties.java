@@ -0,0 +1,15 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("kanban.mongo.tracing")
+public record MongoTracingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5") int maxRoundTrips,
+        @DefaultValue("500ms") Duration maxDuration,
+        @DefaultValue("0.01") double byteSampleRate
+) {
+}
@@ -0,0 +1,20 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("kanban.ordering")
+public record OrderingProperties(
+        @DefaultValue("list") Mode mode,
+        @DefaultValue("500") int migrationBatchSize,
+        @DefaultValue("false") boolean migrateOnStartup
+) {
+    public enum Mode {
+        LIST,
+        RANK
+    }
+
+    public boolean ranked() {
+        return mode == Mode.RANK;
+    }
+}
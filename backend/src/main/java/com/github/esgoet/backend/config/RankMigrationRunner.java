@@ -0,0 +1,28 @@
+package com.github.esgoet.backend.config;
+
+import com.github.esgoet.backend.service.RankMigrationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kanban.ordering.migrate-on-startup", havingValue = "true")
+public class RankMigrationRunner implements ApplicationRunner {
+    private final RankMigrationService rankMigrationService;
+    private final OrderingProperties orderingProperties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // The migration empties the column task lists, which list mode still reads its order from.
+        if (!orderingProperties.ranked()) {
+            log.warn("Skipping rank migration: kanban.ordering.mode is {}, not rank", orderingProperties.mode());
+            return;
+        }
+        rankMigrationService.migrateAll();
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("kanban.reconciler")
+public record ReconcilerProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("20") int maxBatchesPerRun,
+        @DefaultValue("PT10M") Duration interval,
+        @DefaultValue("PT5M") Duration lease
+) {
+}
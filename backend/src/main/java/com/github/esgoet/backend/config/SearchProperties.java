@@ -0,0 +1,12 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("kanban.search")
+public record SearchProperties(
+        @DefaultValue("false") boolean reindexOnStartup,
+        @DefaultValue("500") int reindexBatchSize,
+        @DefaultValue("1000") int maxResults
+) {
+}
@@ -0,0 +1,45 @@
+package com.github.esgoet.backend.config;
+
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.TaskRepository;
+import com.github.esgoet.backend.repository.TaskSearchTerms;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSearchIndex {
+    private final MongoTemplate mongoTemplate;
+    private final TaskRepository taskRepository;
+    private final SearchProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndex() {
+        mongoTemplate.indexOps(Task.class).ensureIndex(new TextIndexDefinition.TextIndexDefinitionBuilder()
+                .named("task_search")
+                .onField(TaskSearchTerms.TITLE_TERMS, 3F)
+                .onField(TaskSearchTerms.DESCRIPTION_TERMS)
+                .withDefaultLanguage("none")
+                .build());
+        if (properties.reindexOnStartup()) {
+            reindex();
+        }
+    }
+
+    public long reindex() {
+        long indexedTaskCount = 0;
+        long indexed;
+        do {
+            indexed = taskRepository.indexSearchTerms(properties.reindexBatchSize());
+            indexedTaskCount += indexed;
+        } while (indexed > 0);
+        log.info("Indexed search terms for {} tasks", indexedTaskCount);
+        return indexedTaskCount;
+    }
+}
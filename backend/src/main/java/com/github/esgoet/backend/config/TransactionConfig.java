@@ -0,0 +1,45 @@
+package com.github.esgoet.backend.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Multi-document writes run in a Mongo transaction when {@code kanban.transactions.enabled} is set, which requires a
+ * replica set. Otherwise they run as independent writes and {@code TaskReconciler} repairs what a failure in between
+ * leaves behind. The reactive stack gets a {@link TransactionalOperator} under the same switch.
+ */
+@Configuration
+public class TransactionConfig {
+    @Bean
+    @ConditionalOnProperty(name = "kanban.transactions.enabled", havingValue = "true")
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
+    }
+
+    @Bean
+    public TransactionOperations writeTransactions(ObjectProvider<MongoTransactionManager> transactionManager) {
+        MongoTransactionManager manager = transactionManager.getIfAvailable();
+        return manager == null ? TransactionOperations.withoutTransaction() : new TransactionTemplate(manager);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "kanban.transactions.enabled", havingValue = "true")
+    public ReactiveMongoTransactionManager reactiveTransactionManager(ReactiveMongoDatabaseFactory databaseFactory) {
+        return new ReactiveMongoTransactionManager(databaseFactory);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "kanban.transactions.enabled", havingValue = "true")
+    public TransactionalOperator reactiveWriteTransactions(ReactiveMongoTransactionManager transactionManager) {
+        return TransactionalOperator.create(transactionManager);
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.esgoet.backend.config;
+
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Migration;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.MigrationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Initialises the version of boards and tasks written before optimistic locking was introduced. Spring Data treats a
+ * null version as a new entity, so saving one of those documents would attempt an insert and fail with a duplicate key.
+ * <p>
+ * Nothing writes a null version any more, so the backfill only runs until it has completed once, which it records in
+ * the {@code migrations} collection.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kanban.versions.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class VersionBackfillRunner implements ApplicationRunner {
+    private static final String VERSION = "version";
+    private static final String MIGRATION_ID = "version-backfill";
+
+    private final MongoTemplate mongoTemplate;
+    private final MigrationRepository migrationRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (migrationRepository.existsById(MIGRATION_ID)) {
+            return;
+        }
+        long boardCount = backfill(Board.class);
+        long taskCount = backfill(Task.class);
+        if (boardCount > 0 || taskCount > 0) {
+            log.info("Initialised versions of {} boards and {} tasks", boardCount, taskCount);
+        }
+        migrationRepository.save(new Migration(MIGRATION_ID, Instant.now()));
+    }
+
+    private long backfill(Class<?> entityClass) {
+        return mongoTemplate.updateMulti(Query.query(Criteria.where(VERSION).is(null)), new Update().set(VERSION, 0L), entityClass)
+                .getModifiedCount();
+    }
+}
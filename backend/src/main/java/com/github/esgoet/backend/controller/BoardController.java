@@ -1,21 +1,41 @@
 package com.github.esgoet.backend.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.esgoet.backend.dto.BoardDto;
+import com.github.esgoet.backend.dto.BoardOutlineDto;
+import com.github.esgoet.backend.dto.BoardPageDto;
+import com.github.esgoet.backend.dto.BoardSnapshotDto;
 import com.github.esgoet.backend.dto.NewBoardDto;
 import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.CleanupJob;
+import com.github.esgoet.backend.service.BoardEventBroker;
 import com.github.esgoet.backend.service.BoardService;
+import com.github.esgoet.backend.service.IdempotencyStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/boards")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class BoardController {
     private final BoardService boardService;
+    private final BoardEventBroker boardEventBroker;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 
     @GetMapping
     public ResponseEntity<List<Board>> getAllBoards() {
@@ -23,27 +43,72 @@ public class BoardController {
         return ResponseEntity.ok(boards);
     }
 
+    @GetMapping("/summaries")
+    public ResponseEntity<BoardPageDto> getBoardSummaries(@RequestParam(required = false) String after,
+                                                          @RequestParam(defaultValue = "50") int limit) {
+        BoardPageDto page = boardService.getBoardSummaries(after, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(value = "/summaries/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamBoardSummaries() {
+        StreamingResponseBody body = outputStream -> boardService.streamBoardSummaries(summary -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(summary));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Board> getBoardById(@PathVariable String id) {
         Board board = boardService.getBoardById(id);
-        return ResponseEntity.ok(board);
+        return ETags.ok(board, board.version());
+    }
+
+    @GetMapping("/{id}/outline")
+    public ResponseEntity<BoardOutlineDto> getBoardOutline(@PathVariable String id) {
+        BoardOutlineDto outline = boardService.getBoardOutline(id);
+        return ResponseEntity.ok(outline);
+    }
+
+    @GetMapping("/{id}/snapshot")
+    public ResponseEntity<BoardSnapshotDto> getBoardSnapshot(@PathVariable String id) {
+        BoardSnapshotDto snapshot = boardService.getBoardSnapshot(id);
+        return ResponseEntity.ok(snapshot);
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getBoardEvents(@PathVariable String id) {
+        return boardEventBroker.subscribe(boardService.getBoardById(id));
     }
 
     @PostMapping
-    public ResponseEntity<Board> createBoard(@RequestBody NewBoardDto boardDto) {
-        Board board = boardService.createBoard(boardDto);
+    public ResponseEntity<Board> createBoard(@RequestBody NewBoardDto boardDto,
+                                             @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        Board board = idempotencyKey == null
+                ? boardService.createBoard(boardDto)
+                : idempotencyStore.execute("board", idempotencyKey, boardDto, Board.class,
+                () -> boardService.createBoard(boardDto));
         return ResponseEntity.status(HttpStatus.CREATED).body(board);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Board> updateBoard(@PathVariable String id, @RequestBody BoardDto boardDto) {
-        Board board = boardService.updateBoard(id, boardDto);
-        return ResponseEntity.ok(board);
+    public ResponseEntity<Board> updateBoard(@PathVariable String id, @RequestBody BoardDto boardDto,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Board board = boardService.updateBoard(id, boardDto, ETags.expectedVersion(ifMatch));
+        return ETags.ok(board, board.version());
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteBoard(@PathVariable String id) {
-        boardService.deleteBoard(id);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<CleanupJob> deleteBoard(@PathVariable String id,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        CleanupJob cleanupJob = boardService.deleteBoard(id, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.accepted().body(cleanupJob);
     }
 }
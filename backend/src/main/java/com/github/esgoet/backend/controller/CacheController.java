@@ -0,0 +1,22 @@
+package com.github.esgoet.backend.controller;
+
+import com.github.esgoet.backend.dto.CacheStatsDto;
+import com.github.esgoet.backend.service.BoardCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheController {
+    private final BoardCache boardCache;
+
+    @GetMapping("/boards")
+    public ResponseEntity<CacheStatsDto> getBoardCacheStats() {
+        CacheStatsDto stats = boardCache.stats();
+        return ResponseEntity.ok(stats);
+    }
+}
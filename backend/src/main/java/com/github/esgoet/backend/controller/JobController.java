@@ -0,0 +1,25 @@
+package com.github.esgoet.backend.controller;
+
+import com.github.esgoet.backend.model.CleanupJob;
+import com.github.esgoet.backend.service.CleanupJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class JobController {
+    private final CleanupJobService cleanupJobService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<CleanupJob> getJob(@PathVariable String id) {
+        CleanupJob cleanupJob = cleanupJobService.getJob(id);
+        return ResponseEntity.ok(cleanupJob);
+    }
+}
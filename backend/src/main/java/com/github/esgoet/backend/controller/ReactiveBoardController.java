@@ -0,0 +1,92 @@
+package com.github.esgoet.backend.controller;
+
+import com.github.esgoet.backend.dto.BoardDto;
+import com.github.esgoet.backend.dto.BoardOutlineDto;
+import com.github.esgoet.backend.dto.BoardPageDto;
+import com.github.esgoet.backend.dto.BoardSnapshotDto;
+import com.github.esgoet.backend.dto.BoardSummaryDto;
+import com.github.esgoet.backend.dto.NewBoardDto;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.CleanupJob;
+import com.github.esgoet.backend.service.BoardService;
+import com.github.esgoet.backend.service.IdempotencyStore;
+import com.github.esgoet.backend.service.ReactiveBoardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/boards")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBoardController {
+    private final ReactiveBoardService boardService;
+    private final BoardService blockingBoardService;
+    private final IdempotencyStore idempotencyStore;
+
+    @GetMapping
+    public Mono<ResponseEntity<List<Board>>> getAllBoards() {
+        return boardService.getAllBoards().collectList().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/summaries")
+    public Mono<ResponseEntity<BoardPageDto>> getBoardSummaries(@RequestParam(required = false) String after,
+                                                                @RequestParam(defaultValue = "50") int limit) {
+        return Mono.fromCallable(() -> blockingBoardService.getBoardSummaries(after, limit))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/summaries/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BoardSummaryDto> streamBoardSummaries() {
+        return boardService.streamBoardSummaries();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Board>> getBoardById(@PathVariable String id) {
+        return boardService.getBoardById(id).map(board -> ETags.ok(board, board.version()));
+    }
+
+    @GetMapping("/{id}/outline")
+    public Mono<ResponseEntity<BoardOutlineDto>> getBoardOutline(@PathVariable String id) {
+        return boardService.getBoardOutline(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}/snapshot")
+    public Mono<ResponseEntity<BoardSnapshotDto>> getBoardSnapshot(@PathVariable String id) {
+        return boardService.getBoardSnapshot(id).map(ResponseEntity::ok);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Board>> createBoard(@RequestBody NewBoardDto boardDto,
+                                                   @RequestHeader(value = BoardController.IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        Mono<Board> board = idempotencyKey == null
+                ? boardService.createBoard(boardDto)
+                : idempotencyStore.execute("board", idempotencyKey, boardDto, Board.class,
+                Mono.defer(() -> boardService.createBoard(boardDto)));
+        return board.map(createdBoard -> ResponseEntity.status(HttpStatus.CREATED).body(createdBoard));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Board>> updateBoard(@PathVariable String id, @RequestBody BoardDto boardDto,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return boardService.updateBoard(id, boardDto, ETags.expectedVersion(ifMatch))
+                .map(board -> ETags.ok(board, board.version()));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<CleanupJob>> deleteBoard(@PathVariable String id,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return boardService.deleteBoard(id, ETags.expectedVersion(ifMatch))
+                .map(cleanupJob -> ResponseEntity.accepted().body(cleanupJob));
+    }
+}
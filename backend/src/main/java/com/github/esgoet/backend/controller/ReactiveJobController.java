@@ -0,0 +1,28 @@
+package com.github.esgoet.backend.controller;
+
+import com.github.esgoet.backend.model.CleanupJob;
+import com.github.esgoet.backend.service.CleanupJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveJobController {
+    private final CleanupJobService cleanupJobService;
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CleanupJob>> getJob(@PathVariable String id) {
+        return Mono.fromCallable(() -> cleanupJobService.getJob(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.esgoet.backend.controller;
+
+import com.github.esgoet.backend.dto.BulkTaskOperationDto;
+import com.github.esgoet.backend.dto.BulkTaskResultDto;
+import com.github.esgoet.backend.dto.MoveTaskDto;
+import com.github.esgoet.backend.dto.NewTaskDto;
+import com.github.esgoet.backend.dto.TaskDto;
+import com.github.esgoet.backend.dto.TaskHeaderDto;
+import com.github.esgoet.backend.dto.TaskPageDto;
+import com.github.esgoet.backend.dto.TaskQueryDto;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.service.BulkTaskService;
+import com.github.esgoet.backend.service.IdempotencyStore;
+import com.github.esgoet.backend.service.ReactiveTaskService;
+import com.github.esgoet.backend.service.TaskService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/tasks")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskController {
+    private final ReactiveTaskService taskService;
+    private final TaskService blockingTaskService;
+    private final BulkTaskService bulkTaskService;
+    private final IdempotencyStore idempotencyStore;
+
+    @GetMapping("/column/{columnId}")
+    public Mono<ResponseEntity<List<Task>>> getTasksByColumnId(@PathVariable String columnId) {
+        return taskService.getTasksByColumnId(columnId).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/column/{columnId}/headers")
+    public Mono<ResponseEntity<List<TaskHeaderDto>>> getTaskHeadersByColumnId(@PathVariable String columnId) {
+        return taskService.getTaskHeadersByColumnId(columnId).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/column/{columnId}/page")
+    public Mono<ResponseEntity<TaskPageDto>> getTaskPage(@PathVariable String columnId,
+                                                         @RequestParam(defaultValue = "ORDER") TaskQueryDto.SortBy sortBy,
+                                                         @RequestParam(required = false) Instant deadlineFrom,
+                                                         @RequestParam(required = false) Instant deadlineTo,
+                                                         @RequestParam(required = false) String titlePrefix,
+                                                         @RequestParam(required = false) String after,
+                                                         @RequestParam(defaultValue = "50") int limit) {
+        TaskQueryDto query = new TaskQueryDto(sortBy, deadlineFrom, deadlineTo, titlePrefix);
+        return Mono.fromCallable(() -> blockingTaskService.getTaskPage(columnId, query, after, limit))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<TaskPageDto>> searchTasks(@RequestParam String q,
+                                                         @RequestParam(required = false) String boardId,
+                                                         @RequestParam(required = false) String after,
+                                                         @RequestParam(defaultValue = "20") int limit) {
+        return Mono.fromCallable(() -> blockingTaskService.searchTasks(q, boardId, after, limit))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/deadlines/overdue", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Task> streamOverdueTasks(@RequestParam(required = false) String boardId) {
+        return taskService.findOverdueTasks(boardId);
+    }
+
+    @GetMapping(value = "/deadlines/upcoming", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Task> streamUpcomingTasks(@RequestParam(required = false) String boardId,
+                                          @RequestParam(defaultValue = "P1D") Duration within) {
+        return taskService.findTasksDueWithin(boardId, within);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Task>> getTaskById(@PathVariable String id,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<Long> cachedVersion = taskService.getCachedVersion(id);
+        if (cachedVersion.isPresent() && ETags.matches(ifNoneMatch, cachedVersion.get())) {
+            return Mono.just(ETags.notModified(cachedVersion.get()));
+        }
+        return taskService.getTaskById(id).map(task -> ETags.ok(task, task.version()));
+    }
+
+    @PostMapping("/column/{columnId}")
+    public Mono<ResponseEntity<Task>> createTask(@PathVariable String columnId, @RequestBody NewTaskDto taskDto,
+                                                 @RequestHeader(value = BoardController.IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        Mono<Task> task = idempotencyKey == null
+                ? taskService.createTask(columnId, taskDto)
+                : idempotencyStore.execute("task", idempotencyKey, List.of(columnId, taskDto), Task.class,
+                Mono.defer(() -> taskService.createTask(columnId, taskDto)));
+        return task.map(createdTask -> ResponseEntity.status(HttpStatus.CREATED).body(createdTask));
+    }
+
+    @PostMapping("/bulk")
+    public Mono<ResponseEntity<List<BulkTaskResultDto>>> executeBulkOperations(@RequestBody List<BulkTaskOperationDto> operations) {
+        return Mono.fromCallable(() -> bulkTaskService.execute(operations))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Task>> updateTask(@PathVariable String id, @RequestBody TaskDto taskDto,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return taskService.updateTask(id, taskDto, ETags.expectedVersion(ifMatch))
+                .map(task -> ETags.ok(task, task.version()));
+    }
+
+    @PutMapping("/{id}/move")
+    public Mono<ResponseEntity<Task>> moveTask(@PathVariable String id, @RequestBody MoveTaskDto moveTaskDto,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return taskService.moveTask(id, moveTaskDto, ETags.expectedVersion(ifMatch))
+                .map(task -> ETags.ok(task, task.version()));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTask(@PathVariable String id,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return taskService.deleteTask(id, ETags.expectedVersion(ifMatch))
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+}
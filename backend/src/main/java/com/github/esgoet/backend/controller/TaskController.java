@@ -1,21 +1,46 @@
 package com.github.esgoet.backend.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.esgoet.backend.dto.BulkTaskOperationDto;
+import com.github.esgoet.backend.dto.BulkTaskResultDto;
+import com.github.esgoet.backend.dto.MoveTaskDto;
 import com.github.esgoet.backend.dto.NewTaskDto;
 import com.github.esgoet.backend.dto.TaskDto;
+import com.github.esgoet.backend.dto.TaskHeaderDto;
+import com.github.esgoet.backend.dto.TaskPageDto;
+import com.github.esgoet.backend.dto.TaskQueryDto;
 import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.service.BulkTaskService;
+import com.github.esgoet.backend.service.IdempotencyStore;
+import com.github.esgoet.backend.service.TaskDeadlineService;
 import com.github.esgoet.backend.service.TaskService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/tasks")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class TaskController {
     private final TaskService taskService;
+    private final BulkTaskService bulkTaskService;
+    private final TaskDeadlineService taskDeadlineService;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/column/{columnId}")
     public ResponseEntity<List<Task>> getTasksByColumnId(@PathVariable String columnId) {
@@ -23,28 +48,108 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/column/{columnId}/headers")
+    public ResponseEntity<List<TaskHeaderDto>> getTaskHeadersByColumnId(@PathVariable String columnId) {
+        List<TaskHeaderDto> headers = taskService.getTaskHeadersByColumnId(columnId);
+        return ResponseEntity.ok(headers);
+    }
+
+    @GetMapping("/column/{columnId}/page")
+    public ResponseEntity<TaskPageDto> getTaskPage(@PathVariable String columnId,
+                                                   @RequestParam(defaultValue = "ORDER") TaskQueryDto.SortBy sortBy,
+                                                   @RequestParam(required = false) Instant deadlineFrom,
+                                                   @RequestParam(required = false) Instant deadlineTo,
+                                                   @RequestParam(required = false) String titlePrefix,
+                                                   @RequestParam(required = false) String after,
+                                                   @RequestParam(defaultValue = "50") int limit) {
+        TaskQueryDto query = new TaskQueryDto(sortBy, deadlineFrom, deadlineTo, titlePrefix);
+        TaskPageDto page = taskService.getTaskPage(columnId, query, after, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<TaskPageDto> searchTasks(@RequestParam String q,
+                                                   @RequestParam(required = false) String boardId,
+                                                   @RequestParam(required = false) String after,
+                                                   @RequestParam(defaultValue = "20") int limit) {
+        TaskPageDto page = taskService.searchTasks(q, boardId, after, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(value = "/deadlines/overdue", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOverdueTasks(@RequestParam(required = false) String boardId) {
+        return ndjson(taskDeadlineService.streamOverdueTasks(boardId));
+    }
+
+    @GetMapping(value = "/deadlines/upcoming", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUpcomingTasks(@RequestParam(required = false) String boardId,
+                                                                     @RequestParam(defaultValue = "P1D") Duration within) {
+        return ndjson(taskDeadlineService.streamTasksDueWithin(boardId, within));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable String id) {
+    public ResponseEntity<Task> getTaskById(@PathVariable String id,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<Long> cachedVersion = taskService.getCachedVersion(id);
+        if (cachedVersion.isPresent() && ETags.matches(ifNoneMatch, cachedVersion.get())) {
+            return ETags.notModified(cachedVersion.get());
+        }
         Task task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+        return ETags.ok(task, task.version());
     }
 
     @PostMapping("/column/{columnId}")
-    public ResponseEntity<Task> createTask(@PathVariable String columnId, @RequestBody NewTaskDto taskDto) {
-        Task task = taskService.createTask(columnId, taskDto);
+    public ResponseEntity<Task> createTask(@PathVariable String columnId, @RequestBody NewTaskDto taskDto,
+                                           @RequestHeader(value = BoardController.IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        Task task = idempotencyKey == null
+                ? taskService.createTask(columnId, taskDto)
+                : idempotencyStore.execute("task", idempotencyKey, List.of(columnId, taskDto), Task.class,
+                () -> taskService.createTask(columnId, taskDto));
         return ResponseEntity.status(HttpStatus.CREATED).body(task);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkTaskResultDto>> executeBulkOperations(@RequestBody List<BulkTaskOperationDto> operations) {
+        List<BulkTaskResultDto> results = bulkTaskService.execute(operations);
+        return ResponseEntity.ok(results);
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<Task> updateTask(@PathVariable String id, @RequestBody TaskDto taskDto) {
-        Task task = taskService.updateTask(id, taskDto);
-        return ResponseEntity.ok(task);
+    public ResponseEntity<Task> updateTask(@PathVariable String id, @RequestBody TaskDto taskDto,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Task task = taskService.updateTask(id, taskDto, ETags.expectedVersion(ifMatch));
+        return ETags.ok(task, task.version());
+    }
+
+    @PutMapping("/{id}/move")
+    public ResponseEntity<Task> moveTask(@PathVariable String id, @RequestBody MoveTaskDto moveTaskDto,
+                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Task task = taskService.moveTask(id, moveTaskDto, ETags.expectedVersion(ifMatch));
+        return ETags.ok(task, task.version());
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTask(@PathVariable String id) {
-        taskService.deleteTask(id);
+    public ResponseEntity<Void> deleteTask(@PathVariable String id,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        taskService.deleteTask(id, ETags.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
+    private ResponseEntity<StreamingResponseBody> ndjson(Stream<Task> tasks) {
+        StreamingResponseBody body = outputStream -> {
+            try (tasks) {
+                tasks.forEach(task -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(task));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 }
@@ -0,0 +1,25 @@
+package com.github.esgoet.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * What a board update changed, sent with {@code BOARD_UPDATED} instead of the whole board. {@code name} is only set
+ * when the board was renamed, and a column's {@code name} only when it is new or renamed. A list is applied by dropping
+ * the removed IDs and the IDs of all placed entries, then inserting the placed entries at their index in the order
+ * given, which is ascending.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record BoardChangesDto(
+        String name,
+        List<String> removedColumnIds,
+        List<PlacementDto> placedColumns,
+        List<ColumnChangesDto> columns
+) {
+    @JsonIgnore
+    public boolean isEmpty() {
+        return name == null && removedColumnIds.isEmpty() && placedColumns.isEmpty() && columns.isEmpty();
+    }
+}
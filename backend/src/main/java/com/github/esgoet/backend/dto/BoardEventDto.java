@@ -0,0 +1,58 @@
+package com.github.esgoet.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Task;
+import lombok.With;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@With
+public record BoardEventDto(
+        Type type,
+        String boardId,
+        String columnId,
+        String previousColumnId,
+        String taskId,
+        Integer position,
+        Task task,
+        Board board,
+        BoardChangesDto changes
+) {
+    public enum Type {
+        TASK_CREATED,
+        TASK_UPDATED,
+        TASK_MOVED,
+        TASK_DELETED,
+        TASK_DEADLINE_REACHED,
+        BOARD_UPDATED,
+        BOARD_DELETED
+    }
+
+    public static BoardEventDto taskCreated(Task task) {
+        return new BoardEventDto(Type.TASK_CREATED, null, task.columnId(), null, task.id(), null, task, null, null);
+    }
+
+    public static BoardEventDto taskUpdated(Task task) {
+        return new BoardEventDto(Type.TASK_UPDATED, null, task.columnId(), null, task.id(), null, task, null, null);
+    }
+
+    public static BoardEventDto taskMoved(Task task, String previousColumnId, Integer position) {
+        return new BoardEventDto(Type.TASK_MOVED, null, task.columnId(), previousColumnId, task.id(), position, task, null, null);
+    }
+
+    public static BoardEventDto taskDeleted(String columnId, String taskId) {
+        return new BoardEventDto(Type.TASK_DELETED, null, columnId, null, taskId, null, null, null, null);
+    }
+
+    public static BoardEventDto deadlineReached(Task task) {
+        return new BoardEventDto(Type.TASK_DEADLINE_REACHED, null, task.columnId(), null, task.id(), null, task, null, null);
+    }
+
+    public static BoardEventDto boardUpdated(Board board) {
+        return new BoardEventDto(Type.BOARD_UPDATED, board.id(), null, null, null, null, null, board, null);
+    }
+
+    public static BoardEventDto boardDeleted(String boardId) {
+        return new BoardEventDto(Type.BOARD_DELETED, boardId, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.esgoet.backend.dto;
+
+import java.util.List;
+
+public record BoardOutlineDto(
+        String id,
+        String name,
+        List<ColumnOutlineDto> columns
+) {
+}
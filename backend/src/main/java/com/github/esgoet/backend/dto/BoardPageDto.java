@@ -0,0 +1,9 @@
+package com.github.esgoet.backend.dto;
+
+import java.util.List;
+
+public record BoardPageDto(
+        List<BoardSummaryDto> boards,
+        String nextCursor
+) {
+}
@@ -0,0 +1,11 @@
+package com.github.esgoet.backend.dto;
+
+import java.util.List;
+
+public record BoardSnapshotDto(
+        String id,
+        String name,
+        List<ColumnSnapshotDto> columns,
+        Long version
+) {
+}
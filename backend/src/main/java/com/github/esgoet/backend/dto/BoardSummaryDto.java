@@ -0,0 +1,8 @@
+package com.github.esgoet.backend.dto;
+
+public record BoardSummaryDto(
+        String id,
+        String name,
+        int columnCount
+) {
+}
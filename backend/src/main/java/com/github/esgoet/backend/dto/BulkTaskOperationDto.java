@@ -0,0 +1,20 @@
+package com.github.esgoet.backend.dto;
+
+import java.time.Instant;
+
+public record BulkTaskOperationDto(
+        Type type,
+        String id,
+        String columnId,
+        String title,
+        String description,
+        Instant deadline,
+        Integer position
+) {
+    public enum Type {
+        CREATE,
+        UPDATE,
+        MOVE,
+        DELETE
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.esgoet.backend.dto;
+
+public record BulkTaskResultDto(
+        int index,
+        String id,
+        int statusCode,
+        String message
+) {
+}
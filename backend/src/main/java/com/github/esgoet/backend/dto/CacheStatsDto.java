@@ -0,0 +1,10 @@
+package com.github.esgoet.backend.dto;
+
+public record CacheStatsDto(
+        long size,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount
+) {
+}
@@ -0,0 +1,14 @@
+package com.github.esgoet.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record ColumnChangesDto(
+        String id,
+        String name,
+        List<String> removedTaskIds,
+        List<PlacementDto> placedTasks
+) {
+}
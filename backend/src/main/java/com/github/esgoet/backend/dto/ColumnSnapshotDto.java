@@ -0,0 +1,12 @@
+package com.github.esgoet.backend.dto;
+
+import com.github.esgoet.backend.model.Task;
+
+import java.util.List;
+
+public record ColumnSnapshotDto(
+        String id,
+        String name,
+        List<Task> tasks
+) {
+}
@@ -0,0 +1,7 @@
+package com.github.esgoet.backend.dto;
+
+public record MoveTaskDto(
+        String columnId,
+        Integer position
+) {
+}
@@ -0,0 +1,11 @@
+package com.github.esgoet.backend.dto;
+
+import java.time.Instant;
+
+public record TaskHeaderDto(
+        String id,
+        String columnId,
+        String title,
+        Instant deadline
+) {
+}
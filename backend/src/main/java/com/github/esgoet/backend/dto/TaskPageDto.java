@@ -0,0 +1,11 @@
+package com.github.esgoet.backend.dto;
+
+import com.github.esgoet.backend.model.Task;
+
+import java.util.List;
+
+public record TaskPageDto(
+        List<Task> tasks,
+        String nextCursor
+) {
+}
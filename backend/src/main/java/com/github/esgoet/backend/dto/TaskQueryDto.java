@@ -0,0 +1,15 @@
+package com.github.esgoet.backend.dto;
+
+import java.time.Instant;
+
+public record TaskQueryDto(
+        SortBy sortBy,
+        Instant deadlineFrom,
+        Instant deadlineTo,
+        String titlePrefix
+) {
+    public enum SortBy {
+        ORDER,
+        DEADLINE
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.esgoet.backend.exception;
+
+public class IdempotencyKeyReuseException extends RuntimeException {
+    public IdempotencyKeyReuseException(String key) {
+        super("Idempotency key " + key + " was already used for a different request");
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.esgoet.backend.exception;
+
+public class IdempotentRequestInProgressException extends RuntimeException {
+    public IdempotentRequestInProgressException(String key) {
+        super("A request with idempotency key " + key + " is still in progress");
+    }
+}
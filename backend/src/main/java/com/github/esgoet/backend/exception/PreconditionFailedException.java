@@ -0,0 +1,7 @@
+package com.github.esgoet.backend.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String element, String id) {
+        super(element + " with ID " + id + " does not match the given If-Match precondition");
+    }
+}
@@ -1,15 +1,22 @@
 package com.github.esgoet.backend.model;
 
 import lombok.With;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.List;
 
 @Document("boards")
+@CompoundIndex(name = "columns_id", def = "{ 'columns.id': 1 }")
 @With
 public record Board(
       String id,
       String name,
-      List<Column> columns
+      List<Column> columns,
+      @Version Long version
 ) {
+    public Board(String id, String name, List<Column> columns) {
+        this(id, name, columns, null);
+    }
 }
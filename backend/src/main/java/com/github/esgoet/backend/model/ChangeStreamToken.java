@@ -0,0 +1,13 @@
+package com.github.esgoet.backend.model;
+
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document("changeStreamTokens")
+public record ChangeStreamToken(
+        String id,
+        String token,
+        Instant updatedAt
+) {
+}
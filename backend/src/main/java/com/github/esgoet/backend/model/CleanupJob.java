@@ -0,0 +1,28 @@
+package com.github.esgoet.backend.model;
+
+import lombok.With;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+@Document("cleanupJobs")
+@CompoundIndex(name = "status_leaseExpiresAt", def = "{ 'status': 1, 'leaseExpiresAt': 1 }")
+@With
+public record CleanupJob(
+        String id,
+        String boardId,
+        List<String> pendingColumnIds,
+        Status status,
+        long deletedTaskCount,
+        Instant createdAt,
+        Instant leaseExpiresAt,
+        Instant completedAt
+) {
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.esgoet.backend.model;
+
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document("migrations")
+public record Migration(
+        String id,
+        Instant completedAt
+) {
+}
@@ -0,0 +1,17 @@
+package com.github.esgoet.backend.model;
+
+import lombok.With;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document("reconcilerLeases")
+@With
+public record ReconcilerLease(
+        String id,
+        String owner,
+        Instant leaseExpiresAt,
+        String boardCursor,
+        String taskCursor
+) {
+}
@@ -1,17 +1,35 @@
 package com.github.esgoet.backend.model;
 
 import lombok.With;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
 
 @Document("tasks")
+@CompoundIndexes({
+        @CompoundIndex(name = "columnId_rank_id", def = "{ 'columnId': 1, 'rank': 1, '_id': 1 }"),
+        @CompoundIndex(name = "columnId_deadline_id", def = "{ 'columnId': 1, 'deadline': 1, '_id': 1 }"),
+        @CompoundIndex(name = "columnId_title", def = "{ 'columnId': 1, 'title': 1 }"),
+        @CompoundIndex(name = "deadline_id", def = "{ 'deadline': 1, '_id': 1 }")
+})
 @With
 public record Task(
         String id,
         String columnId,
         String title,
         String description,
-        Instant deadline
+        Instant deadline,
+        @Version Long version,
+        String rank
 ) {
+    public Task(String id, String columnId, String title, String description, Instant deadline) {
+        this(id, columnId, title, description, deadline, null);
+    }
+
+    public Task(String id, String columnId, String title, String description, Instant deadline, Long version) {
+        this(id, columnId, title, description, deadline, version, null);
+    }
 }
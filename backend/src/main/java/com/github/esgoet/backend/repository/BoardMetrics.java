@@ -0,0 +1,52 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.config.BoardMetricsProperties;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Column;
+import com.mongodb.MongoClientSettings;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Records the size and shape of board documents as they are read from and written to Mongo. Measuring the size
+ * re-encodes the document, so only the sampled fraction set by {@code kanban.metrics.boards.size-sample-rate} is sized.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardMetrics {
+    private static final Codec<Document> DOCUMENT_CODEC = MongoClientSettings.getDefaultCodecRegistry().get(Document.class);
+
+    private final MeterRegistry meterRegistry;
+    private final BoardMetricsProperties properties;
+
+    void record(String operation, Board board, Document document) {
+        if (ThreadLocalRandom.current().nextDouble() < properties.sizeSampleRate()) {
+            summary("kanban.board.document.size", "bytes", operation)
+                    .record(new RawBsonDocument(document, DOCUMENT_CODEC).getByteBuffer().remaining());
+        }
+        if (board.columns() != null) {
+            summary("kanban.board.columns", null, operation).record(board.columns().size());
+            summary("kanban.board.tasks", null, operation).record(board.columns().stream()
+                    .map(Column::tasks)
+                    .filter(Objects::nonNull)
+                    .mapToInt(List::size)
+                    .sum());
+        }
+    }
+
+    private DistributionSummary summary(String name, String baseUnit, String operation) {
+        return DistributionSummary.builder(name)
+                .baseUnit(baseUnit)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
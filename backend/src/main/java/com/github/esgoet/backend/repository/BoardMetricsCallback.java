@@ -0,0 +1,26 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.Board;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertCallback;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BoardMetricsCallback implements AfterConvertCallback<Board>, BeforeSaveCallback<Board> {
+    private final BoardMetrics boardMetrics;
+
+    @Override
+    public Board onAfterConvert(Board board, Document document, String collection) {
+        boardMetrics.record("load", board, document);
+        return board;
+    }
+
+    @Override
+    public Board onBeforeSave(Board board, Document document, String collection) {
+        boardMetrics.record("save", board, document);
+        return board;
+    }
+}
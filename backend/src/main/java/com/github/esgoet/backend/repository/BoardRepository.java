@@ -4,10 +4,18 @@ import com.github.esgoet.backend.model.Board;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface BoardRepository extends MongoRepository<Board, String> {
+public interface BoardRepository extends MongoRepository<Board, String>, BoardRepositoryCustom {
 
     @Query("{ 'columns.id': ?0 }")
     Optional<Board> findByColumnId(String columnId);
+
+    @Query(value = "{ 'columns.id': ?0 }", exists = true)
+    boolean existsByColumnId(String columnId);
+
+    @Query("{ 'columns.id': { $in: ?0 } }")
+    List<Board> findAllByColumnIdIn(Collection<String> columnIds);
 }
@@ -0,0 +1,25 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.Board;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface BoardRepositoryCustom {
+    List<Board> findSummaries(String after, int limit);
+
+    Stream<Board> streamSummaries();
+
+    Optional<Board> findOutline(String id);
+
+    List<Board> findTaskListings(String after, int limit);
+
+    Optional<Board> findAndDelete(String id, Long expectedVersion);
+
+    boolean pushTask(String columnId, String taskId, Integer position);
+
+    boolean pullTask(String columnId, String taskId);
+
+    boolean moveTask(String taskId, String fromColumnId, String toColumnId, Integer position);
+}
@@ -0,0 +1,98 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.Board;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    private static final String ID = "id";
+    private static final String COLUMN_ID = "columns.id";
+
+    @Override
+    public List<Board> findSummaries(String after, int limit) {
+        Query query = after == null
+                ? new Query()
+                : Query.query(Criteria.where(ID).gt(after));
+        return mongoTemplate.find(summaryProjection(query).limit(limit), Board.class);
+    }
+
+    @Override
+    public Stream<Board> streamSummaries() {
+        return mongoTemplate.stream(summaryProjection(new Query()), Board.class);
+    }
+
+    @Override
+    public Optional<Board> findOutline(String id) {
+        return Optional.ofNullable(mongoTemplate.findOne(BoardUpdates.outlineQuery(id), Board.class));
+    }
+
+    @Override
+    public List<Board> findTaskListings(String after, int limit) {
+        Query query = after == null
+                ? new Query()
+                : Query.query(Criteria.where(ID).gt(after));
+        query.fields().include(ID, COLUMN_ID, "columns.tasks");
+        return mongoTemplate.find(query.with(Sort.by(Sort.Direction.ASC, ID)).limit(limit), Board.class);
+    }
+
+    @Override
+    public Optional<Board> findAndDelete(String id, Long expectedVersion) {
+        Query query = Query.query(Criteria.where(ID).is(id));
+        if (expectedVersion != null) {
+            query.addCriteria(Criteria.where("version").is(expectedVersion));
+        }
+        return Optional.ofNullable(mongoTemplate.findAndRemove(query, Board.class));
+    }
+
+    @Override
+    public boolean pushTask(String columnId, String taskId, Integer position) {
+        return updateColumn(columnId, BoardUpdates.pushTask(taskId, position));
+    }
+
+    @Override
+    public boolean pullTask(String columnId, String taskId) {
+        return updateColumn(columnId, BoardUpdates.pullTask(taskId));
+    }
+
+    /**
+     * A move within one board, including within one column, is a single atomic update. A move to a column on another
+     * board needs a second write to the source board. That path is only safe with {@code kanban.transactions.enabled}:
+     * without it, readers can briefly see the task in both columns, and a failure in between leaves it there.
+     */
+    @Override
+    public boolean moveTask(String taskId, String fromColumnId, String toColumnId, Integer position) {
+        if (fromColumnId.equals(toColumnId)) {
+            return updateColumn(toColumnId, BoardUpdates.moveTaskWithinColumn(taskId, toColumnId, position));
+        }
+        if (mongoTemplate.updateFirst(BoardUpdates.columnsQuery(fromColumnId, toColumnId),
+                BoardUpdates.moveTaskBetweenColumns(taskId, fromColumnId, toColumnId, position), Board.class)
+                .getMatchedCount() > 0) {
+            return true;
+        }
+        if (!pushTask(toColumnId, taskId, position)) {
+            return false;
+        }
+        pullTask(fromColumnId, taskId);
+        return true;
+    }
+
+    private static Query summaryProjection(Query query) {
+        query.fields().include(ID, "name", COLUMN_ID);
+        return query.with(Sort.by(Sort.Direction.ASC, ID));
+    }
+
+    private boolean updateColumn(String columnId, UpdateDefinition update) {
+        return mongoTemplate.updateFirst(BoardUpdates.columnQuery(columnId), update, Board.class).getMatchedCount() > 0;
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.esgoet.backend.repository;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+final class BoardUpdates {
+    private static final String COLUMN_ID = "columns.id";
+    private static final String COLUMN_TASKS = "columns.$.tasks";
+    private static final String VERSION = "version";
+
+    private BoardUpdates() {
+    }
+
+    static Query columnQuery(String columnId) {
+        return Query.query(Criteria.where(COLUMN_ID).is(columnId));
+    }
+
+    static Query outlineQuery(String id) {
+        Query query = Query.query(Criteria.where("id").is(id));
+        query.fields().include("name", COLUMN_ID, "columns.name", VERSION);
+        return query;
+    }
+
+    static Update pushTask(String taskId, Integer position) {
+        Update update = position == null
+                ? new Update().push(COLUMN_TASKS, taskId)
+                : new Update().push(COLUMN_TASKS).atPosition(Math.max(position, 0)).value(taskId);
+        return update.inc(VERSION, 1);
+    }
+
+    static Update pullTask(String taskId) {
+        return new Update().pull(COLUMN_TASKS, taskId).inc(VERSION, 1);
+    }
+
+    static Query columnsQuery(String fromColumnId, String toColumnId) {
+        return Query.query(new Criteria().andOperator(
+                Criteria.where(COLUMN_ID).is(fromColumnId), Criteria.where(COLUMN_ID).is(toColumnId)));
+    }
+
+    /**
+     * Moves the task between two columns of the same board. The pull and push target different array elements, so
+     * they can share one update.
+     */
+    static Update moveTaskBetweenColumns(String taskId, String fromColumnId, String toColumnId, Integer position) {
+        Update update = new Update().pull("columns.$[source].tasks", taskId);
+        if (position == null) {
+            update.push("columns.$[target].tasks", taskId);
+        } else {
+            update.push("columns.$[target].tasks").atPosition(Math.max(position, 0)).value(taskId);
+        }
+        return update.filterArray(Criteria.where("source._id").is(fromColumnId))
+                .filterArray(Criteria.where("target._id").is(toColumnId))
+                .inc(VERSION, 1);
+    }
+
+    /**
+     * Moves the task within one column. A pull and a push on the same array cannot share an update, so this rewrites
+     * the column's list in a pipeline update instead. Pipeline stages are not mapped, hence the stored {@code _id}.
+     */
+    static AggregationUpdate moveTaskWithinColumn(String taskId, String columnId, Integer position) {
+        Document tasks = new Document("$ifNull", List.of("$$column.tasks", List.of()));
+        Document withoutTask = new Document("$filter", new Document("input", tasks)
+                .append("cond", new Document("$ne", List.of("$$this", taskId))));
+        Document columnTasks = new Document("$cond", List.of(
+                new Document("$eq", List.of("$$column._id", columnId)),
+                insert(withoutTask, taskId, position),
+                "$$column.tasks"));
+        Document columns = new Document("$map", new Document("input", "$columns")
+                .append("as", "column")
+                .append("in", new Document("$mergeObjects", List.of("$$column", new Document("tasks", columnTasks)))));
+        return AggregationUpdate.from(List.of(context -> new Document("$set", new Document("columns", columns)
+                .append(VERSION, new Document("$add", List.of("$" + VERSION, 1))))));
+    }
+
+    private static Object insert(Document tasks, String taskId, Integer position) {
+        if (position == null) {
+            return new Document("$concatArrays", List.of(tasks, List.of(taskId)));
+        }
+        if (position <= 0) {
+            return new Document("$concatArrays", List.of(List.of(taskId), tasks));
+        }
+        return new Document("$concatArrays", List.of(
+                new Document("$slice", List.of(tasks, position)),
+                List.of(taskId),
+                new Document("$slice", List.of(tasks, position, new Document("$add", List.of(new Document("$size", tasks), 1))))));
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.ChangeStreamToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ChangeStreamTokenRepository extends MongoRepository<ChangeStreamToken, String> {
+}
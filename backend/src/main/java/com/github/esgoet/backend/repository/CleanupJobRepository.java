@@ -0,0 +1,7 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.CleanupJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface CleanupJobRepository extends MongoRepository<CleanupJob, String>, CleanupJobRepositoryCustom {
+}
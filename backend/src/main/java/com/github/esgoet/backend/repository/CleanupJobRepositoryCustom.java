@@ -0,0 +1,11 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.CleanupJob;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+public interface CleanupJobRepositoryCustom {
+    Optional<CleanupJob> claimNext(Instant now, Duration lease);
+}
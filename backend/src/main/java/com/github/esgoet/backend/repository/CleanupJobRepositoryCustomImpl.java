@@ -0,0 +1,37 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.CleanupJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class CleanupJobRepositoryCustomImpl implements CleanupJobRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    private static final String STATUS = "status";
+    private static final String LEASE_EXPIRES_AT = "leaseExpiresAt";
+
+    @Override
+    public Optional<CleanupJob> claimNext(Instant now, Duration lease) {
+        Query query = Query.query(new Criteria().andOperator(
+                        Criteria.where(STATUS).in(CleanupJob.Status.PENDING, CleanupJob.Status.RUNNING),
+                        new Criteria().orOperator(
+                                Criteria.where(LEASE_EXPIRES_AT).is(null),
+                                Criteria.where(LEASE_EXPIRES_AT).lte(now))))
+                .with(Sort.by("createdAt"));
+        Update update = new Update()
+                .set(STATUS, CleanupJob.Status.RUNNING)
+                .set(LEASE_EXPIRES_AT, now.plus(lease));
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), CleanupJob.class));
+    }
+}
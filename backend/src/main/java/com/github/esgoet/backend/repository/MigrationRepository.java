@@ -0,0 +1,7 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.Migration;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface MigrationRepository extends MongoRepository<Migration, String> {
+}
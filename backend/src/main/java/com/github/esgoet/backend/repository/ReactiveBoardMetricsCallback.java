@@ -0,0 +1,28 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.Board;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveAfterConvertCallback;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeSaveCallback;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+public class ReactiveBoardMetricsCallback implements ReactiveAfterConvertCallback<Board>, ReactiveBeforeSaveCallback<Board> {
+    private final BoardMetrics boardMetrics;
+
+    @Override
+    public Publisher<Board> onAfterConvert(Board board, Document document, String collection) {
+        boardMetrics.record("load", board, document);
+        return Mono.just(board);
+    }
+
+    @Override
+    public Publisher<Board> onBeforeSave(Board board, Document document, String collection) {
+        boardMetrics.record("save", board, document);
+        return Mono.just(board);
+    }
+}
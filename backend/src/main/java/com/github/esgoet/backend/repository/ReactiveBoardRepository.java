@@ -0,0 +1,15 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.Board;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBoardRepository extends ReactiveMongoRepository<Board, String>, ReactiveBoardRepositoryCustom {
+
+    @Query("{ 'columns.id': ?0 }")
+    Mono<Board> findByColumnId(String columnId);
+
+    @Query(value = "{ 'columns.id': ?0 }", exists = true)
+    Mono<Boolean> existsByColumnId(String columnId);
+}
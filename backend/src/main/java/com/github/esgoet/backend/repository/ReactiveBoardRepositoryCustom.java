@@ -0,0 +1,19 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.Board;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBoardRepositoryCustom {
+    Flux<Board> streamSummaries();
+
+    Mono<Board> findOutline(String id);
+
+    Mono<Board> findAndDelete(String id, Long expectedVersion);
+
+    Mono<Boolean> pushTask(String columnId, String taskId, Integer position);
+
+    Mono<Boolean> pullTask(String columnId, String taskId);
+
+    Mono<Boolean> moveTask(String taskId, String fromColumnId, String toColumnId, Integer position);
+}
@@ -0,0 +1,70 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.Board;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ReactiveBoardRepositoryCustomImpl implements ReactiveBoardRepositoryCustom {
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    private static final String ID = "id";
+
+    @Override
+    public Flux<Board> streamSummaries() {
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, ID));
+        query.fields().include(ID, "name", "columns.id");
+        return mongoTemplate.find(query, Board.class);
+    }
+
+    @Override
+    public Mono<Board> findOutline(String id) {
+        return mongoTemplate.findOne(BoardUpdates.outlineQuery(id), Board.class);
+    }
+
+    @Override
+    public Mono<Board> findAndDelete(String id, Long expectedVersion) {
+        Query query = Query.query(Criteria.where(ID).is(id));
+        if (expectedVersion != null) {
+            query.addCriteria(Criteria.where("version").is(expectedVersion));
+        }
+        return mongoTemplate.findAndRemove(query, Board.class);
+    }
+
+    @Override
+    public Mono<Boolean> pushTask(String columnId, String taskId, Integer position) {
+        return updateColumn(columnId, BoardUpdates.pushTask(taskId, position));
+    }
+
+    @Override
+    public Mono<Boolean> pullTask(String columnId, String taskId) {
+        return updateColumn(columnId, BoardUpdates.pullTask(taskId));
+    }
+
+    // Same writes as BoardRepositoryCustomImpl.moveTask.
+    @Override
+    public Mono<Boolean> moveTask(String taskId, String fromColumnId, String toColumnId, Integer position) {
+        if (fromColumnId.equals(toColumnId)) {
+            return updateColumn(toColumnId, BoardUpdates.moveTaskWithinColumn(taskId, toColumnId, position));
+        }
+        return mongoTemplate.updateFirst(BoardUpdates.columnsQuery(fromColumnId, toColumnId),
+                        BoardUpdates.moveTaskBetweenColumns(taskId, fromColumnId, toColumnId, position), Board.class)
+                .flatMap(result -> result.getMatchedCount() > 0
+                        ? Mono.just(true)
+                        : pushTask(toColumnId, taskId, position)
+                        .flatMap(pushed -> pushed
+                                ? pullTask(fromColumnId, taskId).thenReturn(true)
+                                : Mono.just(false)));
+    }
+
+    private Mono<Boolean> updateColumn(String columnId, UpdateDefinition update) {
+        return mongoTemplate.updateFirst(BoardUpdates.columnQuery(columnId), update, Board.class)
+                .map(result -> result.getMatchedCount() > 0);
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.dto.TaskHeaderDto;
+import com.github.esgoet.backend.model.Task;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+public interface ReactiveTaskRepository extends ReactiveMongoRepository<Task, String>, ReactiveTaskRepositoryCustom {
+    @Query(fields = TaskSearchTerms.EXCLUDED)
+    Flux<Task> findTasksByColumnId(String columnId);
+
+    @Query(fields = TaskSearchTerms.EXCLUDED)
+    Flux<Task> findTasksByColumnIdIn(Collection<String> columnIds);
+
+    @Query(fields = TaskSearchTerms.EXCLUDED)
+    Flux<Task> findTasksByColumnIdOrderByRankAscIdAsc(String columnId);
+
+    @Query(fields = TaskSearchTerms.EXCLUDED)
+    Flux<Task> findTasksByColumnIdInOrderByRankAscIdAsc(Collection<String> columnIds);
+
+    Flux<TaskHeaderDto> findTaskHeadersByColumnId(String columnId);
+
+    Flux<TaskHeaderDto> findTaskHeadersByColumnIdOrderByRankAscIdAsc(String columnId);
+}
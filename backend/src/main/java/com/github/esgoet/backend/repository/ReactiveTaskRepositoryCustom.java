@@ -0,0 +1,31 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.Task;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+
+public interface ReactiveTaskRepositoryCustom {
+    Mono<Task> findAndUpdate(Task task, Long expectedVersion);
+
+    Mono<Task> findAndUpdateColumnId(String id, String columnId, Long expectedVersion);
+
+    Mono<Task> findAndUpdatePosition(String id, String columnId, String rank, Long expectedVersion);
+
+    Mono<Task> findPlacement(String id);
+
+    Mono<Task> findAndDelete(String id, Long expectedVersion);
+
+    Flux<Task> findByDeadline(Collection<String> columnIds, Instant from, Instant to);
+
+    Flux<String> findRanks(String columnId, String excludedTaskId, int skip, int limit);
+
+    Mono<String> findLastRank(String columnId, String excludedTaskId);
+
+    Flux<String> findRankedIds(String columnId);
+
+    Mono<Void> updateRanks(String columnId, Map<String, String> ranksByTaskId);
+}
@@ -0,0 +1,86 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.Task;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class ReactiveTaskRepositoryCustomImpl implements ReactiveTaskRepositoryCustom {
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    private static final String ID = "id";
+    private static final String RANK = "rank";
+
+    @Override
+    public Mono<Task> findAndUpdate(Task task, Long expectedVersion) {
+        return mongoTemplate.findAndModify(TaskUpdates.withoutSearchTerms(TaskUpdates.idQuery(task.id(), expectedVersion)), TaskUpdates.fields(task), Task.class);
+    }
+
+    @Override
+    public Mono<Task> findAndUpdateColumnId(String id, String columnId, Long expectedVersion) {
+        return mongoTemplate.findAndModify(TaskUpdates.withoutSearchTerms(TaskUpdates.idQuery(id, expectedVersion)), TaskUpdates.columnId(columnId), Task.class);
+    }
+
+    @Override
+    public Mono<Task> findAndUpdatePosition(String id, String columnId, String rank, Long expectedVersion) {
+        return mongoTemplate.findAndModify(TaskUpdates.withoutSearchTerms(TaskUpdates.idQuery(id, expectedVersion)), TaskUpdates.position(columnId, rank), Task.class);
+    }
+
+    @Override
+    public Mono<Task> findPlacement(String id) {
+        return mongoTemplate.findOne(TaskUpdates.placementQuery(id), Task.class);
+    }
+
+    @Override
+    public Mono<Task> findAndDelete(String id, Long expectedVersion) {
+        return mongoTemplate.findAndRemove(TaskUpdates.placement(TaskUpdates.idQuery(id, expectedVersion)), Task.class);
+    }
+
+    @Override
+    public Flux<Task> findByDeadline(Collection<String> columnIds, Instant from, Instant to) {
+        return mongoTemplate.find(TaskUpdates.dueBetween(columnIds, from, to), Task.class);
+    }
+
+    @Override
+    public Flux<String> findRanks(String columnId, String excludedTaskId, int skip, int limit) {
+        Query query = TaskUpdates.rankedInColumn(columnId, excludedTaskId)
+                .with(Sort.by(Sort.Direction.ASC, RANK, ID))
+                .skip(skip)
+                .limit(limit);
+        return mongoTemplate.find(query, Task.class).map(Task::rank);
+    }
+
+    @Override
+    public Mono<String> findLastRank(String columnId, String excludedTaskId) {
+        Query query = TaskUpdates.rankedInColumn(columnId, excludedTaskId)
+                .with(Sort.by(Sort.Direction.DESC, RANK, ID));
+        return mongoTemplate.findOne(query, Task.class).map(Task::rank);
+    }
+
+    @Override
+    public Flux<String> findRankedIds(String columnId) {
+        Query query = TaskUpdates.rankedInColumn(columnId, null)
+                .with(Sort.by(Sort.Direction.ASC, RANK, ID));
+        return mongoTemplate.find(query, Task.class).map(Task::id);
+    }
+
+    @Override
+    public Mono<Void> updateRanks(String columnId, Map<String, String> ranksByTaskId) {
+        if (ranksByTaskId.isEmpty()) {
+            return Mono.empty();
+        }
+        ReactiveBulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        ranksByTaskId.forEach((taskId, rank) -> bulkOperations.updateOne(TaskUpdates.idInColumn(taskId, columnId), TaskUpdates.rank(rank)));
+        return bulkOperations.execute().then();
+    }
+}
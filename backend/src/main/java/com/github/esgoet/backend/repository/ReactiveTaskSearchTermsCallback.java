@@ -0,0 +1,18 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.Task;
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeSaveCallback;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+public class ReactiveTaskSearchTermsCallback implements ReactiveBeforeSaveCallback<Task> {
+
+    @Override
+    public Publisher<Task> onBeforeSave(Task task, Document document, String collection) {
+        TaskSearchTerms.write(task, document);
+        return Mono.just(task);
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.ReconcilerLease;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ReconcilerLeaseRepository extends MongoRepository<ReconcilerLease, String>, ReconcilerLeaseRepositoryCustom {
+}
@@ -0,0 +1,13 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.ReconcilerLease;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+public interface ReconcilerLeaseRepositoryCustom {
+    Optional<ReconcilerLease> claim(String id, String owner, Instant now, Duration lease);
+
+    boolean release(String id, String owner, Instant now, String boardCursor, String taskCursor);
+}
@@ -0,0 +1,51 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.ReconcilerLease;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class ReconcilerLeaseRepositoryCustomImpl implements ReconcilerLeaseRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    private static final String ID = "_id";
+    private static final String OWNER = "owner";
+    private static final String LEASE_EXPIRES_AT = "leaseExpiresAt";
+
+    @Override
+    public Optional<ReconcilerLease> claim(String id, String owner, Instant now, Duration lease) {
+        Query query = Query.query(Criteria.where(ID).is(id).orOperator(
+                Criteria.where(LEASE_EXPIRES_AT).is(null),
+                Criteria.where(LEASE_EXPIRES_AT).lte(now),
+                Criteria.where(OWNER).is(owner)));
+        Update update = new Update()
+                .set(OWNER, owner)
+                .set(LEASE_EXPIRES_AT, now.plus(lease));
+        try {
+            return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().returnNew(true).upsert(true), ReconcilerLease.class));
+        } catch (DuplicateKeyException e) {
+            // the lease document exists and another owner holds an unexpired lease, so the upsert tried to insert
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean release(String id, String owner, Instant now, String boardCursor, String taskCursor) {
+        Query query = Query.query(Criteria.where(ID).is(id).and(OWNER).is(owner));
+        Update update = new Update()
+                .set(LEASE_EXPIRES_AT, now)
+                .set("boardCursor", boardCursor)
+                .set("taskCursor", taskCursor);
+        return mongoTemplate.updateFirst(query, update, ReconcilerLease.class).getModifiedCount() > 0;
+    }
+}
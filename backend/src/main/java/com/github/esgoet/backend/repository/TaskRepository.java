@@ -1,13 +1,30 @@
 package com.github.esgoet.backend.repository;
 
+import com.github.esgoet.backend.dto.TaskHeaderDto;
 import com.github.esgoet.backend.model.Task;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface TaskRepository extends MongoRepository<Task, String> {
+public interface TaskRepository extends MongoRepository<Task, String>, TaskRepositoryCustom {
+    @Query(fields = TaskSearchTerms.EXCLUDED)
     Optional<List<Task>> findTasksByColumnId(String columnId);
 
+    @Query(fields = TaskSearchTerms.EXCLUDED)
+    List<Task> findTasksByColumnIdIn(Collection<String> columnIds);
+
+    @Query(fields = TaskSearchTerms.EXCLUDED)
+    List<Task> findTasksByColumnIdOrderByRankAscIdAsc(String columnId);
+
+    @Query(fields = TaskSearchTerms.EXCLUDED)
+    List<Task> findTasksByColumnIdInOrderByRankAscIdAsc(Collection<String> columnIds);
+
+    List<TaskHeaderDto> findTaskHeadersByColumnId(String columnId);
+
+    List<TaskHeaderDto> findTaskHeadersByColumnIdOrderByRankAscIdAsc(String columnId);
+
     void deleteTasksByColumnId(String columnId);
 }
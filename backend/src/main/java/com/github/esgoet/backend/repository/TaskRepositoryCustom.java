@@ -0,0 +1,49 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.dto.TaskQueryDto;
+import com.github.esgoet.backend.model.Task;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+    Optional<Task> findAndUpdate(Task task, Long expectedVersion);
+
+    Optional<Task> findAndUpdateColumnId(String id, String columnId, Long expectedVersion);
+
+    Optional<Task> findAndUpdatePosition(String id, String columnId, String rank, Long expectedVersion);
+
+    Optional<Task> findPlacement(String id);
+
+    List<Task> findPlacements(String after, int limit);
+
+    List<String> findExistingIds(Collection<String> ids);
+
+    Optional<Task> findAndDelete(String id, Long expectedVersion);
+
+    List<Task> findPage(String columnId, TaskQueryDto query, Object afterValue, String afterId, int limit);
+
+    List<Task> findAllMatching(Collection<String> ids, TaskQueryDto query);
+
+    Stream<Task> streamByDeadline(Collection<String> columnIds, Instant from, Instant to);
+
+    List<Task> search(String query, Collection<String> columnIds, int skip, int limit);
+
+    long indexSearchTerms(int batchSize);
+
+    List<String> findRanks(String columnId, String excludedTaskId, int skip, int limit);
+
+    Optional<String> findLastRank(String columnId, String excludedTaskId);
+
+    List<String> findRankedIds(String columnId);
+
+    void updateRanks(String columnId, Map<String, String> ranksByTaskId);
+
+    long deleteBatchByColumnId(String columnId, int batchSize);
+
+    void bulkWrite(Collection<Task> insertedTasks, Collection<Task> updatedTasks, Collection<String> deletedTaskIds);
+}
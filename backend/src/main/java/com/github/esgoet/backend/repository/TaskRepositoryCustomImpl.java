@@ -0,0 +1,195 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.dto.TaskQueryDto;
+import com.github.esgoet.backend.model.Task;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    private static final String ID = "id";
+    private static final String RANK = "rank";
+    private static final String SEARCH_LANGUAGE = "none";
+
+    @Override
+    public Optional<Task> findAndUpdate(Task task, Long expectedVersion) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(TaskUpdates.withoutSearchTerms(TaskUpdates.idQuery(task.id(), expectedVersion)), TaskUpdates.fields(task), Task.class));
+    }
+
+    @Override
+    public Optional<Task> findAndUpdateColumnId(String id, String columnId, Long expectedVersion) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(TaskUpdates.withoutSearchTerms(TaskUpdates.idQuery(id, expectedVersion)), TaskUpdates.columnId(columnId), Task.class));
+    }
+
+    @Override
+    public Optional<Task> findAndUpdatePosition(String id, String columnId, String rank, Long expectedVersion) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(TaskUpdates.withoutSearchTerms(TaskUpdates.idQuery(id, expectedVersion)), TaskUpdates.position(columnId, rank), Task.class));
+    }
+
+    @Override
+    public Optional<Task> findPlacement(String id) {
+        return Optional.ofNullable(mongoTemplate.findOne(TaskUpdates.placementQuery(id), Task.class));
+    }
+
+    @Override
+    public List<Task> findPlacements(String after, int limit) {
+        Query query = after == null
+                ? new Query()
+                : Query.query(Criteria.where(ID).gt(after));
+        return mongoTemplate.find(TaskUpdates.placement(query).with(Sort.by(Sort.Direction.ASC, ID)).limit(limit), Task.class);
+    }
+
+    @Override
+    public List<String> findExistingIds(Collection<String> ids) {
+        Query query = Query.query(Criteria.where(ID).in(ids));
+        query.fields().include(ID);
+        return mongoTemplate.find(query, Task.class).stream()
+                .map(Task::id)
+                .toList();
+    }
+
+    @Override
+    public Optional<Task> findAndDelete(String id, Long expectedVersion) {
+        return Optional.ofNullable(mongoTemplate.findAndRemove(TaskUpdates.placement(TaskUpdates.idQuery(id, expectedVersion)), Task.class));
+    }
+
+    @Override
+    public List<Task> findPage(String columnId, TaskQueryDto query, Object afterValue, String afterId, int limit) {
+        String sortField = TaskUpdates.sortField(query.sortBy());
+        List<Criteria> criteria = TaskUpdates.filters(query);
+        criteria.add(Criteria.where("columnId").is(columnId));
+        if (afterId != null) {
+            criteria.add(after(sortField, afterValue, afterId));
+        }
+        Query page = TaskUpdates.withoutSearchTerms(Query.query(new Criteria().andOperator(criteria)))
+                .with(Sort.by(Sort.Direction.ASC, sortField, ID))
+                .limit(limit);
+        return mongoTemplate.find(page, Task.class);
+    }
+
+    @Override
+    public List<Task> findAllMatching(Collection<String> ids, TaskQueryDto query) {
+        List<Criteria> criteria = TaskUpdates.filters(query);
+        criteria.add(Criteria.where(ID).in(ids));
+        return mongoTemplate.find(TaskUpdates.withoutSearchTerms(Query.query(new Criteria().andOperator(criteria))), Task.class);
+    }
+
+    @Override
+    public Stream<Task> streamByDeadline(Collection<String> columnIds, Instant from, Instant to) {
+        return mongoTemplate.stream(TaskUpdates.dueBetween(columnIds, from, to), Task.class);
+    }
+
+    @Override
+    public List<Task> search(String query, Collection<String> columnIds, int skip, int limit) {
+        TextCriteria criteria = TextCriteria.forLanguage(SEARCH_LANGUAGE)
+                .matchingAny(TaskSearchTerms.queryTerms(query).toArray(String[]::new));
+        Query search = TaskUpdates.withoutSearchTerms(TextQuery.queryText(criteria).sortByScore());
+        if (columnIds != null) {
+            search.addCriteria(Criteria.where("columnId").in(columnIds));
+        }
+        return mongoTemplate.find(search.skip(skip).limit(limit), Task.class);
+    }
+
+    @Override
+    public long indexSearchTerms(int batchSize) {
+        Query query = Query.query(Criteria.where(TaskSearchTerms.TITLE_TERMS).exists(false)).limit(batchSize);
+        query.fields().include("title", "description");
+        List<Task> tasks = mongoTemplate.find(query, Task.class);
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        tasks.forEach(task -> bulkOperations.updateOne(TaskUpdates.idQuery(task.id()), TaskUpdates.searchTerms(task)));
+        return bulkOperations.execute().getModifiedCount();
+    }
+
+    @Override
+    public List<String> findRanks(String columnId, String excludedTaskId, int skip, int limit) {
+        Query query = TaskUpdates.rankedInColumn(columnId, excludedTaskId)
+                .with(Sort.by(Sort.Direction.ASC, RANK, ID))
+                .skip(skip)
+                .limit(limit);
+        return mongoTemplate.find(query, Task.class).stream()
+                .map(Task::rank)
+                .toList();
+    }
+
+    @Override
+    public Optional<String> findLastRank(String columnId, String excludedTaskId) {
+        Query query = TaskUpdates.rankedInColumn(columnId, excludedTaskId)
+                .with(Sort.by(Sort.Direction.DESC, RANK, ID));
+        return Optional.ofNullable(mongoTemplate.findOne(query, Task.class)).map(Task::rank);
+    }
+
+    @Override
+    public List<String> findRankedIds(String columnId) {
+        Query query = TaskUpdates.rankedInColumn(columnId, null)
+                .with(Sort.by(Sort.Direction.ASC, RANK, ID));
+        return mongoTemplate.find(query, Task.class).stream()
+                .map(Task::id)
+                .toList();
+    }
+
+    @Override
+    public void updateRanks(String columnId, Map<String, String> ranksByTaskId) {
+        if (ranksByTaskId.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        ranksByTaskId.forEach((taskId, rank) -> bulkOperations.updateOne(TaskUpdates.idInColumn(taskId, columnId), TaskUpdates.rank(rank)));
+        bulkOperations.execute();
+    }
+
+    @Override
+    public long deleteBatchByColumnId(String columnId, int batchSize) {
+        Query query = Query.query(Criteria.where("columnId").is(columnId)).limit(batchSize);
+        query.fields().include(ID);
+        List<String> taskIds = mongoTemplate.find(query, Task.class).stream()
+                .map(Task::id)
+                .toList();
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.remove(Query.query(Criteria.where(ID).in(taskIds)), Task.class).getDeletedCount();
+    }
+
+    @Override
+    public void bulkWrite(Collection<Task> insertedTasks, Collection<Task> updatedTasks, Collection<String> deletedTaskIds) {
+        if (insertedTasks.isEmpty() && updatedTasks.isEmpty() && deletedTaskIds.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        insertedTasks.forEach(bulkOperations::insert);
+        updatedTasks.forEach(task -> bulkOperations.updateOne(TaskUpdates.idQuery(task.id()), TaskUpdates.fields(task)));
+        if (!deletedTaskIds.isEmpty()) {
+            bulkOperations.remove(Query.query(Criteria.where(ID).in(deletedTaskIds)));
+        }
+        bulkOperations.execute();
+    }
+
+    private static Criteria after(String sortField, Object afterValue, String afterId) {
+        if (afterValue == null) {
+            return new Criteria().orOperator(
+                    Criteria.where(sortField).is(null).and(ID).gt(afterId),
+                    Criteria.where(sortField).ne(null));
+        }
+        return new Criteria().orOperator(
+                Criteria.where(sortField).gt(afterValue),
+                Criteria.where(sortField).is(afterValue).and(ID).gt(afterId));
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.Task;
+import org.bson.Document;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Edge n-grams of the words in a task's title and description. They are stored next to the task and covered by a
+ * text index, so a query term matches every word it is a prefix of while keeping text-score relevance.
+ */
+public final class TaskSearchTerms {
+    public static final String TITLE_TERMS = "titleTerms";
+    public static final String DESCRIPTION_TERMS = "descriptionTerms";
+    public static final String EXCLUDED = "{ '" + TITLE_TERMS + "': 0, '" + DESCRIPTION_TERMS + "': 0 }";
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_PREFIX_LENGTH = 15;
+    private static final int MAX_TERMS = 1000;
+
+    private TaskSearchTerms() {
+    }
+
+    public static void write(Task task, Document document) {
+        document.put(TITLE_TERMS, of(task.title()));
+        document.put(DESCRIPTION_TERMS, of(task.description()));
+    }
+
+    public static List<String> of(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            int maxLength = Math.min(word.length(), MAX_PREFIX_LENGTH);
+            for (int length = Math.min(MIN_PREFIX_LENGTH, maxLength); length <= maxLength; length++) {
+                terms.add(word.substring(0, length));
+                if (terms.size() >= MAX_TERMS) {
+                    return List.copyOf(terms);
+                }
+            }
+        }
+        return List.copyOf(terms);
+    }
+
+    public static List<String> queryTerms(String query) {
+        return words(query).stream()
+                .map(word -> word.length() > MAX_PREFIX_LENGTH ? word.substring(0, MAX_PREFIX_LENGTH) : word)
+                .distinct()
+                .toList();
+    }
+
+    private static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.model.Task;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TaskSearchTermsCallback implements BeforeSaveCallback<Task> {
+
+    @Override
+    public Task onBeforeSave(Task task, Document document, String collection) {
+        TaskSearchTerms.write(task, document);
+        return task;
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.esgoet.backend.repository;
+
+import com.github.esgoet.backend.dto.TaskQueryDto;
+import com.github.esgoet.backend.model.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+final class TaskUpdates {
+    private static final String COLUMN_ID = "columnId";
+    private static final String RANK = "rank";
+    private static final String TITLE = "title";
+    private static final String DEADLINE = "deadline";
+    private static final Pattern REGEX_META_CHARACTERS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+    private static final String VERSION = "version";
+
+    private TaskUpdates() {
+    }
+
+    static Query idQuery(String id) {
+        return Query.query(Criteria.where("id").is(id));
+    }
+
+    static Query idQuery(String id, Long expectedVersion) {
+        Query query = idQuery(id);
+        if (expectedVersion != null) {
+            query.addCriteria(Criteria.where(VERSION).is(expectedVersion));
+        }
+        return query;
+    }
+
+    static Query withoutSearchTerms(Query query) {
+        query.fields().exclude(TaskSearchTerms.TITLE_TERMS, TaskSearchTerms.DESCRIPTION_TERMS);
+        return query;
+    }
+
+    static Query placementQuery(String id) {
+        return placement(idQuery(id));
+    }
+
+    static Query placement(Query query) {
+        query.fields().include(COLUMN_ID, RANK, VERSION);
+        return query;
+    }
+
+    static Query rankedInColumn(String columnId, String excludedTaskId) {
+        Criteria criteria = Criteria.where(COLUMN_ID).is(columnId).and(RANK).ne(null);
+        if (excludedTaskId != null) {
+            criteria = criteria.and("id").ne(excludedTaskId);
+        }
+        Query query = Query.query(criteria);
+        query.fields().include(RANK);
+        return query;
+    }
+
+    static List<Criteria> filters(TaskQueryDto query) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (query.deadlineFrom() != null) {
+            criteria.add(Criteria.where(DEADLINE).gte(query.deadlineFrom()));
+        }
+        if (query.deadlineTo() != null) {
+            criteria.add(Criteria.where(DEADLINE).lt(query.deadlineTo()));
+        }
+        if (query.titlePrefix() != null && !query.titlePrefix().isEmpty()) {
+            criteria.add(Criteria.where(TITLE).regex("^" + REGEX_META_CHARACTERS.matcher(query.titlePrefix()).replaceAll("\\\\$0")));
+        }
+        return criteria;
+    }
+
+    static Query dueBetween(Collection<String> columnIds, Instant from, Instant to) {
+        Criteria criteria = Criteria.where(DEADLINE).lt(to);
+        if (from != null) {
+            criteria = criteria.gte(from);
+        }
+        if (columnIds != null) {
+            criteria = criteria.and(COLUMN_ID).in(columnIds);
+        }
+        return withoutSearchTerms(Query.query(criteria).with(Sort.by(Sort.Direction.ASC, DEADLINE, "id")));
+    }
+
+    static String sortField(TaskQueryDto.SortBy sortBy) {
+        return switch (sortBy) {
+            case ORDER -> RANK;
+            case DEADLINE -> DEADLINE;
+        };
+    }
+
+    static Update fields(Task task) {
+        Update update = new Update()
+                .set(COLUMN_ID, task.columnId())
+                .set(TITLE, task.title())
+                .set("description", task.description())
+                .set(DEADLINE, task.deadline())
+                .set(TaskSearchTerms.TITLE_TERMS, TaskSearchTerms.of(task.title()))
+                .set(TaskSearchTerms.DESCRIPTION_TERMS, TaskSearchTerms.of(task.description()))
+                .inc(VERSION, 1);
+        if (task.rank() != null) {
+            update.set(RANK, task.rank());
+        }
+        return update;
+    }
+
+    static Update searchTerms(Task task) {
+        return new Update()
+                .set(TaskSearchTerms.TITLE_TERMS, TaskSearchTerms.of(task.title()))
+                .set(TaskSearchTerms.DESCRIPTION_TERMS, TaskSearchTerms.of(task.description()));
+    }
+
+    static Update columnId(String columnId) {
+        return new Update()
+                .set(COLUMN_ID, columnId)
+                .inc(VERSION, 1);
+    }
+
+    static Query idInColumn(String id, String columnId) {
+        return idQuery(id).addCriteria(Criteria.where(COLUMN_ID).is(columnId));
+    }
+
+    static Update rank(String rank) {
+        return new Update().set(RANK, rank);
+    }
+
+    static Update position(String columnId, String rank) {
+        return columnId(columnId).set(RANK, rank);
+    }
+}
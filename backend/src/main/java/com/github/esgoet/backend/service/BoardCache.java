@@ -0,0 +1,202 @@
+package com.github.esgoet.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.esgoet.backend.config.BoardCacheProperties;
+import com.github.esgoet.backend.config.ChangeStreamProperties;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.dto.CacheStatsDto;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Column;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+@Component
+public class BoardCache implements MeterBinder {
+    private final Cache<String, Board> boards;
+    private final Map<String, String> boardIdsByColumnId = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final boolean enabled;
+    private final boolean singleNode;
+    private volatile boolean suspended;
+
+    private static final String CACHE_NAME = "boards";
+
+    /**
+     * Boards written by another instance only reach this cache through the change-stream relay, so the cache
+     * stays disabled unless the relay is on or the deployment declares itself single-node.
+     */
+    public BoardCache(BoardCacheProperties properties, ChangeStreamProperties changeStreamProperties) {
+        this.enabled = changeStreamProperties.enabled() || properties.singleNode();
+        this.singleNode = properties.singleNode();
+        this.boards = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .evictionListener((String id, Board board, RemovalCause cause) -> unindex(board))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Evicting a board waits for its load, but an eviction by an unindexed column id or a suspension cannot name the
+     * board. The loaded board is therefore only cached if no invalidation happened while it was in flight.
+     */
+    public Optional<Board> get(String id, Function<String, Optional<Board>> loader) {
+        if (!active()) {
+            return loader.apply(id);
+        }
+        long generation = invalidations.get();
+        AtomicReference<Board> loadedBoard = new AtomicReference<>();
+        Board cachedBoard = boards.get(id, key -> loader.apply(key)
+                .map(board -> {
+                    loadedBoard.set(board);
+                    return invalidations.get() == generation ? index(board) : null;
+                })
+                .orElse(null));
+        return Optional.ofNullable(cachedBoard != null ? cachedBoard : loadedBoard.get());
+    }
+
+    public Optional<Board> getIfPresent(String id) {
+        if (!active()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(boards.getIfPresent(id));
+    }
+
+    /**
+     * Known columns load through {@link Cache#get} under their board id, so a concurrent eviction waits for the
+     * load instead of being overwritten by it. A column the index has not seen yet has to be loaded first to learn
+     * its board id; that result is only cached if no invalidation happened while it was in flight.
+     */
+    public Optional<Board> getByColumnId(String columnId, Function<String, Optional<Board>> loader) {
+        if (!active()) {
+            return loader.apply(columnId);
+        }
+        String boardId = boardIdsByColumnId.get(columnId);
+        if (boardId != null) {
+            Optional<Board> board = get(boardId, id -> loader.apply(columnId).filter(loaded -> loaded.id().equals(id)));
+            if (board.isPresent() && containsColumn(board.get(), columnId)) {
+                return board;
+            }
+        }
+        long generation = invalidations.get();
+        Optional<Board> loadedBoard = loader.apply(columnId);
+        loadedBoard.ifPresent(board -> boards.asMap().compute(board.id(), (id, cachedBoard) -> {
+            unindex(cachedBoard);
+            return invalidations.get() == generation ? index(board) : null;
+        }));
+        return loadedBoard;
+    }
+
+    public void put(Board board) {
+        if (!active()) {
+            return;
+        }
+        boards.asMap().compute(board.id(), (id, previousBoard) -> {
+            unindex(previousBoard);
+            return index(board);
+        });
+    }
+
+    public void evict(String id) {
+        invalidations.incrementAndGet();
+        boards.asMap().computeIfPresent(id, (key, board) -> {
+            unindex(board);
+            return null;
+        });
+    }
+
+    public void evictByColumnId(String columnId) {
+        String boardId = boardIdsByColumnId.get(columnId);
+        if (boardId != null) {
+            evict(boardId);
+        } else {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    public void remove(String id) {
+        evict(id);
+    }
+
+    /**
+     * While the relay is interrupted, writes on other instances go unnoticed, so the cache is emptied and bypassed
+     * until it is back. It is emptied again then, since it may have missed events in between.
+     */
+    @EventListener
+    public void onChangeStreamStatus(ChangeStreamStatusEvent status) {
+        if (singleNode) {
+            return;
+        }
+        suspended = !status.live();
+        invalidations.incrementAndGet();
+        boards.invalidateAll();
+        boardIdsByColumnId.clear();
+    }
+
+    @EventListener
+    public void onChangeStreamEvent(ChangeStreamEvent changeStreamEvent) {
+        BoardEventDto event = changeStreamEvent.event();
+        if (event.boardId() == null) {
+            return;
+        }
+        switch (event.type()) {
+            case BOARD_UPDATED -> evict(event.boardId());
+            case BOARD_DELETED -> remove(event.boardId());
+            default -> {
+                // tasks are not cached; their membership changes arrive as board updates
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, boards, CACHE_NAME);
+    }
+
+    public CacheStatsDto stats() {
+        CacheStats stats = boards.stats();
+        return new CacheStatsDto(
+                boards.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount());
+    }
+
+    private boolean active() {
+        return enabled && !suspended;
+    }
+
+    private static boolean containsColumn(Board board, String columnId) {
+        return board.columns() != null && board.columns().stream().anyMatch(column -> column.id().equals(columnId));
+    }
+
+    private Board index(Board board) {
+        if (board.columns() != null) {
+            board.columns().forEach(column -> boardIdsByColumnId.put(column.id(), board.id()));
+        }
+        return board;
+    }
+
+    private void unindex(Board board) {
+        if (board == null || board.columns() == null) {
+            return;
+        }
+        board.columns().stream()
+                .map(Column::id)
+                .forEach(columnId -> boardIdsByColumnId.remove(columnId, board.id()));
+    }
+}
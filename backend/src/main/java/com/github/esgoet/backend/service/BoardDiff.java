@@ -0,0 +1,45 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.model.Column;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record BoardDiff(
+        OrderedDiff columns,
+        Map<String, OrderedDiff> tasksByColumnId
+) {
+    public static BoardDiff between(List<Column> before, List<Column> after) {
+        Map<String, Column> beforeColumns = indexById(before);
+        Map<String, OrderedDiff> tasksByColumnId = new LinkedHashMap<>();
+        for (Column column : after) {
+            Column beforeColumn = beforeColumns.get(column.id());
+            OrderedDiff tasks = OrderedDiff.between(
+                    beforeColumn == null ? List.of() : tasksOf(beforeColumn),
+                    tasksOf(column));
+            if (!tasks.isEmpty()) {
+                tasksByColumnId.put(column.id(), tasks);
+            }
+        }
+        OrderedDiff columns = OrderedDiff.between(
+                before.stream().map(Column::id).toList(),
+                after.stream().map(Column::id).toList());
+        return new BoardDiff(columns, tasksByColumnId);
+    }
+
+    public boolean isEmpty() {
+        return columns.isEmpty() && tasksByColumnId.isEmpty();
+    }
+
+    static Map<String, Column> indexById(List<Column> columns) {
+        Map<String, Column> columnsById = HashMap.newHashMap(columns.size());
+        columns.forEach(column -> columnsById.putIfAbsent(column.id(), column));
+        return columnsById;
+    }
+
+    static List<String> tasksOf(Column column) {
+        return column.tasks() == null ? List.of() : column.tasks();
+    }
+}
@@ -0,0 +1,269 @@
+package com.github.esgoet.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.esgoet.backend.config.BoardEventProperties;
+import com.github.esgoet.backend.config.ChangeStreamProperties;
+import com.github.esgoet.backend.dto.BoardChangesDto;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.model.Board;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardEventBroker {
+    private final ObjectMapper objectMapper;
+    private final BoardEventProperties properties;
+    private final ChangeStreamProperties changeStreamProperties;
+
+    private final Map<String, Topic> topicsByBoardId = new ConcurrentHashMap<>();
+    private final Map<String, String> boardIdsByColumnId = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SseEmitter subscribe(Board board) {
+        return subscribe(board, new SseEmitter(properties.timeout().toMillis()));
+    }
+
+    SseEmitter subscribe(Board board, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(board.id(), emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(subscriber));
+        topicsByBoardId.compute(board.id(), (id, existingTopic) -> {
+            Topic topic = existingTopic == null ? new Topic() : existingTopic;
+            topic.subscribers.add(subscriber);
+            if (isNewer(board, topic.board)) {
+                index(topic, board);
+            }
+            return topic;
+        });
+        return emitter;
+    }
+
+    public int subscriberCount(String boardId) {
+        Topic topic = topicsByBoardId.get(boardId);
+        return topic == null ? 0 : topic.subscribers.size();
+    }
+
+    @EventListener
+    public void onBoardEvent(BoardEventDto event) {
+        if (!changeStreamProperties.enabled()) {
+            dispatch(event);
+        }
+    }
+
+    @EventListener
+    public void onChangeStreamEvent(ChangeStreamEvent changeStreamEvent) {
+        dispatch(changeStreamEvent.event());
+    }
+
+    @EventListener
+    public void onDeadlineReached(DeadlineReachedEvent deadlineReachedEvent) {
+        dispatch(BoardEventDto.deadlineReached(deadlineReachedEvent.task()));
+    }
+
+    private void dispatch(BoardEventDto event) {
+        if (topicsByBoardId.isEmpty()) {
+            return;
+        }
+        if (event.type() == BoardEventDto.Type.BOARD_UPDATED) {
+            dispatchBoardUpdate(event);
+            return;
+        }
+        String boardId = event.boardId() != null ? event.boardId() : boardIdOf(event.columnId());
+        publish(boardId, event);
+        if (event.type() == BoardEventDto.Type.TASK_MOVED) {
+            String previousBoardId = boardIdOf(event.previousColumnId());
+            if (previousBoardId != null && !previousBoardId.equals(boardId)) {
+                publish(previousBoardId, event);
+            }
+        }
+    }
+
+    // Subscribers get the changes since the last board state this broker saw, so the diff runs once per update and
+    // the whole board is never serialised for the feed.
+    private void dispatchBoardUpdate(BoardEventDto event) {
+        AtomicReference<BoardChangesDto> changes = new AtomicReference<>();
+        topicsByBoardId.computeIfPresent(event.boardId(), (id, topic) -> {
+            if (isNewer(event.board(), topic.board)) {
+                changes.set(BoardOperations.changes(topic.board, event.board()));
+                index(topic, event.board());
+            }
+            return topic;
+        });
+        if (changes.get() != null && !changes.get().isEmpty()) {
+            publish(event.boardId(), event.withBoard(null).withChanges(changes.get()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kanban.events.heartbeat-interval:PT30S}")
+    public void sendHeartbeats() {
+        if (topicsByBoardId.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+        topicsByBoardId.values().forEach(topic -> topic.subscribers.forEach(subscriber -> subscriber.offer(heartbeat)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        topicsByBoardId.values().forEach(topic -> topic.subscribers.forEach(Subscriber::close));
+        executor.shutdownNow();
+    }
+
+    private void publish(String boardId, BoardEventDto event) {
+        Topic topic = boardId == null ? null : topicsByBoardId.get(boardId);
+        if (topic == null) {
+            return;
+        }
+        Set<DataWithMediaType> message = serialise(event.withBoardId(boardId));
+        topic.subscribers.forEach(subscriber -> subscriber.offer(message));
+        if (event.type() == BoardEventDto.Type.BOARD_DELETED) {
+            topic.subscribers.forEach(Subscriber::finish);
+        }
+    }
+
+    private Set<DataWithMediaType> serialise(BoardEventDto event) {
+        try {
+            return SseEmitter.event()
+                    .id(Long.toString(sequence.incrementAndGet()))
+                    .name(event.type().name())
+                    .data(objectMapper.writeValueAsString(event), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise board event " + event.type(), e);
+        }
+    }
+
+    private String boardIdOf(String columnId) {
+        return columnId == null ? null : boardIdsByColumnId.get(columnId);
+    }
+
+    private void index(Topic topic, Board board) {
+        topic.columnIds().forEach(columnId -> boardIdsByColumnId.remove(columnId, board.id()));
+        BoardOperations.columnIds(board).forEach(columnId -> boardIdsByColumnId.put(columnId, board.id()));
+        topic.board = board;
+    }
+
+    private static boolean isNewer(Board board, Board previousBoard) {
+        return previousBoard == null || board.version() == null || previousBoard.version() == null
+                || board.version() > previousBoard.version();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        topicsByBoardId.computeIfPresent(subscriber.boardId, (boardId, topic) -> {
+            topic.subscribers.remove(subscriber);
+            if (!topic.subscribers.isEmpty()) {
+                return topic;
+            }
+            topic.columnIds().forEach(columnId -> boardIdsByColumnId.remove(columnId, boardId));
+            return null;
+        });
+    }
+
+    private static final class Topic {
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private Board board;
+
+        private List<String> columnIds() {
+            return board == null ? List.of() : BoardOperations.columnIds(board);
+        }
+    }
+
+    private final class Subscriber {
+        private final String boardId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean finishing;
+
+        private Subscriber(String boardId, SseEmitter emitter) {
+            this.boardId = boardId;
+            this.emitter = emitter;
+        }
+
+        private void offer(Set<DataWithMediaType> message) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                log.warn("Disconnecting slow subscriber of board {} after {} undelivered events", boardId, queue.size());
+                disconnect();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void finish() {
+            finishing = true;
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> message;
+                while (!closed.get() && (message = queue.poll()) != null) {
+                    emitter.send(message);
+                }
+                if (finishing) {
+                    close();
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed.get() && (finishing || !queue.isEmpty())) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                queue.clear();
+                unsubscribe(this);
+                emitter.complete();
+            }
+        }
+
+        // The emitter's send and complete share its monitor, so completing a subscriber whose send is stuck must not
+        // happen on the publishing thread.
+        private void disconnect() {
+            if (closed.compareAndSet(false, true)) {
+                queue.clear();
+                unsubscribe(this);
+                executor.execute(emitter::complete);
+            }
+        }
+    }
+}
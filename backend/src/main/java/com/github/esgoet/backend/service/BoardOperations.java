@@ -0,0 +1,152 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.dto.BoardChangesDto;
+import com.github.esgoet.backend.dto.BoardOutlineDto;
+import com.github.esgoet.backend.dto.BoardSnapshotDto;
+import com.github.esgoet.backend.dto.BoardSummaryDto;
+import com.github.esgoet.backend.dto.ColumnChangesDto;
+import com.github.esgoet.backend.dto.ColumnOutlineDto;
+import com.github.esgoet.backend.dto.ColumnSnapshotDto;
+import com.github.esgoet.backend.dto.PlacementDto;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Column;
+import com.github.esgoet.backend.model.Task;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+final class BoardOperations {
+    private BoardOperations() {
+    }
+
+    static List<Column> assignColumnIds(List<Column> columns, IdService idService) {
+        return columns.stream()
+                .map(column -> {
+                    if (column.id() == null || column.id().isEmpty()) {
+                        return new Column(idService.generateId(), column.name(), column.tasks());
+                    }
+                    return column;
+                })
+                .toList();
+    }
+
+    static List<Column> mergeTaskMembership(List<Column> existingColumns, List<Column> updatedColumns) {
+        Set<String> existingTaskIds = new HashSet<>();
+        existingColumns.forEach(column -> existingTaskIds.addAll(tasksOf(column)));
+        Set<String> placedTaskIds = new HashSet<>();
+        updatedColumns.forEach(column -> tasksOf(column).stream()
+                .filter(existingTaskIds::contains)
+                .forEach(placedTaskIds::add));
+        Map<String, Column> existingColumnsById = BoardDiff.indexById(existingColumns);
+
+        return updatedColumns.stream()
+                .map(column -> {
+                    ColumnTaskList tasks = new ColumnTaskList();
+                    tasksOf(column).stream()
+                            .filter(existingTaskIds::contains)
+                            .forEach(tasks::add);
+                    Column existingColumn = existingColumnsById.get(column.id());
+                    if (existingColumn != null) {
+                        tasksOf(existingColumn).stream()
+                                .filter(taskId -> !placedTaskIds.contains(taskId))
+                                .forEach(tasks::add);
+                    }
+                    return new Column(column.id(), column.name(), tasks.toList());
+                })
+                .toList();
+    }
+
+    static List<String> removedColumnIds(List<Column> existingColumns, List<Column> updatedColumns) {
+        Set<String> updatedColumnIds = new HashSet<>();
+        updatedColumns.forEach(column -> updatedColumnIds.add(column.id()));
+        return existingColumns.stream()
+                .map(Column::id)
+                .filter(columnId -> !updatedColumnIds.contains(columnId))
+                .toList();
+    }
+
+    static List<String> columnIds(Board board) {
+        return board.columns() == null ? List.of() : board.columns().stream().map(Column::id).toList();
+    }
+
+    static BoardSnapshotDto snapshot(Board board, Collection<Task> tasks) {
+        Map<String, Task> tasksById = tasks.stream()
+                .collect(Collectors.toMap(Task::id, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+
+        List<ColumnSnapshotDto> columns = board.columns().stream()
+                .map(column -> {
+                    List<Task> columnTasks = new ArrayList<>();
+                    tasksOf(column).stream()
+                            .map(tasksById::remove)
+                            .filter(Objects::nonNull)
+                            .forEach(columnTasks::add);
+                    return new ColumnSnapshotDto(column.id(), column.name(), columnTasks);
+                })
+                .toList();
+        columns.forEach(column -> tasksById.values().stream()
+                .filter(task -> task.columnId().equals(column.id()))
+                .forEach(column.tasks()::add));
+
+        return new BoardSnapshotDto(board.id(), board.name(), columns, board.version());
+    }
+
+    static BoardSummaryDto summary(Board board) {
+        return new BoardSummaryDto(board.id(), board.name(), board.columns() == null ? 0 : board.columns().size());
+    }
+
+    static BoardOutlineDto outline(Board board) {
+        List<ColumnOutlineDto> columns = board.columns() == null
+                ? List.of()
+                : board.columns().stream().map(column -> new ColumnOutlineDto(column.id(), column.name())).toList();
+        return new BoardOutlineDto(board.id(), board.name(), columns);
+    }
+
+    static BoardChangesDto changes(Board before, Board after) {
+        List<Column> beforeColumns = before.columns() == null ? List.of() : before.columns();
+        List<Column> afterColumns = after.columns() == null ? List.of() : after.columns();
+        BoardDiff diff = BoardDiff.between(beforeColumns, afterColumns);
+        Map<String, Column> beforeColumnsById = BoardDiff.indexById(beforeColumns);
+        List<ColumnChangesDto> columns = new ArrayList<>();
+        for (Column column : afterColumns) {
+            Column beforeColumn = beforeColumnsById.get(column.id());
+            boolean named = beforeColumn == null || !Objects.equals(beforeColumn.name(), column.name());
+            OrderedDiff tasks = diff.tasksByColumnId().get(column.id());
+            if (named || tasks != null) {
+                columns.add(new ColumnChangesDto(
+                        column.id(),
+                        named ? column.name() : null,
+                        tasks == null ? List.of() : tasks.removed(),
+                        tasks == null ? List.of() : placements(tasks, tasksOf(column))));
+            }
+        }
+        return new BoardChangesDto(
+                Objects.equals(before.name(), after.name()) ? null : after.name(),
+                diff.columns().removed(),
+                placements(diff.columns(), columnIds(after)),
+                columns);
+    }
+
+    private static List<PlacementDto> placements(OrderedDiff diff, List<String> after) {
+        Set<String> placedIds = new HashSet<>(diff.added());
+        placedIds.addAll(diff.moved());
+        List<PlacementDto> placements = new ArrayList<>();
+        for (int i = 0; i < after.size(); i++) {
+            if (placedIds.remove(after.get(i))) {
+                placements.add(new PlacementDto(after.get(i), i));
+            }
+        }
+        return placements;
+    }
+
+    private static List<String> tasksOf(Column column) {
+        return BoardDiff.tasksOf(column);
+    }
+}
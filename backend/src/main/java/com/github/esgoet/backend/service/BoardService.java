@@ -1,72 +1,169 @@
 package com.github.esgoet.backend.service;
 
+import com.github.esgoet.backend.config.OrderingProperties;
 import com.github.esgoet.backend.dto.BoardDto;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.dto.BoardOutlineDto;
+import com.github.esgoet.backend.dto.BoardPageDto;
+import com.github.esgoet.backend.dto.BoardSnapshotDto;
+import com.github.esgoet.backend.dto.BoardSummaryDto;
 import com.github.esgoet.backend.dto.NewBoardDto;
 import com.github.esgoet.backend.exception.ElementNotFoundException;
+import com.github.esgoet.backend.exception.PreconditionFailedException;
 import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.CleanupJob;
 import com.github.esgoet.backend.model.Column;
+import com.github.esgoet.backend.model.Task;
 import com.github.esgoet.backend.repository.BoardRepository;
 import com.github.esgoet.backend.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Timed("kanban.service")
 @RequiredArgsConstructor
 public class BoardService {
     private final BoardRepository boardRepository;
     private final IdService idService;
     private final TaskRepository taskRepository;
+    private final BoardCache boardCache;
+    private final CleanupJobService cleanupJobService;
+    private final OrderingProperties orderingProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String ELEMENT_TYPE = "Board";
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+    private static final int MAX_PAGE_SIZE = 500;
 
     public List<Board> getAllBoards() {
         return boardRepository.findAll();
     }
 
-    public Board getBoardById(String id) {
-        return boardRepository.findById(id).orElseThrow(() -> new ElementNotFoundException(ELEMENT_TYPE, id));
+    public BoardPageDto getBoardSummaries(String after, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        List<BoardSummaryDto> boards = boardRepository.findSummaries(after, pageSize + 1).stream()
+                .map(BoardOperations::summary)
+                .toList();
+        if (boards.size() <= pageSize) {
+            return new BoardPageDto(boards, null);
+        }
+        List<BoardSummaryDto> page = boards.subList(0, pageSize);
+        return new BoardPageDto(page, page.getLast().id());
     }
 
-    public Board createBoard(NewBoardDto board) {
-        return boardRepository.save(new Board(idService.generateId(), board.name(), new ArrayList<>()));
+    public void streamBoardSummaries(Consumer<BoardSummaryDto> consumer) {
+        try (Stream<Board> boards = boardRepository.streamSummaries()) {
+            boards.map(BoardOperations::summary).forEach(consumer);
+        }
     }
 
-    public Board updateBoard(String id, BoardDto updatedBoard) {
-        Board existingBoard = boardRepository.findById(id)
+    public Board getBoardById(String id) {
+        return boardCache.get(id, boardRepository::findById)
                 .orElseThrow(() -> new ElementNotFoundException(ELEMENT_TYPE, id));
+    }
 
-        List<String> existingColumnIds = existingBoard.columns().stream().map(Column::id).toList();
-        List<Column> updatedColumns = updatedBoard.columns().stream()
-                .map(column -> {
-                    if (column.id() == null || column.id().isEmpty()) {
-                        return new Column(idService.generateId(), column.name(), column.tasks());
-                    }
-                    return column;
-                })
-                .toList();
-        List<String> updatedColumnIds = updatedColumns.stream().map(Column::id).toList();
-        List<String> removedColumnIds = existingColumnIds.stream()
-                .filter(columnId -> !updatedColumnIds.contains(columnId))
-                .toList();
+    public BoardOutlineDto getBoardOutline(String id) {
+        return boardCache.getIfPresent(id)
+                .or(() -> boardRepository.findOutline(id))
+                .map(BoardOperations::outline)
+                .orElseThrow(() -> new ElementNotFoundException(ELEMENT_TYPE, id));
+    }
 
-        removedColumnIds.forEach(taskRepository::deleteTasksByColumnId);
+    public BoardSnapshotDto getBoardSnapshot(String id) {
+        Board board = getBoardById(id);
+        List<String> columnIds = BoardOperations.columnIds(board);
+        List<Task> tasks = orderingProperties.ranked()
+                ? taskRepository.findTasksByColumnIdInOrderByRankAscIdAsc(columnIds)
+                : taskRepository.findTasksByColumnIdIn(columnIds);
+        return BoardOperations.snapshot(board, tasks);
+    }
 
-        return boardRepository.save(existingBoard
-                .withName(updatedBoard.name())
-                .withColumns(updatedColumns));
+    public Board createBoard(NewBoardDto board) {
+        Board savedBoard = boardRepository.save(new Board(idService.generateId(), board.name(), new ArrayList<>()));
+        boardCache.put(savedBoard);
+        return savedBoard;
     }
 
-    public void deleteBoard(String id) {
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new ElementNotFoundException(ELEMENT_TYPE, id));
+    public Board updateBoard(String id, BoardDto updatedBoard) {
+        return updateBoard(id, updatedBoard, null);
+    }
+
+    public Board updateBoard(String id, BoardDto updatedBoard, Long expectedVersion) {
+        List<Column> updatedColumns = BoardOperations.assignColumnIds(updatedBoard.columns(), idService);
+
+        for (int attempt = 1; ; attempt++) {
+            Board existingBoard = expectedVersion == null ? getBoardById(id) : getBoardAtVersion(id, expectedVersion);
+            try {
+                Board savedBoard = boardRepository.save(existingBoard
+                        .withName(updatedBoard.name())
+                        .withColumns(BoardOperations.mergeTaskMembership(existingBoard.columns(), updatedColumns)));
+                // Only the attempt that saved removed any columns. If the instance dies before the job is stored,
+                // TaskReconciler deletes the tasks left behind in the removed columns.
+                scheduleCleanupOfRemovedColumns(existingBoard, updatedColumns);
+                boardCache.put(savedBoard);
+                eventPublisher.publishEvent(BoardEventDto.boardUpdated(savedBoard));
+                return savedBoard;
+            } catch (OptimisticLockingFailureException e) {
+                boardCache.evict(id);
+                if (expectedVersion != null) {
+                    throw new PreconditionFailedException(ELEMENT_TYPE, id);
+                }
+                if (attempt >= MAX_UPDATE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
 
-        board.columns().forEach(column -> taskRepository.deleteTasksByColumnId(column.id()));
+    public CleanupJob deleteBoard(String id) {
+        return deleteBoard(id, null);
+    }
 
-        boardRepository.deleteById(id);
+    public CleanupJob deleteBoard(String id, Long expectedVersion) {
+        // The job is persisted before the board is deleted so a failure in between cannot orphan the board's tasks;
+        // cleanup skips columns that are still on a board, so a job left behind by a failed delete is a no-op.
+        List<String> columnIds = BoardOperations.columnIds(getBoardById(id));
+        CleanupJob cleanupJob = cleanupJobService.scheduleCleanup(id, columnIds);
+        Board board = boardRepository.findAndDelete(id, expectedVersion)
+                .orElseThrow(() -> expectedVersion != null && boardRepository.existsById(id)
+                        ? new PreconditionFailedException(ELEMENT_TYPE, id)
+                        : new ElementNotFoundException(ELEMENT_TYPE, id));
+        boardCache.remove(id);
+        eventPublisher.publishEvent(BoardEventDto.boardDeleted(id));
+
+        List<String> addedColumnIds = BoardOperations.columnIds(board).stream()
+                .filter(columnId -> !columnIds.contains(columnId))
+                .toList();
+        if (!addedColumnIds.isEmpty()) {
+            cleanupJobService.scheduleCleanup(id, addedColumnIds);
+        }
+        return cleanupJob;
     }
 
+    private Board getBoardAtVersion(String id, Long expectedVersion) {
+        Board board = getBoardById(id);
+        if (!expectedVersion.equals(board.version())) {
+            boardCache.evict(id);
+            board = getBoardById(id);
+        }
+        if (!expectedVersion.equals(board.version())) {
+            throw new PreconditionFailedException(ELEMENT_TYPE, id);
+        }
+        return board;
+    }
 
+    private void scheduleCleanupOfRemovedColumns(Board existingBoard, List<Column> updatedColumns) {
+        List<String> removedColumnIds = BoardOperations.removedColumnIds(existingBoard.columns(), updatedColumns);
+        if (!removedColumnIds.isEmpty()) {
+            cleanupJobService.scheduleCleanup(existingBoard.id(), removedColumnIds);
+        }
+    }
 }
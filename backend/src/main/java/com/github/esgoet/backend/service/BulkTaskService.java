@@ -0,0 +1,426 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.BulkProperties;
+import com.github.esgoet.backend.config.OrderingProperties;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.dto.BulkTaskOperationDto;
+import com.github.esgoet.backend.dto.BulkTaskResultDto;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Column;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.BoardRepository;
+import com.github.esgoet.backend.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+@Slf4j
+@Service
+@Timed("kanban.service")
+@RequiredArgsConstructor
+public class BulkTaskService {
+    private final IdService idService;
+    private final TaskRepository taskRepository;
+    private final BoardRepository boardRepository;
+    private final BoardCache boardCache;
+    private final OrderingProperties orderingProperties;
+    private final BulkProperties bulkProperties;
+    private final TransactionOperations writeTransactions;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_BOARD_UPDATE_ATTEMPTS = 3;
+
+    public List<BulkTaskResultDto> execute(List<BulkTaskOperationDto> operations) {
+        if (operations.size() > bulkProperties.maxOperations()) {
+            throw new IllegalArgumentException("Bulk request must contain at most " + bulkProperties.maxOperations() + " operations");
+        }
+        Batch batch = new Batch();
+        taskRepository.findAllById(referencedTaskIds(operations))
+                .forEach(task -> batch.tasks.put(task.id(), task));
+        boardRepository.findAllByColumnIdIn(referencedColumnIds(operations, batch.tasks.values()))
+                .forEach(batch::addBoard);
+
+        List<BulkTaskResultDto> results = new ArrayList<>();
+        for (int index = 0; index < operations.size(); index++) {
+            results.add(batch.apply(index, operations.get(index)));
+        }
+
+        try {
+            writeTransactions.executeWithoutResult(status -> write(batch));
+        } catch (RuntimeException e) {
+            // Inside a transaction the board saves were rolled back under boards the cache may already hold.
+            batch.boardsByColumnId.values().stream()
+                    .map(changes -> changes.board.id())
+                    .distinct()
+                    .forEach(boardCache::evict);
+            throw e;
+        }
+        publishEvents(batch);
+
+        return results.stream()
+                .map(result -> result.statusCode() < 300 && batch.failedTaskIds.contains(result.id())
+                        ? new BulkTaskResultDto(result.index(), result.id(), HttpStatus.CONFLICT.value(),
+                        "Board was modified concurrently")
+                        : result)
+                .toList();
+    }
+
+    private void write(Batch batch) {
+        List<BoardChanges> savedBoards = new ArrayList<>();
+        for (BoardChanges changes : batch.changedBoards()) {
+            if (saveBoard(changes)) {
+                savedBoards.add(changes);
+            } else {
+                batch.failedBoardIds.add(changes.board.id());
+            }
+        }
+        batch.boardIdsByTaskId.forEach((taskId, boardIds) -> {
+            if (boardIds.stream().anyMatch(batch.failedBoardIds::contains)) {
+                batch.failedTaskIds.add(taskId);
+            }
+        });
+        // A task moved between boards is written only if both boards saved, so the board that did save is put back.
+        savedBoards.forEach(changes -> revertChanges(changes, batch.failedTaskIds));
+
+        try {
+            taskRepository.bulkWrite(
+                    batch.insertedTasks.values().stream().filter(task -> !batch.failedTaskIds.contains(task.id())).toList(),
+                    batch.updatedTasks.values().stream().filter(task -> !batch.failedTaskIds.contains(task.id())).toList(),
+                    batch.deletedTasks.keySet().stream().filter(taskId -> !batch.failedTaskIds.contains(taskId)).toList());
+        } catch (RuntimeException e) {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                savedBoards.forEach(changes -> revertChanges(changes, batch.boardIdsByTaskId.keySet()));
+            }
+            throw e;
+        }
+    }
+
+    private void publishEvents(Batch batch) {
+        batch.changedBoards().stream()
+                .filter(changes -> !batch.failedBoardIds.contains(changes.board.id()))
+                .forEach(changes -> eventPublisher.publishEvent(BoardEventDto.boardUpdated(changes.board)));
+        batch.insertedTasks.values().stream()
+                .filter(task -> !batch.failedTaskIds.contains(task.id()))
+                .forEach(task -> eventPublisher.publishEvent(BoardEventDto.taskCreated(task)));
+        batch.updatedTasks.values().stream()
+                .filter(task -> !batch.failedTaskIds.contains(task.id()))
+                .forEach(task -> eventPublisher.publishEvent(BoardEventDto.taskUpdated(task)));
+        batch.deletedTasks.values().stream()
+                .filter(task -> !batch.failedTaskIds.contains(task.id()))
+                .forEach(task -> eventPublisher.publishEvent(BoardEventDto.taskDeleted(task.columnId(), task.id())));
+    }
+
+    private boolean saveBoard(BoardChanges changes) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                changes.board = boardRepository.save(changes.toBoard());
+                boardCache.put(changes.board);
+                return true;
+            } catch (OptimisticLockingFailureException e) {
+                boardCache.evict(changes.board.id());
+                Optional<Board> latestBoard = boardRepository.findById(changes.board.id());
+                if (attempt >= MAX_BOARD_UPDATE_ATTEMPTS || latestBoard.isEmpty()) {
+                    return false;
+                }
+                changes.reset(latestBoard.get());
+            }
+        }
+    }
+
+    private void revertChanges(BoardChanges changes, Set<String> taskIds) {
+        List<MembershipChange> inverseChanges = changes.revert(taskIds);
+        if (inverseChanges.isEmpty()) {
+            return;
+        }
+        BoardChanges compensation = new BoardChanges(changes.board);
+        inverseChanges.forEach(compensation::record);
+        if (saveBoard(compensation)) {
+            changes.board = compensation.board;
+        } else {
+            log.warn("Could not revert membership of tasks {} on board {}; the task reconciler will repair it",
+                    taskIds, changes.board.id());
+        }
+    }
+
+    private static Set<String> referencedTaskIds(List<BulkTaskOperationDto> operations) {
+        Set<String> taskIds = new HashSet<>();
+        operations.stream()
+                .filter(operation -> operation.type() != BulkTaskOperationDto.Type.CREATE)
+                .map(BulkTaskOperationDto::id)
+                .filter(Objects::nonNull)
+                .forEach(taskIds::add);
+        return taskIds;
+    }
+
+    private static Set<String> referencedColumnIds(List<BulkTaskOperationDto> operations, Iterable<Task> tasks) {
+        Set<String> columnIds = new HashSet<>();
+        operations.stream()
+                .map(BulkTaskOperationDto::columnId)
+                .filter(Objects::nonNull)
+                .forEach(columnIds::add);
+        tasks.forEach(task -> columnIds.add(task.columnId()));
+        return columnIds;
+    }
+
+    private record MembershipChange(String columnId, String taskId, Integer position, boolean added) {
+    }
+
+    private static final class BoardChanges {
+        private final List<MembershipChange> changes = new ArrayList<>();
+        private Board board;
+        private Map<String, ColumnTaskList> columnTasks;
+
+        private BoardChanges(Board board) {
+            reset(board);
+        }
+
+        private void reset(Board latestBoard) {
+            board = latestBoard;
+            columnTasks = new LinkedHashMap<>();
+            latestBoard.columns().forEach(column -> columnTasks.put(column.id(), new ColumnTaskList(column.tasks())));
+            changes.forEach(this::apply);
+        }
+
+        private void record(MembershipChange change) {
+            ColumnTaskList tasks = columnTasks.get(change.columnId());
+            if (!change.added() && tasks != null) {
+                change = new MembershipChange(change.columnId(), change.taskId(), tasks.indexOf(change.taskId()), false);
+            }
+            changes.add(change);
+            apply(change);
+        }
+
+        private List<MembershipChange> revert(Set<String> taskIds) {
+            List<MembershipChange> inverseChanges = new ArrayList<>();
+            for (int index = changes.size() - 1; index >= 0; index--) {
+                MembershipChange change = changes.get(index);
+                if (taskIds.contains(change.taskId())) {
+                    changes.remove(index);
+                    if (change.added() || change.position() != null && change.position() >= 0) {
+                        inverseChanges.add(new MembershipChange(change.columnId(), change.taskId(), change.position(), !change.added()));
+                    }
+                }
+            }
+            return inverseChanges;
+        }
+
+        private void apply(MembershipChange change) {
+            ColumnTaskList tasks = columnTasks.get(change.columnId());
+            if (tasks == null) {
+                return;
+            }
+            if (change.added()) {
+                tasks.insert(change.taskId(), change.position());
+            } else {
+                tasks.remove(change.taskId());
+            }
+        }
+
+        private Board toBoard() {
+            return board.withColumns(board.columns().stream()
+                    .map(column -> new Column(column.id(), column.name(), columnTasks.get(column.id()).toList()))
+                    .toList());
+        }
+    }
+
+    private final class Batch {
+        private final Map<String, Task> tasks = new HashMap<>();
+        private final Map<String, BoardChanges> boardsByColumnId = new HashMap<>();
+        private final Map<String, Task> insertedTasks = new LinkedHashMap<>();
+        private final Map<String, Task> updatedTasks = new LinkedHashMap<>();
+        private final Map<String, Task> deletedTasks = new LinkedHashMap<>();
+        private final Map<String, Set<String>> boardIdsByTaskId = new HashMap<>();
+        private final Set<String> failedBoardIds = new HashSet<>();
+        private final Set<String> failedTaskIds = new HashSet<>();
+        private final Map<String, NavigableMap<String, String>> batchRanksByColumnId = new HashMap<>();
+        private final Map<String, Set<String>> staleRanksByColumnId = new HashMap<>();
+        private final Map<String, Optional<String>> storedLastRanksByColumnId = new HashMap<>();
+
+        private void addBoard(Board board) {
+            BoardChanges changes = new BoardChanges(board);
+            board.columns().forEach(column -> boardsByColumnId.put(column.id(), changes));
+        }
+
+        private Set<BoardChanges> changedBoards() {
+            Set<BoardChanges> changedBoards = new LinkedHashSet<>();
+            boardsByColumnId.values().stream()
+                    .filter(changes -> !changes.changes.isEmpty())
+                    .forEach(changedBoards::add);
+            return changedBoards;
+        }
+
+        private BulkTaskResultDto apply(int index, BulkTaskOperationDto operation) {
+            if (operation.type() == null) {
+                return result(index, operation.id(), HttpStatus.BAD_REQUEST, "Operation type is required");
+            }
+            return switch (operation.type()) {
+                case CREATE -> create(index, operation);
+                case UPDATE, MOVE -> update(index, operation);
+                case DELETE -> delete(index, operation);
+            };
+        }
+
+        private BulkTaskResultDto create(int index, BulkTaskOperationDto operation) {
+            BoardChanges target = operation.columnId() == null ? null : boardsByColumnId.get(operation.columnId());
+            if (target == null) {
+                return columnNotFound(index, null, operation.columnId());
+            }
+            String taskId = idService.generateId();
+            Task task = new Task(taskId, operation.columnId(), operation.title(), operation.description(),
+                    operation.deadline(), 0L);
+            if (orderingProperties.ranked()) {
+                task = task.withRank(rank(task.columnId(), taskId, operation.position()));
+            } else {
+                addToColumn(target, task.columnId(), taskId, operation.position());
+            }
+            tasks.put(taskId, task);
+            insertedTasks.put(taskId, task);
+            return result(index, taskId, HttpStatus.CREATED, null);
+        }
+
+        private BulkTaskResultDto update(int index, BulkTaskOperationDto operation) {
+            Task task = operation.id() == null ? null : tasks.get(operation.id());
+            if (task == null) {
+                return taskNotFound(index, operation.id());
+            }
+            String columnId = operation.columnId() == null ? task.columnId() : operation.columnId();
+            boolean moved = !columnId.equals(task.columnId()) || operation.position() != null;
+            String rank = task.rank();
+            if (moved) {
+                BoardChanges target = boardsByColumnId.get(columnId);
+                if (target == null) {
+                    return columnNotFound(index, task.id(), columnId);
+                }
+                if (orderingProperties.ranked()) {
+                    releaseRank(task);
+                    rank = rank(columnId, task.id(), operation.position());
+                } else {
+                    removeFromColumn(task);
+                    addToColumn(target, columnId, task.id(), operation.position());
+                }
+            }
+
+            Task updatedTask = operation.type() == BulkTaskOperationDto.Type.MOVE
+                    ? task.withColumnId(columnId).withRank(rank)
+                    : task.withColumnId(columnId)
+                    .withRank(rank)
+                    .withTitle(operation.title())
+                    .withDescription(operation.description())
+                    .withDeadline(operation.deadline());
+            tasks.put(task.id(), updatedTask);
+            if (insertedTasks.containsKey(task.id())) {
+                insertedTasks.put(task.id(), updatedTask);
+            } else {
+                updatedTasks.put(task.id(), updatedTask);
+            }
+            return result(index, task.id(), HttpStatus.OK, null);
+        }
+
+        private BulkTaskResultDto delete(int index, BulkTaskOperationDto operation) {
+            Task task = operation.id() == null ? null : tasks.remove(operation.id());
+            if (task == null) {
+                return taskNotFound(index, operation.id());
+            }
+            if (orderingProperties.ranked()) {
+                releaseRank(task);
+            } else {
+                removeFromColumn(task);
+            }
+            updatedTasks.remove(task.id());
+            if (insertedTasks.remove(task.id()) == null) {
+                deletedTasks.put(task.id(), task);
+            }
+            return result(index, task.id(), HttpStatus.NO_CONTENT, null);
+        }
+
+        private String rank(String columnId, String taskId, Integer position) {
+            int index = position == null ? -1 : Math.max(position, 0);
+            List<String> ranks = index < 0 ? List.of() : liveRanks(columnId, index + 1);
+            String rank = index < 0 || index >= ranks.size()
+                    ? RankGenerator.between(lastRank(columnId), null)
+                    : RankGenerator.between(index == 0 ? null : ranks.get(index - 1), ranks.get(index));
+            batchRanksByColumnId.computeIfAbsent(columnId, key -> new TreeMap<>()).put(rank, taskId);
+            return rank;
+        }
+
+        // The first ranks of the column as this batch leaves it: stored ranks the batch moved away are skipped and
+        // ranks assigned earlier in the batch are merged in, so two operations never pick the same neighbours.
+        private List<String> liveRanks(String columnId, int limit) {
+            Set<String> staleRanks = staleRanksByColumnId.getOrDefault(columnId, Set.of());
+            TreeSet<String> ranks = new TreeSet<>(batchRanksByColumnId.getOrDefault(columnId, new TreeMap<>()).keySet());
+            taskRepository.findRanks(columnId, null, 0, limit + staleRanks.size()).stream()
+                    .filter(rank -> !staleRanks.contains(rank))
+                    .forEach(ranks::add);
+            return ranks.stream().limit(limit).toList();
+        }
+
+        private String lastRank(String columnId) {
+            String storedLastRank = storedLastRanksByColumnId
+                    .computeIfAbsent(columnId, key -> taskRepository.findLastRank(key, null))
+                    .orElse(null);
+            NavigableMap<String, String> batchRanks = batchRanksByColumnId.get(columnId);
+            String batchLastRank = batchRanks == null || batchRanks.isEmpty() ? null : batchRanks.lastKey();
+            if (storedLastRank == null || batchLastRank != null && batchLastRank.compareTo(storedLastRank) > 0) {
+                return batchLastRank;
+            }
+            return storedLastRank;
+        }
+
+        private void releaseRank(Task task) {
+            if (task.rank() == null) {
+                return;
+            }
+            NavigableMap<String, String> batchRanks = batchRanksByColumnId.get(task.columnId());
+            if (batchRanks != null && task.id().equals(batchRanks.get(task.rank()))) {
+                batchRanks.remove(task.rank());
+            } else {
+                staleRanksByColumnId.computeIfAbsent(task.columnId(), key -> new HashSet<>()).add(task.rank());
+            }
+        }
+
+        private void addToColumn(BoardChanges target, String columnId, String taskId, Integer position) {
+            target.record(new MembershipChange(columnId, taskId, position, true));
+            boardIdsByTaskId.computeIfAbsent(taskId, key -> new HashSet<>()).add(target.board.id());
+        }
+
+        private void removeFromColumn(Task task) {
+            BoardChanges source = boardsByColumnId.get(task.columnId());
+            if (source != null) {
+                source.record(new MembershipChange(task.columnId(), task.id(), null, false));
+                boardIdsByTaskId.computeIfAbsent(task.id(), key -> new HashSet<>()).add(source.board.id());
+            }
+        }
+
+        private BulkTaskResultDto taskNotFound(int index, String taskId) {
+            return result(index, taskId, HttpStatus.NOT_FOUND, "Task with ID " + taskId + " not found");
+        }
+
+        private BulkTaskResultDto columnNotFound(int index, String taskId, String columnId) {
+            return result(index, taskId, HttpStatus.NOT_FOUND, "Board including column with ID " + columnId + " not found");
+        }
+
+        private BulkTaskResultDto result(int index, String taskId, HttpStatus status, String message) {
+            return new BulkTaskResultDto(index, taskId, status.value(), message);
+        }
+    }
+}
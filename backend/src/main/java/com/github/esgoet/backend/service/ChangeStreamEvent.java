@@ -0,0 +1,6 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.dto.BoardEventDto;
+
+public record ChangeStreamEvent(BoardEventDto event) {
+}
@@ -0,0 +1,282 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.ChangeStreamProperties;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.ChangeStreamToken;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.ChangeStreamTokenRepository;
+import com.mongodb.MongoException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Relays board and task changes from all instances as {@link ChangeStreamEvent}s. A subscription that fails or is
+ * invalidated is restarted with exponential backoff. Until every subscription is back, the relay reports itself down
+ * and publishes a {@link ChangeStreamStatusEvent}, so caches that rely on it stop serving entries.
+ * <p>
+ * Resume tokens are stored once per collection, not per instance, so a restarted instance with a new host name still
+ * finds the latest token. They are flushed on a timer as well as when stopping.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kanban.change-streams.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ChangeStreamRelay implements SmartLifecycle, HealthIndicator {
+    private final MongoTemplate mongoTemplate;
+    private final ChangeStreamTokenRepository tokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeStreamProperties properties;
+
+    private final Map<String, BsonDocument> pendingTokens = new ConcurrentHashMap<>();
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final Map<String, Duration> restartDelays = new ConcurrentHashMap<>();
+    private final Set<String> pendingRestarts = ConcurrentHashMap.newKeySet();
+    private final Set<String> interruptedCollections = ConcurrentHashMap.newKeySet();
+    private volatile boolean running;
+    private MessageListenerContainer container;
+
+    private static final String BOARDS = "boards";
+    private static final String TASKS = "tasks";
+    private static final String COLUMN_ID = "columnId";
+    private static final Duration SUBSCRIBE_TIMEOUT = Duration.ofSeconds(10);
+
+    @Override
+    public void start() {
+        enablePreImages(TASKS);
+        container = new DefaultMessageListenerContainer(mongoTemplate);
+        container.start();
+        running = true;
+        subscribe(BOARDS);
+        subscribe(TASKS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (container != null) {
+            container.stop();
+        }
+        flushTokens();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public Health health() {
+        if (interruptedCollections.isEmpty()) {
+            return Health.up().build();
+        }
+        return Health.down().withDetail("interruptedCollections", Set.copyOf(interruptedCollections)).build();
+    }
+
+    @Scheduled(fixedDelayString = "${kanban.change-streams.token-flush-interval:PT1S}")
+    public void flushTokens() {
+        pendingTokens.forEach((collection, token) -> {
+            if (pendingTokens.remove(collection, token)) {
+                tokenRepository.save(new ChangeStreamToken(collection, token.toJson(), Instant.now()));
+            }
+        });
+    }
+
+    void onBoardChange(Message<ChangeStreamDocument<Document>, Board> message) {
+        ChangeStreamDocument<Document> change = message.getRaw();
+        switch (change.getOperationType()) {
+            case INSERT, UPDATE, REPLACE -> {
+                if (message.getBody() != null) {
+                    publish(BoardEventDto.boardUpdated(message.getBody()));
+                }
+            }
+            case DELETE -> publish(BoardEventDto.boardDeleted(documentId(change)));
+            case INVALIDATE, DROP -> {
+                invalidated(BOARDS);
+                return;
+            }
+            default -> log.debug("Ignoring {} change on {}", change.getOperationType(), BOARDS);
+        }
+        recordToken(BOARDS, change);
+    }
+
+    void onTaskChange(Message<ChangeStreamDocument<Document>, Task> message) {
+        ChangeStreamDocument<Document> change = message.getRaw();
+        switch (change.getOperationType()) {
+            case INSERT -> {
+                if (message.getBody() != null) {
+                    publish(BoardEventDto.taskCreated(message.getBody()));
+                }
+            }
+            case UPDATE, REPLACE -> {
+                Task task = message.getBody();
+                if (task != null) {
+                    Task previousTask = message.getBodyBeforeChange();
+                    publish(changedColumn(change, previousTask, task)
+                            ? BoardEventDto.taskMoved(task, previousTask == null ? null : previousTask.columnId(), null)
+                            : BoardEventDto.taskUpdated(task));
+                }
+            }
+            case DELETE -> {
+                Task previousTask = message.getBodyBeforeChange();
+                publish(BoardEventDto.taskDeleted(previousTask == null ? null : previousTask.columnId(), documentId(change)));
+            }
+            case INVALIDATE, DROP -> {
+                invalidated(TASKS);
+                return;
+            }
+            default -> log.debug("Ignoring {} change on {}", change.getOperationType(), TASKS);
+        }
+        recordToken(TASKS, change);
+    }
+
+    // Task events need the column a task left, which only the pre-image carries for deletes and moves. Pre-images
+    // need MongoDB 6.0; without them deletes reach no board and moves only reach the target board.
+    private void enablePreImages(String collection) {
+        try {
+            mongoTemplate.getDb().runCommand(new Document("collMod", collection)
+                    .append("changeStreamPreAndPostImages", new Document("enabled", true)));
+        } catch (MongoException e) {
+            log.warn("Could not enable change stream pre-images on {}: {}", collection, e.getMessage());
+        }
+    }
+
+    private void subscribe(String collection) {
+        Subscription subscription = collection.equals(BOARDS)
+                ? register(BOARDS, Board.class, this::onBoardChange, FullDocumentBeforeChange.OFF)
+                : register(TASKS, Task.class, this::onTaskChange, FullDocumentBeforeChange.WHEN_AVAILABLE);
+        subscriptions.put(collection, subscription);
+    }
+
+    private <T> Subscription register(String collection, Class<T> bodyType,
+                                      Consumer<Message<ChangeStreamDocument<Document>, T>> handler,
+                                      FullDocumentBeforeChange beforeChange) {
+        ChangeStreamRequest.ChangeStreamRequestBuilder<T> request = ChangeStreamRequest.<T>builder(handler::accept)
+                .collection(collection)
+                .fullDocumentLookup(FullDocument.UPDATE_LOOKUP)
+                .fullDocumentBeforeChangeLookup(beforeChange);
+        tokenRepository.findById(collection)
+                .ifPresent(token -> request.resumeToken(BsonDocument.parse(token.token())));
+        return container.register(request.build(), bodyType, error -> interrupt(collection, error));
+    }
+
+    // An invalidate event ends the stream and its token cannot be resumed after, so the restart starts from now.
+    private void invalidated(String collection) {
+        pendingTokens.remove(collection);
+        tokenRepository.deleteById(collection);
+        interrupt(collection, null);
+    }
+
+    void interrupt(String collection, Throwable error) {
+        if (!running) {
+            return;
+        }
+        if (error == null) {
+            log.warn("Change stream on {} was invalidated", collection);
+        } else {
+            log.error("Change stream on {} failed", collection, error);
+        }
+        synchronized (interruptedCollections) {
+            if (interruptedCollections.isEmpty()) {
+                eventPublisher.publishEvent(new ChangeStreamStatusEvent(false));
+            }
+            interruptedCollections.add(collection);
+        }
+        if (pendingRestarts.add(collection)) {
+            Duration delay = restartDelays.getOrDefault(collection, properties.restartBackoff());
+            restartDelays.put(collection, min(delay.multipliedBy(2), properties.maxRestartBackoff()));
+            Thread.ofVirtual().name("change-stream-restart-" + collection).start(() -> restartAfter(collection, delay));
+        }
+    }
+
+    private void restartAfter(String collection, Duration delay) {
+        try {
+            Thread.sleep(delay);
+            pendingRestarts.remove(collection);
+            if (!running) {
+                return;
+            }
+            Subscription previous = subscriptions.remove(collection);
+            if (previous != null) {
+                container.remove(previous);
+            }
+            subscribe(collection);
+            if (subscriptions.get(collection).await(SUBSCRIBE_TIMEOUT)) {
+                resumed(collection);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            interrupt(collection, e);
+        }
+    }
+
+    void resumed(String collection) {
+        log.info("Change stream on {} resumed", collection);
+        synchronized (interruptedCollections) {
+            if (interruptedCollections.remove(collection) && interruptedCollections.isEmpty()) {
+                eventPublisher.publishEvent(new ChangeStreamStatusEvent(true));
+            }
+        }
+    }
+
+    private void publish(BoardEventDto event) {
+        eventPublisher.publishEvent(new ChangeStreamEvent(event));
+    }
+
+    private void recordToken(String collection, ChangeStreamDocument<Document> change) {
+        restartDelays.remove(collection);
+        if (change.getResumeToken() != null) {
+            pendingTokens.put(collection, change.getResumeToken());
+        }
+    }
+
+    private static Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+
+    private static boolean changedColumn(ChangeStreamDocument<Document> change, Task previousTask, Task task) {
+        if (previousTask != null) {
+            return !Objects.equals(previousTask.columnId(), task.columnId());
+        }
+        UpdateDescription updateDescription = change.getUpdateDescription();
+        return updateDescription != null && updateDescription.getUpdatedFields() != null
+                && updateDescription.getUpdatedFields().containsKey(COLUMN_ID);
+    }
+
+    private static String documentId(ChangeStreamDocument<Document> change) {
+        BsonValue id = change.getDocumentKey() == null ? null : change.getDocumentKey().get("_id");
+        if (id == null) {
+            return null;
+        }
+        return id.isString() ? id.asString().getValue() : id.toString();
+    }
+}
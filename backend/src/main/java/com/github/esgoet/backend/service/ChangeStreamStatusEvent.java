@@ -0,0 +1,4 @@
+package com.github.esgoet.backend.service;
+
+public record ChangeStreamStatusEvent(boolean live) {
+}
@@ -0,0 +1,98 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.CleanupProperties;
+import com.github.esgoet.backend.exception.ElementNotFoundException;
+import com.github.esgoet.backend.model.CleanupJob;
+import com.github.esgoet.backend.repository.BoardRepository;
+import com.github.esgoet.backend.repository.CleanupJobRepository;
+import com.github.esgoet.backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CleanupJobService {
+    private final CleanupJobRepository cleanupJobRepository;
+    private final TaskRepository taskRepository;
+    private final BoardRepository boardRepository;
+    private final IdService idService;
+    private final CleanupProperties properties;
+
+    private static final String ELEMENT_TYPE = "Cleanup job";
+
+    // Jobs are saved before the board write that removes their columns, so they start out leased: nothing claims
+    // them until that write has had time to land.
+    public CleanupJob scheduleCleanup(String boardId, List<String> columnIds) {
+        Instant now = Instant.now();
+        return cleanupJobRepository.save(new CleanupJob(idService.generateId(), boardId, List.copyOf(columnIds),
+                CleanupJob.Status.PENDING, 0, now, now.plus(properties.startDelay()), null));
+    }
+
+    public CleanupJob getJob(String id) {
+        return cleanupJobRepository.findById(id)
+                .orElseThrow(() -> new ElementNotFoundException(ELEMENT_TYPE, id));
+    }
+
+    @Scheduled(fixedDelayString = "${kanban.cleanup.poll-interval:PT5S}")
+    public void processPendingJobs() {
+        Optional<CleanupJob> job = cleanupJobRepository.claimNext(Instant.now(), properties.lease());
+        while (job.isPresent() && process(job.get())) {
+            job = cleanupJobRepository.claimNext(Instant.now(), properties.lease());
+        }
+    }
+
+    private boolean process(CleanupJob job) {
+        List<String> pendingColumnIds = new ArrayList<>(job.pendingColumnIds());
+        long deletedTaskCount = job.deletedTaskCount();
+        while (!pendingColumnIds.isEmpty()) {
+            String columnId = pendingColumnIds.getFirst();
+            long deleted = isOnBoard(columnId) ? 0 : taskRepository.deleteBatchByColumnId(columnId, properties.batchSize());
+            deletedTaskCount += deleted;
+            if (deleted < properties.batchSize()) {
+                pendingColumnIds.removeFirst();
+            }
+            job = cleanupJobRepository.save(job
+                    .withPendingColumnIds(List.copyOf(pendingColumnIds))
+                    .withDeletedTaskCount(deletedTaskCount)
+                    .withLeaseExpiresAt(Instant.now().plus(properties.lease())));
+            if (!pendingColumnIds.isEmpty() && !pause()) {
+                return false;
+            }
+        }
+        cleanupJobRepository.save(job
+                .withStatus(CleanupJob.Status.COMPLETED)
+                .withLeaseExpiresAt(null)
+                .withCompletedAt(Instant.now()));
+        log.info("Cleanup job {} for board {} deleted {} tasks", job.id(), job.boardId(), deletedTaskCount);
+        return true;
+    }
+
+    private boolean isOnBoard(String columnId) {
+        if (!boardRepository.existsByColumnId(columnId)) {
+            return false;
+        }
+        log.warn("Skipping cleanup of column {} because it is still on a board", columnId);
+        return true;
+    }
+
+    private boolean pause() {
+        if (properties.batchDelay().isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.batchDelay());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.esgoet.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.SequencedSet;
+
+public class ColumnTaskList {
+    private SequencedSet<String> taskIds = new LinkedHashSet<>();
+
+    public ColumnTaskList() {
+    }
+
+    public ColumnTaskList(Collection<String> taskIds) {
+        if (taskIds != null) {
+            this.taskIds.addAll(taskIds);
+        }
+    }
+
+    public boolean contains(String taskId) {
+        return taskIds.contains(taskId);
+    }
+
+    public boolean add(String taskId) {
+        return taskIds.add(taskId);
+    }
+
+    public void insert(String taskId, Integer position) {
+        taskIds.remove(taskId);
+        if (position == null || position >= taskIds.size()) {
+            taskIds.addLast(taskId);
+        } else if (position <= 0) {
+            taskIds.addFirst(taskId);
+        } else {
+            SequencedSet<String> reordered = LinkedHashSet.newLinkedHashSet(taskIds.size() + 1);
+            int index = 0;
+            for (String existingTaskId : taskIds) {
+                if (index++ == position) {
+                    reordered.add(taskId);
+                }
+                reordered.add(existingTaskId);
+            }
+            taskIds = reordered;
+        }
+    }
+
+    public int indexOf(String taskId) {
+        int index = 0;
+        for (String existingTaskId : taskIds) {
+            if (existingTaskId.equals(taskId)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    public boolean remove(String taskId) {
+        return taskIds.remove(taskId);
+    }
+
+    public int size() {
+        return taskIds.size();
+    }
+
+    public List<String> toList() {
+        return new ArrayList<>(taskIds);
+    }
+}
@@ -0,0 +1,6 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.model.Task;
+
+public record DeadlineReachedEvent(Task task) {
+}
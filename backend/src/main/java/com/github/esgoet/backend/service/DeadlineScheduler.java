@@ -0,0 +1,147 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.ChangeStreamProperties;
+import com.github.esgoet.backend.config.DeadlineProperties;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Publishes a {@link DeadlineReachedEvent} when a task's deadline passes. Only deadlines within the configured horizon
+ * are held in memory; they are loaded by an indexed range query and refilled as the horizon moves, while task events
+ * keep the queue current in between.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kanban.deadlines.scheduler-enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DeadlineScheduler implements SmartLifecycle {
+    private final TaskRepository taskRepository;
+    private final DeadlineProperties properties;
+    private final ChangeStreamProperties changeStreamProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final DelayQueue<ScheduledDeadline> queue = new DelayQueue<>();
+    private final Set<ScheduledDeadline> scheduled = ConcurrentHashMap.newKeySet();
+    private volatile Instant loadedUntil;
+    private volatile Thread worker;
+
+    @Override
+    public void start() {
+        loadedUntil = Instant.now();
+        refill();
+        worker = Thread.ofVirtual().name("deadline-scheduler").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    @Scheduled(fixedDelayString = "${kanban.deadlines.refill-interval:PT15M}")
+    public synchronized void refill() {
+        Instant from = loadedUntil;
+        Instant to = Instant.now().plus(properties.horizon());
+        if (from == null || !to.isAfter(from)) {
+            return;
+        }
+        loadedUntil = to;
+        try (Stream<Task> tasks = taskRepository.streamByDeadline(null, from, to)) {
+            tasks.forEach(task -> schedule(task.id(), task.deadline()));
+        }
+    }
+
+    @EventListener
+    public void onBoardEvent(BoardEventDto event) {
+        if (!changeStreamProperties.enabled()) {
+            track(event);
+        }
+    }
+
+    @EventListener
+    public void onChangeStreamEvent(ChangeStreamEvent changeStreamEvent) {
+        track(changeStreamEvent.event());
+    }
+
+    int scheduledCount() {
+        return scheduled.size();
+    }
+
+    private void track(BoardEventDto event) {
+        Task task = event.task();
+        Instant until = loadedUntil;
+        if (task == null || task.deadline() == null || until == null) {
+            return;
+        }
+        if (task.deadline().isAfter(Instant.now()) && task.deadline().isBefore(until)) {
+            schedule(task.id(), task.deadline());
+        }
+    }
+
+    private void schedule(String taskId, Instant deadline) {
+        ScheduledDeadline entry = new ScheduledDeadline(taskId, deadline);
+        if (scheduled.add(entry)) {
+            queue.add(entry);
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                ScheduledDeadline due = queue.take();
+                scheduled.remove(due);
+                publish(due);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Could not publish reached deadline", e);
+            }
+        }
+    }
+
+    private void publish(ScheduledDeadline due) {
+        taskRepository.findById(due.taskId())
+                .filter(task -> due.deadline().equals(task.deadline()))
+                .ifPresent(task -> eventPublisher.publishEvent(new DeadlineReachedEvent(task)));
+    }
+
+    private record ScheduledDeadline(String taskId, Instant deadline) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(Instant.now(), deadline));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof ScheduledDeadline scheduledDeadline) {
+                return deadline.compareTo(scheduledDeadline.deadline);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -1,12 +1,119 @@
 package com.github.esgoet.backend.service;
 
+import com.github.esgoet.backend.config.IdProperties;
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+/**
+ * Generates document IDs. ULID is the default: 26 characters instead of the 36 of the random UUIDs existing documents
+ * have, starting with a timestamp, so new documents land next to each other in the {@code _id} index. UUIDv7 has the
+ * same layout in the UUID form.
+ * <p>
+ * The random bits come from a DRBG per platform thread, which fills a buffer at a time, so generating an ID takes no
+ * lock and spreads the cost of a DRBG call over many IDs. Virtual threads usually live for one request and would seed
+ * a new DRBG for every ID, so they share a set of instances picked by thread ID instead.
+ */
 @Service
 public class IdService {
+    private static final long UUID_VERSION_7 = 0x7000L;
+    private static final long UUID_VARIANT = 0x8000000000000000L;
+    private static final char[] CROCKFORD_BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final ThreadLocal<RandomBits> THREAD_RANDOM_BITS = ThreadLocal.withInitial(IdService::newRandomBits);
+    private static final RandomBits[] SHARED_RANDOM_BITS = sharedRandomBits(Runtime.getRuntime().availableProcessors() * 2);
+
+    private final Supplier<String> generator;
+
+    public IdService(IdProperties properties) {
+        this.generator = switch (properties.strategy()) {
+            case RANDOM_UUID -> () -> UUID.randomUUID().toString();
+            case UUID_V7 -> () -> uuidV7(System.currentTimeMillis()).toString();
+            case ULID -> () -> ulid(System.currentTimeMillis());
+            case OBJECT_ID -> () -> new ObjectId().toHexString();
+        };
+    }
+
     public String generateId() {
-        return UUID.randomUUID().toString();
+        return generator.get();
+    }
+
+    static UUID uuidV7(long epochMillis) {
+        ByteBuffer bits = randomBits();
+        long mostSignificantBits = (epochMillis << 16) | UUID_VERSION_7 | (bits.getShort() & 0x0FFFL);
+        long leastSignificantBits = (bits.getLong() & 0x3FFFFFFFFFFFFFFFL) | UUID_VARIANT;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    static String ulid(long epochMillis) {
+        ByteBuffer bits = randomBits();
+        long high = (epochMillis << 16) | (bits.getShort() & 0xFFFFL);
+        long low = bits.getLong();
+        char[] ulid = new char[26];
+        // 26 base32 digits hold 130 bits, so the first digit carries only the top 3 of the 128.
+        for (int i = 25; i >= 0; i--) {
+            ulid[i] = CROCKFORD_BASE32[(int) (low & 0x1F)];
+            low = (low >>> 5) | (high << 59);
+            high >>>= 5;
+        }
+        return new String(ulid);
+    }
+
+    private static ByteBuffer randomBits() {
+        Thread thread = Thread.currentThread();
+        if (!thread.isVirtual()) {
+            return THREAD_RANDOM_BITS.get().next();
+        }
+        RandomBits shared = SHARED_RANDOM_BITS[(int) (thread.threadId() % SHARED_RANDOM_BITS.length)];
+        synchronized (shared) {
+            return shared.next();
+        }
+    }
+
+    private static RandomBits[] sharedRandomBits(int count) {
+        RandomBits[] randomBits = new RandomBits[count];
+        for (int i = 0; i < count; i++) {
+            randomBits[i] = newRandomBits();
+        }
+        return randomBits;
+    }
+
+    private static RandomBits newRandomBits() {
+        try {
+            return new RandomBits(SecureRandom.getInstance("DRBG"));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("DRBG SecureRandom is not available", e);
+        }
+    }
+
+    /**
+     * A buffer of random bytes that is not thread-safe. {@link #next()} returns a copy of the next ten bytes, so the
+     * caller can read them after another thread has refilled a shared instance.
+     */
+    private static final class RandomBits {
+        private static final int BYTES_PER_ID = 10;
+
+        private final SecureRandom random;
+        private final byte[] buffer = new byte[BYTES_PER_ID * 64];
+        private int position = buffer.length;
+
+        private RandomBits(SecureRandom random) {
+            this.random = random;
+        }
+
+        private ByteBuffer next() {
+            if (position == buffer.length) {
+                random.nextBytes(buffer);
+                position = 0;
+            }
+            byte[] bits = new byte[BYTES_PER_ID];
+            System.arraycopy(buffer, position, bits, 0, BYTES_PER_ID);
+            position += BYTES_PER_ID;
+            return ByteBuffer.wrap(bits);
+        }
     }
 }
@@ -0,0 +1,135 @@
+package com.github.esgoet.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.esgoet.backend.config.IdempotencyProperties;
+import com.github.esgoet.backend.exception.IdempotencyKeyReuseException;
+import com.github.esgoet.backend.exception.IdempotentRequestInProgressException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the result of each creation made under an idempotency key, so a retried request gets the original result
+ * instead of creating a duplicate. A retry that arrives while the first attempt is still running waits for it, up to
+ * {@code kanban.idempotency.wait-timeout}, and then gets a 409; a failed attempt is forgotten so the next retry runs
+ * again.
+ * <p>
+ * Results are kept in memory on this instance only. Retries are deduplicated when they reach the same instance, so
+ * several instances need a load balancer that routes by {@code Idempotency-Key}; otherwise a retry that lands elsewhere
+ * creates a duplicate.
+ */
+@Component
+public class IdempotencyStore {
+    private final Cache<String, CompletableFuture<Entry>> results;
+    private final IdempotencyProperties properties;
+
+    public IdempotencyStore(IdempotencyProperties properties) {
+        this.properties = properties;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .build();
+    }
+
+    public <T> T execute(String scope, String key, Object request, Class<T> resultType, Supplier<T> action) {
+        String scopedKey = scopedKey(scope, key);
+        while (true) {
+            CompletableFuture<Entry> attempt = new CompletableFuture<>();
+            CompletableFuture<Entry> previous = results.asMap().putIfAbsent(scopedKey, attempt);
+            if (previous == null) {
+                return resultType.cast(run(scopedKey, attempt, request, action).result());
+            }
+            Entry entry = await(key, previous);
+            if (entry != null) {
+                if (!entry.request().equals(request)) {
+                    throw new IdempotencyKeyReuseException(key);
+                }
+                return resultType.cast(entry.result());
+            }
+        }
+    }
+
+    public <T> Mono<T> execute(String scope, String key, Object request, Class<T> resultType, Mono<T> action) {
+        return Mono.defer(() -> {
+            String scopedKey = scopedKey(scope, key);
+            CompletableFuture<Entry> attempt = new CompletableFuture<>();
+            CompletableFuture<Entry> previous = results.asMap().putIfAbsent(scopedKey, attempt);
+            if (previous == null) {
+                return run(scopedKey, attempt, request, action).map(entry -> resultType.cast(entry.result()));
+            }
+            return Mono.fromFuture(previous, true)
+                    .map(Optional::of)
+                    .onErrorReturn(Optional.empty())
+                    .timeout(properties.waitTimeout(), Mono.error(() -> new IdempotentRequestInProgressException(key)))
+                    .flatMap(entry -> {
+                        if (entry.isEmpty()) {
+                            return execute(scope, key, request, resultType, action);
+                        }
+                        if (!entry.get().request().equals(request)) {
+                            return Mono.error(new IdempotencyKeyReuseException(key));
+                        }
+                        return Mono.just(resultType.cast(entry.get().result()));
+                    });
+        });
+    }
+
+    private String scopedKey(String scope, String key) {
+        if (key.isBlank() || key.length() > properties.maxKeyLength()) {
+            throw new IllegalArgumentException("Idempotency key must have between 1 and "
+                    + properties.maxKeyLength() + " characters");
+        }
+        return scope + ":" + key;
+    }
+
+    // An attempt that fails, completes empty or is cancelled is forgotten, so whoever waits on it runs the action again.
+    private Mono<Entry> run(String scopedKey, CompletableFuture<Entry> attempt, Object request, Mono<?> action) {
+        return action
+                .map(result -> {
+                    Entry entry = new Entry(request, result);
+                    attempt.complete(entry);
+                    return entry;
+                })
+                .doFinally(signal -> {
+                    if (!attempt.isDone()) {
+                        results.asMap().remove(scopedKey, attempt);
+                        attempt.completeExceptionally(new CancellationException("Idempotent attempt did not complete"));
+                    }
+                });
+    }
+
+    private Entry run(String scopedKey, CompletableFuture<Entry> attempt, Object request, Supplier<?> action) {
+        try {
+            Entry entry = new Entry(request, action.get());
+            attempt.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            results.asMap().remove(scopedKey, attempt);
+            attempt.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Entry await(String key, CompletableFuture<Entry> attempt) {
+        try {
+            return attempt.get(properties.waitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | CancellationException e) {
+            return null;
+        } catch (TimeoutException e) {
+            throw new IdempotentRequestInProgressException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotentRequestInProgressException(key);
+        }
+    }
+
+    private record Entry(Object request, Object result) {
+    }
+}
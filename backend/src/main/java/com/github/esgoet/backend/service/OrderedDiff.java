@@ -0,0 +1,80 @@
+package com.github.esgoet.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public record OrderedDiff(
+        List<String> added,
+        List<String> removed,
+        List<String> moved
+) {
+    public static OrderedDiff between(List<String> before, List<String> after) {
+        Map<String, Integer> beforeIndexes = HashMap.newHashMap(before.size());
+        for (int i = 0; i < before.size(); i++) {
+            beforeIndexes.putIfAbsent(before.get(i), i);
+        }
+        Set<String> afterIds = HashSet.newHashSet(after.size());
+        List<String> added = new ArrayList<>();
+        List<String> retained = new ArrayList<>();
+        for (String id : after) {
+            if (!afterIds.add(id)) {
+                continue;
+            }
+            if (beforeIndexes.containsKey(id)) {
+                retained.add(id);
+            } else {
+                added.add(id);
+            }
+        }
+        List<String> removed = before.stream()
+                .filter(id -> !afterIds.contains(id))
+                .distinct()
+                .toList();
+        return new OrderedDiff(added, removed, moved(retained, beforeIndexes));
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && moved.isEmpty();
+    }
+
+    private static List<String> moved(List<String> retained, Map<String, Integer> beforeIndexes) {
+        int size = retained.size();
+        int[] tails = new int[size];
+        int[] predecessors = new int[size];
+        int length = 0;
+        for (int i = 0; i < size; i++) {
+            int beforeIndex = beforeIndexes.get(retained.get(i));
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (beforeIndexes.get(retained.get(tails[middle])) < beforeIndex) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            predecessors[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        boolean[] inOrder = new boolean[size];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = predecessors[i]) {
+            inOrder[i] = true;
+        }
+        List<String> moved = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (!inOrder[i]) {
+                moved.add(retained.get(i));
+            }
+        }
+        return moved;
+    }
+}
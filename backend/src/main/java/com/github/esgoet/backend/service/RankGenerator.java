@@ -0,0 +1,117 @@
+package com.github.esgoet.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lexicographic fractional ranks: each rank is read as the base-62 digits after a radix point, so any two ranks
+ * have another one between them and string order equals numeric order. Ranks never end in the zero digit.
+ */
+public final class RankGenerator {
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final int WIDTH = 8;
+    private static final long SPACE = pow(BASE, WIDTH);
+    private static final long STEP = pow(BASE, WIDTH - 5);
+
+    private RankGenerator() {
+    }
+
+    public static String between(String before, String after) {
+        if (before == null && after == null) {
+            return encode(SPACE / 2);
+        }
+        if (after == null) {
+            return after(before);
+        }
+        if (before == null) {
+            return before(after);
+        }
+        if (!inOrder(before, after)) {
+            throw new IllegalArgumentException("Rank " + before + " must sort before " + after);
+        }
+        return midpoint(before, after);
+    }
+
+    /**
+     * Concurrent writers can store the same rank twice; such neighbours leave no room between them and the column
+     * has to be re-ranked before anything is placed there.
+     */
+    public static boolean inOrder(String before, String after) {
+        return before == null || after == null || before.compareTo(after) < 0;
+    }
+
+    public static List<String> evenlySpaced(int count) {
+        long step = SPACE / (count + 1L);
+        List<String> ranks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            ranks.add(encode(step * i));
+        }
+        return ranks;
+    }
+
+    private static String after(String rank) {
+        long value = truncate(rank) + STEP;
+        return value < SPACE ? encode(value) : midpoint(rank, null);
+    }
+
+    private static String before(String rank) {
+        long value = truncate(rank);
+        return value > STEP ? encode(value - STEP) : midpoint("", rank);
+    }
+
+    private static String midpoint(String before, String after) {
+        if (after != null) {
+            int prefix = 0;
+            while (prefix < after.length() && digitAt(before, prefix) == after.charAt(prefix)) {
+                prefix++;
+            }
+            if (prefix > 0) {
+                return after.substring(0, prefix)
+                        + midpoint(before.length() > prefix ? before.substring(prefix) : "", after.substring(prefix));
+            }
+        }
+        int low = before.isEmpty() ? 0 : DIGITS.indexOf(before.charAt(0));
+        int high = after == null ? BASE : DIGITS.indexOf(after.charAt(0));
+        if (high - low > 1) {
+            return String.valueOf(DIGITS.charAt((low + high) / 2));
+        }
+        if (after != null && after.length() > 1) {
+            return after.substring(0, 1);
+        }
+        return DIGITS.charAt(low) + midpoint(before.isEmpty() ? "" : before.substring(1), null);
+    }
+
+    private static char digitAt(String rank, int index) {
+        return index < rank.length() ? rank.charAt(index) : DIGITS.charAt(0);
+    }
+
+    private static long truncate(String rank) {
+        long value = 0;
+        for (int i = 0; i < WIDTH; i++) {
+            value = value * BASE + DIGITS.indexOf(digitAt(rank, i));
+        }
+        return value;
+    }
+
+    private static String encode(long value) {
+        char[] digits = new char[WIDTH];
+        for (int i = WIDTH - 1; i >= 0; i--) {
+            digits[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        int length = WIDTH;
+        while (length > 1 && digits[length - 1] == DIGITS.charAt(0)) {
+            length--;
+        }
+        return new String(digits, 0, length);
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
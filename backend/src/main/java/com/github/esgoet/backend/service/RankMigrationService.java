@@ -0,0 +1,93 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.OrderingProperties;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Column;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.BoardRepository;
+import com.github.esgoet.backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankMigrationService {
+    private final BoardRepository boardRepository;
+    private final TaskRepository taskRepository;
+    private final BoardCache boardCache;
+    private final OrderingProperties properties;
+
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+
+    public long migrateAll() {
+        requireRankedMode();
+        long rankedTaskCount = 0;
+        for (Board board : boardRepository.findAll()) {
+            rankedTaskCount += migrateBoard(board.id());
+        }
+        log.info("Assigned ranks to {} tasks", rankedTaskCount);
+        return rankedTaskCount;
+    }
+
+    public long migrateBoard(String boardId) {
+        requireRankedMode();
+        for (int attempt = 1; ; attempt++) {
+            Board board = boardRepository.findById(boardId).orElse(null);
+            if (board == null) {
+                return 0;
+            }
+            long rankedTaskCount = board.columns().stream()
+                    .mapToLong(this::rankColumn)
+                    .sum();
+            try {
+                boardRepository.save(board.withColumns(board.columns().stream()
+                        .map(column -> new Column(column.id(), column.name(), new ArrayList<>()))
+                        .toList()));
+                boardCache.evict(boardId);
+                return rankedTaskCount;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_UPDATE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void requireRankedMode() {
+        if (!properties.ranked()) {
+            throw new IllegalStateException("Rank migration clears the column task lists and requires kanban.ordering.mode=rank");
+        }
+    }
+
+    private long rankColumn(Column column) {
+        ColumnTaskList orderedTaskIds = new ColumnTaskList(column.tasks());
+        List<Task> columnTasks = taskRepository.findTasksByColumnIdOrderByRankAscIdAsc(column.id());
+        columnTasks.stream()
+                .filter(task -> task.rank() != null)
+                .forEach(task -> orderedTaskIds.add(task.id()));
+        columnTasks.stream()
+                .filter(task -> task.rank() == null)
+                .forEach(task -> orderedTaskIds.add(task.id()));
+
+        List<String> taskIds = orderedTaskIds.toList();
+        List<String> ranks = RankGenerator.evenlySpaced(taskIds.size());
+        Map<String, String> batch = new LinkedHashMap<>();
+        for (int i = 0; i < taskIds.size(); i++) {
+            batch.put(taskIds.get(i), ranks.get(i));
+            if (batch.size() >= properties.migrationBatchSize()) {
+                taskRepository.updateRanks(column.id(), batch);
+                batch.clear();
+            }
+        }
+        taskRepository.updateRanks(column.id(), batch);
+        return taskIds.size();
+    }
+}
@@ -0,0 +1,155 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.OrderingProperties;
+import com.github.esgoet.backend.dto.BoardDto;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.dto.BoardOutlineDto;
+import com.github.esgoet.backend.dto.BoardSnapshotDto;
+import com.github.esgoet.backend.dto.BoardSummaryDto;
+import com.github.esgoet.backend.dto.NewBoardDto;
+import com.github.esgoet.backend.exception.ElementNotFoundException;
+import com.github.esgoet.backend.exception.PreconditionFailedException;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.CleanupJob;
+import com.github.esgoet.backend.model.Column;
+import com.github.esgoet.backend.repository.ReactiveBoardRepository;
+import com.github.esgoet.backend.repository.ReactiveTaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBoardService {
+    private final ReactiveBoardRepository boardRepository;
+    private final IdService idService;
+    private final ReactiveTaskRepository taskRepository;
+    private final BoardCache boardCache;
+    private final CleanupJobService cleanupJobService;
+    private final OrderingProperties orderingProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String ELEMENT_TYPE = "Board";
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+
+    public Flux<Board> getAllBoards() {
+        return boardRepository.findAll();
+    }
+
+    public Flux<BoardSummaryDto> streamBoardSummaries() {
+        return boardRepository.streamSummaries().map(BoardOperations::summary);
+    }
+
+    public Mono<Board> getBoardById(String id) {
+        return Mono.justOrEmpty(boardCache.getIfPresent(id))
+                .switchIfEmpty(Mono.defer(() -> boardRepository.findById(id).doOnNext(boardCache::put)))
+                .switchIfEmpty(Mono.error(() -> new ElementNotFoundException(ELEMENT_TYPE, id)));
+    }
+
+    public Mono<BoardOutlineDto> getBoardOutline(String id) {
+        return Mono.justOrEmpty(boardCache.getIfPresent(id))
+                .switchIfEmpty(Mono.defer(() -> boardRepository.findOutline(id)))
+                .map(BoardOperations::outline)
+                .switchIfEmpty(Mono.error(() -> new ElementNotFoundException(ELEMENT_TYPE, id)));
+    }
+
+    public Mono<BoardSnapshotDto> getBoardSnapshot(String id) {
+        return getBoardById(id)
+                .flatMap(board -> (orderingProperties.ranked()
+                        ? taskRepository.findTasksByColumnIdInOrderByRankAscIdAsc(BoardOperations.columnIds(board))
+                        : taskRepository.findTasksByColumnIdIn(BoardOperations.columnIds(board)))
+                        .collectList()
+                        .map(tasks -> BoardOperations.snapshot(board, tasks)));
+    }
+
+    public Mono<Board> createBoard(NewBoardDto board) {
+        return boardRepository.save(new Board(idService.generateId(), board.name(), new ArrayList<>()))
+                .doOnNext(boardCache::put);
+    }
+
+    public Mono<Board> updateBoard(String id, BoardDto updatedBoard) {
+        return updateBoard(id, updatedBoard, null);
+    }
+
+    public Mono<Board> updateBoard(String id, BoardDto updatedBoard, Long expectedVersion) {
+        List<Column> updatedColumns = BoardOperations.assignColumnIds(updatedBoard.columns(), idService);
+
+        return Mono.defer(() -> (expectedVersion == null ? getBoardById(id) : getBoardAtVersion(id, expectedVersion))
+                        .flatMap(existingBoard -> boardRepository.save(existingBoard
+                                        .withName(updatedBoard.name())
+                                        .withColumns(BoardOperations.mergeTaskMembership(existingBoard.columns(), updatedColumns)))
+                                // Scheduled once the save succeeded, as in BoardService.updateBoard.
+                                .flatMap(savedBoard -> scheduleCleanupOfRemovedColumns(existingBoard, updatedColumns)
+                                        .thenReturn(savedBoard))
+                                .doOnNext(boardCache::put)))
+                .doOnError(OptimisticLockingFailureException.class, e -> boardCache.evict(id))
+                .retryWhen(Retry.max(MAX_UPDATE_ATTEMPTS - 1L)
+                        .filter(e -> expectedVersion == null && e instanceof OptimisticLockingFailureException)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .onErrorMap(e -> expectedVersion != null && e instanceof OptimisticLockingFailureException,
+                        e -> new PreconditionFailedException(ELEMENT_TYPE, id))
+                .doOnNext(savedBoard -> eventPublisher.publishEvent(BoardEventDto.boardUpdated(savedBoard)));
+    }
+
+    public Mono<CleanupJob> deleteBoard(String id) {
+        return deleteBoard(id, null);
+    }
+
+    public Mono<CleanupJob> deleteBoard(String id, Long expectedVersion) {
+        // The job is persisted before the board is deleted, as in BoardService.deleteBoard.
+        return getBoardById(id)
+                .map(BoardOperations::columnIds)
+                .flatMap(columnIds -> scheduleCleanup(id, columnIds)
+                        .flatMap(cleanupJob -> boardRepository.findAndDelete(id, expectedVersion)
+                                .switchIfEmpty(deleteFailure(id, expectedVersion))
+                                .flatMap(board -> {
+                                    boardCache.remove(id);
+                                    eventPublisher.publishEvent(BoardEventDto.boardDeleted(id));
+                                    List<String> addedColumnIds = BoardOperations.columnIds(board).stream()
+                                            .filter(columnId -> !columnIds.contains(columnId))
+                                            .toList();
+                                    return addedColumnIds.isEmpty()
+                                            ? Mono.just(cleanupJob)
+                                            : scheduleCleanup(id, addedColumnIds).thenReturn(cleanupJob);
+                                })));
+    }
+
+    private Mono<Board> getBoardAtVersion(String id, Long expectedVersion) {
+        return getBoardById(id)
+                .flatMap(board -> expectedVersion.equals(board.version())
+                        ? Mono.just(board)
+                        : Mono.fromRunnable(() -> boardCache.evict(id)).then(Mono.defer(() -> getBoardById(id))))
+                .filter(board -> expectedVersion.equals(board.version()))
+                .switchIfEmpty(Mono.error(() -> new PreconditionFailedException(ELEMENT_TYPE, id)));
+    }
+
+    private Mono<Board> deleteFailure(String id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Mono.error(() -> new ElementNotFoundException(ELEMENT_TYPE, id));
+        }
+        return boardRepository.existsById(id)
+                .flatMap(exists -> Mono.error(exists
+                        ? new PreconditionFailedException(ELEMENT_TYPE, id)
+                        : new ElementNotFoundException(ELEMENT_TYPE, id)));
+    }
+
+    private Mono<CleanupJob> scheduleCleanupOfRemovedColumns(Board existingBoard, List<Column> updatedColumns) {
+        List<String> removedColumnIds = BoardOperations.removedColumnIds(existingBoard.columns(), updatedColumns);
+        return removedColumnIds.isEmpty() ? Mono.empty() : scheduleCleanup(existingBoard.id(), removedColumnIds);
+    }
+
+    private Mono<CleanupJob> scheduleCleanup(String boardId, List<String> columnIds) {
+        return Mono.fromCallable(() -> cleanupJobService.scheduleCleanup(boardId, columnIds))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,293 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.DeadlineProperties;
+import com.github.esgoet.backend.config.OrderingProperties;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.dto.MoveTaskDto;
+import com.github.esgoet.backend.dto.NewTaskDto;
+import com.github.esgoet.backend.dto.TaskDto;
+import com.github.esgoet.backend.dto.TaskHeaderDto;
+import com.github.esgoet.backend.exception.ElementNotFoundException;
+import com.github.esgoet.backend.exception.PreconditionFailedException;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.ReactiveBoardRepository;
+import com.github.esgoet.backend.repository.ReactiveTaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskService {
+    private final IdService idService;
+    private final ReactiveTaskRepository taskRepository;
+    private final ReactiveBoardRepository boardRepository;
+    private final BoardCache boardCache;
+    private final OrderingProperties orderingProperties;
+    private final DeadlineProperties deadlineProperties;
+    private final TaskVersionCache taskVersionCache;
+    private final Optional<TransactionalOperator> writeTransactions;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String TASK_ELEMENT = "Task";
+    private static final String BOARD_ELEMENT = "Board including column";
+
+    public Mono<List<Task>> getTasksByColumnId(String columnId) {
+        if (orderingProperties.ranked()) {
+            return taskRepository.findTasksByColumnIdOrderByRankAscIdAsc(columnId).collectList();
+        }
+        return taskRepository.findTasksByColumnId(columnId).collectList();
+    }
+
+    public Mono<List<TaskHeaderDto>> getTaskHeadersByColumnId(String columnId) {
+        if (orderingProperties.ranked()) {
+            return taskRepository.findTaskHeadersByColumnIdOrderByRankAscIdAsc(columnId).collectList();
+        }
+        return taskRepository.findTaskHeadersByColumnId(columnId).collectList();
+    }
+
+    public Flux<Task> findOverdueTasks(String boardId) {
+        return findByDeadline(boardId, null, Instant.now());
+    }
+
+    public Flux<Task> findTasksDueWithin(String boardId, Duration window) {
+        TaskDeadlineService.requireWindow(window, deadlineProperties.maxWindow());
+        Instant now = Instant.now();
+        return findByDeadline(boardId, now, now.plus(window));
+    }
+
+    public Mono<Task> getTaskById(String id) {
+        return taskVersionCache.load(id, () -> taskRepository.findById(id))
+                .switchIfEmpty(Mono.error(() -> new ElementNotFoundException(TASK_ELEMENT, id)));
+    }
+
+    public Optional<Long> getCachedVersion(String id) {
+        return taskVersionCache.getIfPresent(id);
+    }
+
+    public Mono<Task> createTask(String columnId, NewTaskDto task) {
+        String generatedId = idService.generateId();
+        Task newTask = new Task(
+                generatedId,
+                columnId,
+                task.title(),
+                task.description(),
+                task.deadline());
+        if (orderingProperties.ranked()) {
+            return Mono.zip(boardRepository.existsByColumnId(columnId), rankAt(columnId, generatedId, null))
+                    .flatMap(lookup -> lookup.getT1()
+                            ? taskRepository.save(newTask.withRank(lookup.getT2()))
+                            : Mono.error(new ElementNotFoundException(BOARD_ELEMENT, columnId)))
+                    .doOnNext(createdTask -> eventPublisher.publishEvent(BoardEventDto.taskCreated(createdTask)));
+        }
+        return inTransaction(boardRepository.pushTask(columnId, generatedId, null)
+                .flatMap(pushed -> pushed
+                        ? taskRepository.save(newTask)
+                        : Mono.error(new ElementNotFoundException(BOARD_ELEMENT, columnId))))
+                .doOnNext(createdTask -> {
+                    boardCache.evictByColumnId(columnId);
+                    eventPublisher.publishEvent(BoardEventDto.taskCreated(createdTask));
+                });
+    }
+
+    public Mono<Task> updateTask(String id, TaskDto taskDto) {
+        return updateTask(id, taskDto, null);
+    }
+
+    public Mono<Task> updateTask(String id, TaskDto taskDto, Long expectedVersion) {
+        Task updatedTask = new Task(
+                id,
+                taskDto.columnId(),
+                taskDto.title(),
+                taskDto.description(),
+                taskDto.deadline());
+        if (orderingProperties.ranked()) {
+            return updateRankedTask(updatedTask, expectedVersion);
+        }
+        return inTransaction(updateListedTask(updatedTask, expectedVersion))
+                .map(previousTask -> {
+                    Task savedTask = updatedTask.withVersion(nextVersion(previousTask));
+                    if (!previousTask.columnId().equals(taskDto.columnId())) {
+                        evictColumns(previousTask.columnId(), taskDto.columnId());
+                        eventPublisher.publishEvent(BoardEventDto.taskMoved(savedTask, previousTask.columnId(), null));
+                    } else {
+                        eventPublisher.publishEvent(BoardEventDto.taskUpdated(savedTask));
+                    }
+                    return savedTask;
+                });
+    }
+
+    public Mono<Task> moveTask(String id, MoveTaskDto moveTaskDto) {
+        return moveTask(id, moveTaskDto, null);
+    }
+
+    public Mono<Task> moveTask(String id, MoveTaskDto moveTaskDto, Long expectedVersion) {
+        if (orderingProperties.ranked()) {
+            return moveRankedTask(id, moveTaskDto, expectedVersion);
+        }
+        return inTransaction(moveListedTask(id, moveTaskDto, expectedVersion))
+                .map(previousTask -> {
+                    evictColumns(previousTask.columnId(), moveTaskDto.columnId());
+                    Task movedTask = previousTask
+                            .withColumnId(moveTaskDto.columnId())
+                            .withVersion(nextVersion(previousTask));
+                    eventPublisher.publishEvent(BoardEventDto.taskMoved(movedTask, previousTask.columnId(), moveTaskDto.position()));
+                    return movedTask;
+                });
+    }
+
+    public Mono<Void> deleteTask(String id) {
+        return deleteTask(id, null);
+    }
+
+    public Mono<Void> deleteTask(String id, Long expectedVersion) {
+        Mono<Task> delete = taskRepository.findAndDelete(id, expectedVersion)
+                .switchIfEmpty(writeFailure(id, expectedVersion));
+        if (!orderingProperties.ranked()) {
+            delete = inTransaction(delete.flatMap(task -> boardRepository.pullTask(task.columnId(), id).thenReturn(task)))
+                    .doOnNext(task -> boardCache.evictByColumnId(task.columnId()));
+        }
+        return delete
+                .doOnNext(task -> eventPublisher.publishEvent(BoardEventDto.taskDeleted(task.columnId(), id)))
+                .then();
+    }
+
+    private Mono<Task> updateListedTask(Task updatedTask, Long expectedVersion) {
+        String id = updatedTask.id();
+        return taskRepository.findAndUpdate(updatedTask, expectedVersion)
+                .switchIfEmpty(writeFailure(id, expectedVersion))
+                .flatMap(previousTask -> previousTask.columnId().equals(updatedTask.columnId())
+                        ? Mono.just(previousTask)
+                        : boardRepository.moveTask(id, previousTask.columnId(), updatedTask.columnId(), null)
+                        .flatMap(moved -> moved
+                                ? Mono.just(previousTask)
+                                : taskRepository.findAndUpdate(previousTask, null)
+                                .then(Mono.error(new ElementNotFoundException(BOARD_ELEMENT, updatedTask.columnId())))));
+    }
+
+    private Mono<Task> moveListedTask(String id, MoveTaskDto moveTaskDto, Long expectedVersion) {
+        return taskRepository.findAndUpdateColumnId(id, moveTaskDto.columnId(), expectedVersion)
+                .switchIfEmpty(writeFailure(id, expectedVersion))
+                .flatMap(previousTask -> boardRepository
+                        .moveTask(id, previousTask.columnId(), moveTaskDto.columnId(), moveTaskDto.position())
+                        .flatMap(moved -> moved
+                                ? Mono.just(previousTask)
+                                : taskRepository.findAndUpdateColumnId(id, previousTask.columnId(), null)
+                                .then(Mono.error(new ElementNotFoundException(BOARD_ELEMENT, moveTaskDto.columnId())))));
+    }
+
+    private Mono<Task> updateRankedTask(Task updatedTask, Long expectedVersion) {
+        String id = updatedTask.id();
+        return Mono.zip(taskRepository.findPlacement(id), boardRepository.existsByColumnId(updatedTask.columnId()))
+                .switchIfEmpty(Mono.error(() -> new ElementNotFoundException(TASK_ELEMENT, id)))
+                .flatMap(lookup -> {
+                    Task previousTask = lookup.getT1();
+                    if (expectedVersion != null && !expectedVersion.equals(previousTask.version())) {
+                        return Mono.error(new PreconditionFailedException(TASK_ELEMENT, id));
+                    }
+                    if (previousTask.columnId().equals(updatedTask.columnId())) {
+                        return taskRepository.findAndUpdate(updatedTask, expectedVersion)
+                                .switchIfEmpty(writeFailure(id, expectedVersion))
+                                .map(previous -> updatedTask.withRank(previous.rank()).withVersion(nextVersion(previous)))
+                                .doOnNext(savedTask -> eventPublisher.publishEvent(BoardEventDto.taskUpdated(savedTask)));
+                    }
+                    if (!lookup.getT2()) {
+                        return Mono.error(new ElementNotFoundException(BOARD_ELEMENT, updatedTask.columnId()));
+                    }
+                    return rankAt(updatedTask.columnId(), id, null)
+                            .flatMap(rank -> taskRepository.findAndUpdate(updatedTask.withRank(rank), expectedVersion)
+                                    .switchIfEmpty(writeFailure(id, expectedVersion))
+                                    .map(previous -> updatedTask.withRank(rank).withVersion(nextVersion(previous))))
+                            .doOnNext(savedTask -> eventPublisher.publishEvent(BoardEventDto.taskMoved(savedTask, previousTask.columnId(), null)));
+                });
+    }
+
+    private Mono<Task> moveRankedTask(String id, MoveTaskDto moveTaskDto, Long expectedVersion) {
+        return Mono.zip(boardRepository.existsByColumnId(moveTaskDto.columnId()), rankAt(moveTaskDto.columnId(), id, moveTaskDto.position()))
+                .flatMap(lookup -> {
+                    if (!lookup.getT1()) {
+                        return Mono.error(new ElementNotFoundException(BOARD_ELEMENT, moveTaskDto.columnId()));
+                    }
+                    String rank = lookup.getT2();
+                    return taskRepository.findAndUpdatePosition(id, moveTaskDto.columnId(), rank, expectedVersion)
+                            .switchIfEmpty(writeFailure(id, expectedVersion))
+                            .map(previousTask -> {
+                                Task movedTask = previousTask
+                                        .withColumnId(moveTaskDto.columnId())
+                                        .withRank(rank)
+                                        .withVersion(nextVersion(previousTask));
+                                eventPublisher.publishEvent(BoardEventDto.taskMoved(movedTask, previousTask.columnId(), moveTaskDto.position()));
+                                return movedTask;
+                            });
+                });
+    }
+
+    private Mono<String> rankAt(String columnId, String taskId, Integer position) {
+        if (position != null && position <= 0) {
+            return taskRepository.findRanks(columnId, taskId, 0, 1).collectList()
+                    .map(first -> RankGenerator.between(null, first.isEmpty() ? null : first.getFirst()));
+        }
+        Mono<String> append = Mono.defer(() -> taskRepository.findLastRank(columnId, taskId)
+                .map(last -> RankGenerator.between(last, null))
+                .switchIfEmpty(Mono.fromSupplier(() -> RankGenerator.between(null, null))));
+        if (position == null) {
+            return append;
+        }
+        Mono<List<String>> neighbours = Mono.defer(() -> taskRepository.findRanks(columnId, taskId, position - 1, 2).collectList());
+        return neighbours
+                .flatMap(found -> found.size() > 1 && !RankGenerator.inOrder(found.getFirst(), found.get(1))
+                        ? rebalance(columnId).then(neighbours)
+                        : Mono.just(found))
+                .flatMap(found -> found.isEmpty()
+                        ? append
+                        : Mono.just(RankGenerator.between(found.getFirst(), found.size() > 1 ? found.get(1) : null)));
+    }
+
+    private Mono<Void> rebalance(String columnId) {
+        return taskRepository.findRankedIds(columnId).collectList()
+                .flatMap(taskIds -> taskRepository.updateRanks(columnId, TaskRankService.evenlySpaced(taskIds)));
+    }
+
+    private <T> Mono<T> writeFailure(String id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Mono.error(() -> new ElementNotFoundException(TASK_ELEMENT, id));
+        }
+        return taskRepository.existsById(id)
+                .flatMap(exists -> Mono.error(exists
+                        ? new PreconditionFailedException(TASK_ELEMENT, id)
+                        : new ElementNotFoundException(TASK_ELEMENT, id)));
+    }
+
+    private <T> Mono<T> inTransaction(Mono<T> writes) {
+        return writeTransactions.map(operator -> operator.transactional(writes)).orElse(writes);
+    }
+
+    private void evictColumns(String fromColumnId, String toColumnId) {
+        boardCache.evictByColumnId(fromColumnId);
+        boardCache.evictByColumnId(toColumnId);
+    }
+
+    private static Long nextVersion(Task task) {
+        return task.version() == null ? 1L : task.version() + 1;
+    }
+
+    private Flux<Task> findByDeadline(String boardId, Instant from, Instant to) {
+        if (boardId == null) {
+            return taskRepository.findByDeadline(null, from, to);
+        }
+        return Mono.justOrEmpty(boardCache.getIfPresent(boardId))
+                .switchIfEmpty(boardRepository.findById(boardId))
+                .switchIfEmpty(Mono.error(() -> new ElementNotFoundException("Board", boardId)))
+                .flatMapMany(board -> taskRepository.findByDeadline(BoardOperations.columnIds(board), from, to));
+    }
+}
@@ -0,0 +1,8 @@
+package com.github.esgoet.backend.service;
+
+public record ReconciliationResult(
+        int danglingTaskIdsRemoved,
+        int unlistedTasksRelinked,
+        int orphanedTasksDeleted
+) {
+}
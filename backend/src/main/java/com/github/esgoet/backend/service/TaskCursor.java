@@ -0,0 +1,58 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.dto.TaskQueryDto;
+import com.github.esgoet.backend.model.Task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+record TaskCursor(TaskQueryDto.SortBy sortBy, String value, String id) {
+    private static final String SEPARATOR = "|";
+
+    static TaskCursor after(TaskQueryDto.SortBy sortBy, Task task) {
+        String value = switch (sortBy) {
+            case ORDER -> task.rank();
+            case DEADLINE -> task.deadline() == null ? null : task.deadline().toString();
+        };
+        return new TaskCursor(sortBy, value, task.id());
+    }
+
+    static TaskCursor decode(String cursor, TaskQueryDto.SortBy sortBy) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 3 || TaskQueryDto.SortBy.valueOf(parts[0]) != sortBy) {
+                throw new IllegalArgumentException("Cursor does not match sort " + sortBy);
+            }
+            TaskCursor taskCursor = new TaskCursor(sortBy, emptyToNull(parts[1]), emptyToNull(parts[2]));
+            taskCursor.sortValue();
+            return taskCursor;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor " + cursor, e);
+        }
+    }
+
+    Object sortValue() {
+        if (value == null) {
+            return null;
+        }
+        return sortBy == TaskQueryDto.SortBy.DEADLINE ? Instant.parse(value) : value;
+    }
+
+    int offset() {
+        return Integer.parseInt(value);
+    }
+
+    String encode() {
+        String cursor = sortBy.name() + SEPARATOR + nullToEmpty(value) + SEPARATOR + nullToEmpty(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
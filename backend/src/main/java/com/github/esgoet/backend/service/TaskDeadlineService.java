@@ -0,0 +1,48 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.DeadlineProperties;
+import com.github.esgoet.backend.exception.ElementNotFoundException;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.BoardRepository;
+import com.github.esgoet.backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TaskDeadlineService {
+    private final TaskRepository taskRepository;
+    private final BoardRepository boardRepository;
+    private final BoardCache boardCache;
+    private final DeadlineProperties properties;
+
+    public Stream<Task> streamOverdueTasks(String boardId) {
+        return taskRepository.streamByDeadline(columnIds(boardId), null, Instant.now());
+    }
+
+    public Stream<Task> streamTasksDueWithin(String boardId, Duration window) {
+        requireWindow(window, properties.maxWindow());
+        List<String> columnIds = columnIds(boardId);
+        Instant now = Instant.now();
+        return taskRepository.streamByDeadline(columnIds, now, now.plus(window));
+    }
+
+    static void requireWindow(Duration window, Duration maxWindow) {
+        if (window.isNegative() || window.isZero() || window.compareTo(maxWindow) > 0) {
+            throw new IllegalArgumentException("Deadline window must be positive and at most " + maxWindow);
+        }
+    }
+
+    private List<String> columnIds(String boardId) {
+        if (boardId == null) {
+            return null;
+        }
+        return BoardOperations.columnIds(boardCache.get(boardId, boardRepository::findById)
+                .orElseThrow(() -> new ElementNotFoundException("Board", boardId)));
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class TaskRankService {
+    private final TaskRepository taskRepository;
+
+    public String rankAt(String columnId, String taskId, Integer position) {
+        if (position != null && position <= 0) {
+            List<String> first = taskRepository.findRanks(columnId, taskId, 0, 1);
+            return RankGenerator.between(null, first.isEmpty() ? null : first.getFirst());
+        }
+        if (position != null) {
+            List<String> neighbours = taskRepository.findRanks(columnId, taskId, position - 1, 2);
+            if (neighbours.size() > 1 && !RankGenerator.inOrder(neighbours.getFirst(), neighbours.get(1))) {
+                rebalance(columnId);
+                neighbours = taskRepository.findRanks(columnId, taskId, position - 1, 2);
+            }
+            if (!neighbours.isEmpty()) {
+                return RankGenerator.between(neighbours.getFirst(), neighbours.size() > 1 ? neighbours.get(1) : null);
+            }
+        }
+        return RankGenerator.between(taskRepository.findLastRank(columnId, taskId).orElse(null), null);
+    }
+
+    // Spreads the column's ranks evenly again, keeping the current rank-then-id order, so tied ranks become distinct.
+    void rebalance(String columnId) {
+        taskRepository.updateRanks(columnId, evenlySpaced(taskRepository.findRankedIds(columnId)));
+    }
+
+    static Map<String, String> evenlySpaced(List<String> taskIds) {
+        List<String> ranks = RankGenerator.evenlySpaced(taskIds.size());
+        Map<String, String> ranksByTaskId = new LinkedHashMap<>();
+        for (int i = 0; i < taskIds.size(); i++) {
+            ranksByTaskId.put(taskIds.get(i), ranks.get(i));
+        }
+        return ranksByTaskId;
+    }
+}
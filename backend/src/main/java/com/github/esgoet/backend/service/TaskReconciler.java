@@ -0,0 +1,164 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.OrderingProperties;
+import com.github.esgoet.backend.config.ReconcilerProperties;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.ReconcilerLease;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.BoardRepository;
+import com.github.esgoet.backend.repository.ReconcilerLeaseRepository;
+import com.github.esgoet.backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Repairs what a failure between the task and board writes of a non-transactional request leaves behind: column
+ * entries for tasks that do not exist, tasks missing from their column's list and tasks whose column is gone. A finding
+ * is only repaired once a later run sees it unchanged, so writes that are still in flight are left alone.
+ * <p>
+ * It is needed whenever writes are not transactional, and {@code kanban.transactions.enabled} is off by default.
+ * Only the instance holding the {@link ReconcilerLease} runs, and each run scans at most {@code max-batches-per-run}
+ * batches of boards and of tasks, continuing from the cursors the previous run stored with the lease.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "kanban.reconciler.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TaskReconciler {
+    private final TaskRepository taskRepository;
+    private final BoardRepository boardRepository;
+    private final ReconcilerLeaseRepository leaseRepository;
+    private final BoardCache boardCache;
+    private final OrderingProperties orderingProperties;
+    private final ReconcilerProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final String owner = UUID.randomUUID().toString();
+    private final Findings listingFindings = new Findings();
+    private final Findings placementFindings = new Findings();
+
+    private static final String LEASE_ID = "task-reconciler";
+
+    @Scheduled(initialDelayString = "${kanban.reconciler.interval:PT10M}", fixedDelayString = "${kanban.reconciler.interval:PT10M}")
+    public synchronized ReconciliationResult reconcile() {
+        Optional<ReconcilerLease> lease = leaseRepository.claim(LEASE_ID, owner, Instant.now(), properties.lease());
+        if (lease.isEmpty()) {
+            log.debug("Skipping reconciliation, another instance holds the lease");
+            return new ReconciliationResult(0, 0, 0);
+        }
+        Run run = new Run();
+        String boardCursor = orderingProperties.ranked() ? null : removeDanglingTaskIds(lease.get().boardCursor(), run);
+        String taskCursor = repairTasks(lease.get().taskCursor(), run);
+        leaseRepository.release(LEASE_ID, owner, Instant.now(), boardCursor, taskCursor);
+        ReconciliationResult result = new ReconciliationResult(run.danglingTaskIdsRemoved, run.unlistedTasksRelinked,
+                run.orphanedTasksDeleted);
+        if (run.danglingTaskIdsRemoved + run.unlistedTasksRelinked + run.orphanedTasksDeleted > 0) {
+            log.warn("Reconciliation removed {} dangling task IDs, relinked {} tasks and deleted {} orphaned tasks",
+                    run.danglingTaskIdsRemoved, run.unlistedTasksRelinked, run.orphanedTasksDeleted);
+        }
+        return result;
+    }
+
+    private String removeDanglingTaskIds(String after, Run run) {
+        List<Board> boards;
+        int batches = 0;
+        do {
+            boards = boardRepository.findTaskListings(after, properties.batchSize());
+            Map<String, String> columnIdsByTaskId = new HashMap<>();
+            boards.forEach(board -> board.columns().stream()
+                    .filter(column -> column.tasks() != null)
+                    .forEach(column -> column.tasks().forEach(taskId -> columnIdsByTaskId.put(taskId, column.id()))));
+            if (!columnIdsByTaskId.isEmpty()) {
+                Set<String> existingTaskIds = new HashSet<>(taskRepository.findExistingIds(columnIdsByTaskId.keySet()));
+                columnIdsByTaskId.forEach((taskId, columnId) -> {
+                    if (!existingTaskIds.contains(taskId) && listingFindings.confirm("dangling", columnId, taskId)
+                            && boardRepository.pullTask(columnId, taskId)) {
+                        boardCache.evictByColumnId(columnId);
+                        run.danglingTaskIdsRemoved++;
+                    }
+                });
+            }
+            if (!boards.isEmpty()) {
+                after = boards.getLast().id();
+            }
+        } while (boards.size() == properties.batchSize() && ++batches < properties.maxBatchesPerRun());
+        return listingFindings.next(boards.size() == properties.batchSize() ? after : null);
+    }
+
+    private String repairTasks(String after, Run run) {
+        List<Task> tasks;
+        int batches = 0;
+        do {
+            tasks = taskRepository.findPlacements(after, properties.batchSize());
+            Set<String> columnIds = tasks.stream().map(Task::columnId).collect(Collectors.toSet());
+            Map<String, Set<String>> taskIdsByColumnId = new HashMap<>();
+            boardRepository.findAllByColumnIdIn(columnIds).forEach(board -> board.columns().forEach(column ->
+                    taskIdsByColumnId.put(column.id(), column.tasks() == null ? Set.of() : Set.copyOf(column.tasks()))));
+            tasks.forEach(task -> repairTask(task, taskIdsByColumnId.get(task.columnId()), run));
+            if (!tasks.isEmpty()) {
+                after = tasks.getLast().id();
+            }
+        } while (tasks.size() == properties.batchSize() && ++batches < properties.maxBatchesPerRun());
+        return placementFindings.next(tasks.size() == properties.batchSize() ? after : null);
+    }
+
+    private void repairTask(Task task, Set<String> columnTaskIds, Run run) {
+        if (columnTaskIds == null) {
+            if (placementFindings.confirm("orphaned", task.columnId(), task.id())) {
+                taskRepository.findAndDelete(task.id(), task.version()).ifPresent(deleted -> {
+                    eventPublisher.publishEvent(BoardEventDto.taskDeleted(deleted.columnId(), deleted.id()));
+                    run.orphanedTasksDeleted++;
+                });
+            }
+        } else if (!orderingProperties.ranked() && !columnTaskIds.contains(task.id())
+                && placementFindings.confirm("unlisted", task.columnId(), task.id())
+                && boardRepository.pushTask(task.columnId(), task.id(), null)) {
+            boardCache.evictByColumnId(task.columnId());
+            run.unlistedTasksRelinked++;
+        }
+    }
+
+    private static class Run {
+        private int danglingTaskIdsRemoved;
+        private int unlistedTasksRelinked;
+        private int orphanedTasksDeleted;
+    }
+
+    /**
+     * Findings of one scan, confirmed when the following pass over the same collection sees them again. A pass may
+     * span several runs, and another instance may have scanned part of it, which only delays a repair.
+     */
+    private static class Findings {
+        private Set<String> previousPass = Set.of();
+        private Set<String> currentPass = new HashSet<>();
+
+        private boolean confirm(String kind, String columnId, String taskId) {
+            String finding = kind + ":" + columnId + ":" + taskId;
+            currentPass.add(finding);
+            return previousPass.contains(finding);
+        }
+
+        private String next(String cursor) {
+            if (cursor == null) {
+                previousPass = currentPass;
+                currentPass = new HashSet<>();
+            }
+            return cursor;
+        }
+    }
+}
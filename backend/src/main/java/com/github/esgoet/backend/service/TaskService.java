@@ -1,90 +1,302 @@
 package com.github.esgoet.backend.service;
 
+import com.github.esgoet.backend.config.OrderingProperties;
+import com.github.esgoet.backend.config.SearchProperties;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.dto.MoveTaskDto;
 import com.github.esgoet.backend.dto.NewTaskDto;
 import com.github.esgoet.backend.dto.TaskDto;
+import com.github.esgoet.backend.dto.TaskHeaderDto;
+import com.github.esgoet.backend.dto.TaskPageDto;
+import com.github.esgoet.backend.dto.TaskQueryDto;
 import com.github.esgoet.backend.exception.ElementNotFoundException;
-import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.exception.PreconditionFailedException;
+import com.github.esgoet.backend.model.Column;
 import com.github.esgoet.backend.model.Task;
 import com.github.esgoet.backend.repository.BoardRepository;
 import com.github.esgoet.backend.repository.TaskRepository;
+import com.github.esgoet.backend.repository.TaskSearchTerms;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @Service
+@Timed("kanban.service")
 @RequiredArgsConstructor
 public class TaskService {
     private final IdService idService;
     private final TaskRepository taskRepository;
     private final BoardRepository boardRepository;
+    private final BoardCache boardCache;
+    private final OrderingProperties orderingProperties;
+    private final TaskRankService taskRankService;
+    private final SearchProperties searchProperties;
+    private final TaskVersionCache taskVersionCache;
+    private final TransactionOperations writeTransactions;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String TASK_ELEMENT = "Task";
     private static final String BOARD_ELEMENT = "Board including column";
+    private static final int MAX_PAGE_SIZE = 500;
 
     public List<Task> getTasksByColumnId(String columnId) {
+        if (orderingProperties.ranked()) {
+            return taskRepository.findTasksByColumnIdOrderByRankAscIdAsc(columnId);
+        }
         return taskRepository.findTasksByColumnId(columnId)
                 .orElseThrow(() -> new ElementNotFoundException("Tasks in column", columnId));
     }
 
+    public List<TaskHeaderDto> getTaskHeadersByColumnId(String columnId) {
+        if (orderingProperties.ranked()) {
+            return taskRepository.findTaskHeadersByColumnIdOrderByRankAscIdAsc(columnId);
+        }
+        return taskRepository.findTaskHeadersByColumnId(columnId);
+    }
+
+    public TaskPageDto getTaskPage(String columnId, TaskQueryDto query, String after, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        TaskCursor cursor = after == null ? null : TaskCursor.decode(after, query.sortBy());
+        if (query.sortBy() == TaskQueryDto.SortBy.ORDER && !orderingProperties.ranked()) {
+            return getListOrderedPage(columnId, query, cursor, pageSize);
+        }
+        List<Task> tasks = cursor == null
+                ? taskRepository.findPage(columnId, query, null, null, pageSize + 1)
+                : taskRepository.findPage(columnId, query, cursor.sortValue(), cursor.id(), pageSize + 1);
+        if (tasks.size() <= pageSize) {
+            return new TaskPageDto(tasks, null);
+        }
+        List<Task> page = tasks.subList(0, pageSize);
+        return new TaskPageDto(page, TaskCursor.after(query.sortBy(), page.getLast()).encode());
+    }
+
+    public TaskPageDto searchTasks(String query, String boardId, String after, int limit) {
+        if (TaskSearchTerms.queryTerms(query).isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one word");
+        }
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        int offset = after == null ? 0 : Integer.parseInt(after);
+        if (offset < 0 || offset >= searchProperties.maxResults()) {
+            throw new IllegalArgumentException("Search cursor out of range: " + after);
+        }
+        List<String> columnIds = boardId == null
+                ? null
+                : BoardOperations.columnIds(boardCache.get(boardId, boardRepository::findById)
+                .orElseThrow(() -> new ElementNotFoundException("Board", boardId)));
+        List<Task> tasks = taskRepository.search(query, columnIds, offset, pageSize + 1);
+        if (tasks.size() <= pageSize || offset + pageSize >= searchProperties.maxResults()) {
+            return new TaskPageDto(tasks.subList(0, Math.min(tasks.size(), pageSize)), null);
+        }
+        return new TaskPageDto(tasks.subList(0, pageSize), String.valueOf(offset + pageSize));
+    }
+
     public Task getTaskById(String id) {
-        return taskRepository.findById(id)
+        return taskVersionCache.load(id, taskRepository::findById)
                 .orElseThrow(() -> new ElementNotFoundException(TASK_ELEMENT, id));
     }
 
+    public Optional<Long> getCachedVersion(String id) {
+        return taskVersionCache.getIfPresent(id);
+    }
+
     public Task createTask(String columnId, NewTaskDto task) {
         String generatedId = idService.generateId();
-        Board board = boardRepository.findByColumnId(columnId)
-                .orElseThrow(() -> new ElementNotFoundException(BOARD_ELEMENT, columnId));
-        board.columns().stream()
-                .filter(column -> column.id().equals(columnId))
-                .findFirst()
-                .ifPresent(column -> column.tasks().add(generatedId));
-        boardRepository.save(board);
-        return taskRepository.save(new Task(
+        Task newTask = new Task(
                 generatedId,
                 columnId,
                 task.title(),
                 task.description(),
-                task.deadline()));
+                task.deadline());
+        Task createdTask;
+        if (orderingProperties.ranked()) {
+            requireColumn(columnId);
+            createdTask = taskRepository.save(newTask.withRank(taskRankService.rankAt(columnId, generatedId, null)));
+        } else {
+            createdTask = writeTransactions.execute(status -> insertListedTask(newTask));
+            boardCache.evictByColumnId(columnId);
+        }
+        eventPublisher.publishEvent(BoardEventDto.taskCreated(createdTask));
+        return createdTask;
     }
 
     public Task updateTask(String id, TaskDto taskDto) {
-        Task existingTask = taskRepository.findById(id)
-                .orElseThrow(() -> new ElementNotFoundException(TASK_ELEMENT, id));
-        if (!existingTask.columnId().equals(taskDto.columnId())) {
-            Board board = boardRepository.findByColumnId(existingTask.columnId())
-                    .orElseThrow(() -> new ElementNotFoundException(BOARD_ELEMENT, taskDto.columnId()));
+        return updateTask(id, taskDto, null);
+    }
 
-            board.columns().stream()
-                    .filter(column -> column.id().equals(existingTask.columnId()))
-                    .findFirst()
-                    .ifPresent(column -> column.tasks().remove(id));
+    public Task updateTask(String id, TaskDto taskDto, Long expectedVersion) {
+        Task updatedTask = new Task(
+                id,
+                taskDto.columnId(),
+                taskDto.title(),
+                taskDto.description(),
+                taskDto.deadline());
+        if (orderingProperties.ranked()) {
+            return updateRankedTask(updatedTask, expectedVersion);
+        }
+        Task previousTask = writeTransactions.execute(status -> updateListedTask(updatedTask, expectedVersion));
+        Task savedTask = updatedTask.withVersion(nextVersion(previousTask));
+        if (!previousTask.columnId().equals(taskDto.columnId())) {
+            evictColumns(previousTask.columnId(), taskDto.columnId());
+            eventPublisher.publishEvent(BoardEventDto.taskMoved(savedTask, previousTask.columnId(), null));
+        } else {
+            eventPublisher.publishEvent(BoardEventDto.taskUpdated(savedTask));
+        }
+        return savedTask;
+    }
 
-            board.columns().stream()
-                    .filter(column -> column.id().equals(taskDto.columnId()))
-                    .findFirst()
-                    .ifPresent(column -> column.tasks().add(id));
+    public Task moveTask(String id, MoveTaskDto moveTaskDto) {
+        return moveTask(id, moveTaskDto, null);
+    }
 
-            boardRepository.save(board);
+    public Task moveTask(String id, MoveTaskDto moveTaskDto, Long expectedVersion) {
+        if (orderingProperties.ranked()) {
+            return moveRankedTask(id, moveTaskDto, expectedVersion);
         }
-        return taskRepository.save(existingTask
-                .withColumnId(taskDto.columnId())
-                .withTitle(taskDto.title())
-                .withDescription(taskDto.description())
-                .withDeadline(taskDto.deadline()));
+        Task previousTask = writeTransactions.execute(status -> moveListedTask(id, moveTaskDto, expectedVersion));
+        evictColumns(previousTask.columnId(), moveTaskDto.columnId());
+        Task movedTask = previousTask
+                .withColumnId(moveTaskDto.columnId())
+                .withVersion(nextVersion(previousTask));
+        eventPublisher.publishEvent(BoardEventDto.taskMoved(movedTask, previousTask.columnId(), moveTaskDto.position()));
+        return movedTask;
     }
 
     public void deleteTask(String id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ElementNotFoundException(TASK_ELEMENT, id));
-        Board board = boardRepository.findByColumnId(task.columnId())
-                .orElseThrow(() -> new ElementNotFoundException(BOARD_ELEMENT, task.columnId()));
-        board.columns().stream()
-                .filter(column -> column.id().equals(task.columnId()))
-                .findFirst()
-                .ifPresent(column -> column.tasks().remove(id));
-        boardRepository.save(board);
-        taskRepository.deleteById(id);
+        deleteTask(id, null);
+    }
+
+    public void deleteTask(String id, Long expectedVersion) {
+        if (orderingProperties.ranked()) {
+            Task task = taskRepository.findAndDelete(id, expectedVersion)
+                    .orElseThrow(() -> writeFailure(id, expectedVersion));
+            eventPublisher.publishEvent(BoardEventDto.taskDeleted(task.columnId(), id));
+            return;
+        }
+        Task task = writeTransactions.execute(status -> deleteListedTask(id, expectedVersion));
+        boardCache.evictByColumnId(task.columnId());
+        eventPublisher.publishEvent(BoardEventDto.taskDeleted(task.columnId(), id));
+    }
+
+    private Task insertListedTask(Task task) {
+        if (!boardRepository.pushTask(task.columnId(), task.id(), null)) {
+            throw new ElementNotFoundException(BOARD_ELEMENT, task.columnId());
+        }
+        return taskRepository.save(task);
+    }
+
+    private Task updateListedTask(Task updatedTask, Long expectedVersion) {
+        Task previousTask = taskRepository.findAndUpdate(updatedTask, expectedVersion)
+                .orElseThrow(() -> writeFailure(updatedTask.id(), expectedVersion));
+        if (!previousTask.columnId().equals(updatedTask.columnId())
+                && !boardRepository.moveTask(updatedTask.id(), previousTask.columnId(), updatedTask.columnId(), null)) {
+            taskRepository.findAndUpdate(previousTask, null);
+            throw new ElementNotFoundException(BOARD_ELEMENT, updatedTask.columnId());
+        }
+        return previousTask;
+    }
+
+    private Task moveListedTask(String id, MoveTaskDto moveTaskDto, Long expectedVersion) {
+        Task previousTask = taskRepository.findAndUpdateColumnId(id, moveTaskDto.columnId(), expectedVersion)
+                .orElseThrow(() -> writeFailure(id, expectedVersion));
+        if (!boardRepository.moveTask(id, previousTask.columnId(), moveTaskDto.columnId(), moveTaskDto.position())) {
+            taskRepository.findAndUpdateColumnId(id, previousTask.columnId(), null);
+            throw new ElementNotFoundException(BOARD_ELEMENT, moveTaskDto.columnId());
+        }
+        return previousTask;
+    }
+
+    private Task deleteListedTask(String id, Long expectedVersion) {
+        Task task = taskRepository.findAndDelete(id, expectedVersion)
+                .orElseThrow(() -> writeFailure(id, expectedVersion));
+        boardRepository.pullTask(task.columnId(), id);
+        return task;
+    }
+
+    private Task updateRankedTask(Task updatedTask, Long expectedVersion) {
+        String taskId = updatedTask.id();
+        Task previousTask = taskRepository.findPlacement(taskId)
+                .orElseThrow(() -> new ElementNotFoundException(TASK_ELEMENT, taskId));
+        if (expectedVersion != null && !expectedVersion.equals(previousTask.version())) {
+            throw new PreconditionFailedException(TASK_ELEMENT, taskId);
+        }
+        boolean columnChanged = !previousTask.columnId().equals(updatedTask.columnId());
+        if (columnChanged) {
+            requireColumn(updatedTask.columnId());
+            updatedTask = updatedTask.withRank(taskRankService.rankAt(updatedTask.columnId(), updatedTask.id(), null));
+        }
+        taskRepository.findAndUpdate(updatedTask, expectedVersion)
+                .orElseThrow(() -> writeFailure(previousTask.id(), expectedVersion));
+        Task savedTask = updatedTask
+                .withRank(columnChanged ? updatedTask.rank() : previousTask.rank())
+                .withVersion(nextVersion(previousTask));
+        eventPublisher.publishEvent(columnChanged
+                ? BoardEventDto.taskMoved(savedTask, previousTask.columnId(), null)
+                : BoardEventDto.taskUpdated(savedTask));
+        return savedTask;
+    }
+
+    private Task moveRankedTask(String id, MoveTaskDto moveTaskDto, Long expectedVersion) {
+        requireColumn(moveTaskDto.columnId());
+        String rank = taskRankService.rankAt(moveTaskDto.columnId(), id, moveTaskDto.position());
+        Task previousTask = taskRepository.findAndUpdatePosition(id, moveTaskDto.columnId(), rank, expectedVersion)
+                .orElseThrow(() -> writeFailure(id, expectedVersion));
+        Task movedTask = previousTask
+                .withColumnId(moveTaskDto.columnId())
+                .withRank(rank)
+                .withVersion(nextVersion(previousTask));
+        eventPublisher.publishEvent(BoardEventDto.taskMoved(movedTask, previousTask.columnId(), moveTaskDto.position()));
+        return movedTask;
+    }
+
+    private TaskPageDto getListOrderedPage(String columnId, TaskQueryDto query, TaskCursor cursor, int pageSize) {
+        List<String> taskIds = boardCache.getByColumnId(columnId, boardRepository::findByColumnId)
+                .flatMap(board -> board.columns().stream()
+                        .filter(column -> column.id().equals(columnId))
+                        .findFirst())
+                .map(Column::tasks)
+                .orElseThrow(() -> new ElementNotFoundException(BOARD_ELEMENT, columnId));
+        int start = cursor == null ? 0 : Math.clamp(cursor.offset(), 0, taskIds.size());
+        int end = Math.min(start + pageSize, taskIds.size());
+        List<String> pageTaskIds = taskIds.subList(start, end);
+        Map<String, Task> tasksById = new HashMap<>();
+        taskRepository.findAllMatching(pageTaskIds, query).forEach(task -> tasksById.put(task.id(), task));
+        List<Task> page = pageTaskIds.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        String nextCursor = end < taskIds.size()
+                ? new TaskCursor(TaskQueryDto.SortBy.ORDER, String.valueOf(end), null).encode()
+                : null;
+        return new TaskPageDto(page, nextCursor);
+    }
+
+    private RuntimeException writeFailure(String id, Long expectedVersion) {
+        if (expectedVersion != null && taskRepository.existsById(id)) {
+            return new PreconditionFailedException(TASK_ELEMENT, id);
+        }
+        return new ElementNotFoundException(TASK_ELEMENT, id);
+    }
+
+    private void requireColumn(String columnId) {
+        if (boardCache.getByColumnId(columnId, boardRepository::findByColumnId).isEmpty()) {
+            throw new ElementNotFoundException(BOARD_ELEMENT, columnId);
+        }
+    }
+
+    private void evictColumns(String fromColumnId, String toColumnId) {
+        boardCache.evictByColumnId(fromColumnId);
+        boardCache.evictByColumnId(toColumnId);
+    }
+
+    private static Long nextVersion(Task task) {
+        return task.version() == null ? 1L : task.version() + 1;
     }
 }
@@ -0,0 +1,107 @@
+package com.github.esgoet.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.esgoet.backend.config.BoardCacheProperties;
+import com.github.esgoet.backend.config.ChangeStreamProperties;
+import com.github.esgoet.backend.config.TaskVersionCacheProperties;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.model.Task;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Versions of recently read tasks, used to answer conditional reads without loading the task. Every task event
+ * invalidates its entry; a read that raced with an invalidation drops the version it loaded instead of caching it.
+ * Like {@link BoardCache}, it only learns about writes from other instances through the change-stream relay, so it
+ * stays disabled unless the relay is on or the deployment declares itself single-node.
+ */
+@Component
+public class TaskVersionCache {
+    private final Cache<String, Long> versions;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final boolean enabled;
+    private final boolean singleNode;
+    private volatile boolean suspended;
+
+    public TaskVersionCache(TaskVersionCacheProperties properties, BoardCacheProperties boardCacheProperties,
+                            ChangeStreamProperties changeStreamProperties) {
+        this.enabled = changeStreamProperties.enabled() || boardCacheProperties.singleNode();
+        this.singleNode = boardCacheProperties.singleNode();
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .build();
+    }
+
+    public Optional<Long> getIfPresent(String taskId) {
+        if (!enabled || suspended) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(versions.getIfPresent(taskId));
+    }
+
+    public Optional<Task> load(String taskId, Function<String, Optional<Task>> loader) {
+        long generation = generation();
+        Optional<Task> task = loader.apply(taskId);
+        task.ifPresent(loadedTask -> remember(loadedTask, generation));
+        return task;
+    }
+
+    public Mono<Task> load(String taskId, Supplier<Mono<Task>> loader) {
+        return Mono.defer(() -> {
+            long generation = generation();
+            return loader.get().doOnNext(loadedTask -> remember(loadedTask, generation));
+        });
+    }
+
+    private long generation() {
+        return invalidations.get();
+    }
+
+    private void remember(Task task, long generation) {
+        if (!enabled || suspended || task.version() == null) {
+            return;
+        }
+        versions.put(task.id(), task.version());
+        if (invalidations.get() != generation) {
+            versions.invalidate(task.id());
+        }
+    }
+
+    public void evict(String taskId) {
+        invalidations.incrementAndGet();
+        versions.invalidate(taskId);
+    }
+
+    @EventListener
+    public void onBoardEvent(BoardEventDto event) {
+        if (event.taskId() != null) {
+            evict(event.taskId());
+        } else if (event.type() == BoardEventDto.Type.BOARD_DELETED) {
+            invalidations.incrementAndGet();
+            versions.invalidateAll();
+        }
+    }
+
+    @EventListener
+    public void onChangeStreamStatus(ChangeStreamStatusEvent status) {
+        if (singleNode) {
+            return;
+        }
+        suspended = !status.live();
+        invalidations.incrementAndGet();
+        versions.invalidateAll();
+    }
+
+    @EventListener
+    public void onChangeStreamEvent(ChangeStreamEvent changeStreamEvent) {
+        onBoardEvent(changeStreamEvent.event());
+    }
+}
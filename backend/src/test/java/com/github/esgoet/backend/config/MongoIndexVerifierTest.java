@@ -0,0 +1,98 @@
+package com.github.esgoet.backend.config;
+
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MongoIndexVerifierTest {
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final IndexOperations boardIndexOps = mock(IndexOperations.class);
+    private final IndexOperations taskIndexOps = mock(IndexOperations.class);
+    private final MongoMappingContext mappingContext = new MongoMappingContext();
+
+    private static final IndexInfo ID_INDEX = index("_id_", "_id");
+    private static final IndexInfo RANK_INDEX = index("columnId_rank_id", "columnId", "rank", "_id");
+    private static final IndexInfo DEADLINE_INDEX = index("columnId_deadline_id", "columnId", "deadline", "_id");
+    private static final IndexInfo TITLE_INDEX = index("columnId_title", "columnId", "title");
+    private static final IndexInfo DUE_INDEX = index("deadline_id", "deadline", "_id");
+
+    @BeforeEach
+    void setUp() {
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        mappingContext.getPersistentEntity(Board.class);
+        mappingContext.getPersistentEntity(Task.class);
+        when(mongoTemplate.indexOps(Board.class)).thenReturn(boardIndexOps);
+        when(mongoTemplate.indexOps(Task.class)).thenReturn(taskIndexOps);
+        when(boardIndexOps.getIndexInfo()).thenReturn(List.of(ID_INDEX, index("columns_id", "columns.id")));
+    }
+
+    @Test
+    void findMissingIndexes_whenAllIndexesExist_ReturnEmptyList() {
+        //GIVEN
+        when(taskIndexOps.getIndexInfo()).thenReturn(List.of(ID_INDEX, RANK_INDEX, DEADLINE_INDEX, TITLE_INDEX, DUE_INDEX));
+        MongoIndexVerifier verifier = verifier(MongoIndexProperties.Verification.FAIL);
+        //WHEN
+        List<String> actual = verifier.findMissingIndexes();
+        //THEN
+        assertEquals(List.of(), actual);
+        assertDoesNotThrow(verifier::verifyIndexes);
+    }
+
+    @Test
+    void findMissingIndexes_whenTaskIndexMissing_ReturnMissingIndex() {
+        //GIVEN
+        when(taskIndexOps.getIndexInfo()).thenReturn(List.of(ID_INDEX, RANK_INDEX, DEADLINE_INDEX, DUE_INDEX));
+        MongoIndexVerifier verifier = verifier(MongoIndexProperties.Verification.WARN);
+        //WHEN
+        List<String> actual = verifier.findMissingIndexes();
+        //THEN
+        assertEquals(List.of("tasks[columnId, title]"), actual);
+        assertDoesNotThrow(verifier::verifyIndexes);
+    }
+
+    @Test
+    void verifyIndexes_whenIndexMissingAndFailEnabled_ThrowsIllegalStateException() {
+        //GIVEN
+        when(taskIndexOps.getIndexInfo()).thenReturn(List.of(ID_INDEX, RANK_INDEX, DEADLINE_INDEX, DUE_INDEX));
+        MongoIndexVerifier verifier = verifier(MongoIndexProperties.Verification.FAIL);
+        //WHEN
+        IllegalStateException exception = assertThrows(IllegalStateException.class, verifier::verifyIndexes);
+        //THEN
+        assertEquals("Missing MongoDB indexes: tasks[columnId, title]", exception.getMessage());
+    }
+
+    @Test
+    void verifyIndexes_whenVerificationOff_DoesNotQueryIndexes() {
+        //GIVEN
+        MongoIndexVerifier verifier = verifier(MongoIndexProperties.Verification.OFF);
+        //WHEN
+        verifier.verifyIndexes();
+        //THEN
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private MongoIndexVerifier verifier(MongoIndexProperties.Verification verification) {
+        return new MongoIndexVerifier(mongoTemplate, mappingContext, new MongoIndexProperties(verification));
+    }
+
+    private static IndexInfo index(String name, String... keys) {
+        List<IndexField> fields = Arrays.stream(keys)
+                .map(key -> IndexField.create(key, Sort.Direction.ASC))
+                .toList();
+        return new IndexInfo(fields, name, false, false, null);
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.esgoet.backend.config;
+
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MongoRequestTraceFilterTest {
+    private final MongoCommandTracer commandTracer = new MongoCommandTracer();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MongoRequestTraceFilter filter = new MongoRequestTraceFilter(commandTracer,
+            new MongoTracingProperties(true, 1, Duration.ofMinutes(1), 0), meterRegistry);
+
+    @Test
+    void doFilter_recordsCommandsIssuedDuringRequest() throws Exception {
+        //GIVEN
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/tasks/task-1");
+        issue(1, "find", "{ 'find': 'tasks' }");
+        //WHEN
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            issue(2, "findAndModify", "{ 'findAndModify': 'tasks' }");
+            issue(3, "update", "{ 'update': 'boards' }");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/{id}");
+        });
+        //THEN
+        DistributionSummary summary = meterRegistry.get(MongoRequestTraceFilter.ROUND_TRIPS_METRIC)
+                .tag("method", "DELETE")
+                .tag("uri", "/api/tasks/{id}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.totalAmount());
+        assertEquals(1, meterRegistry.get(MongoRequestTraceFilter.BUDGET_EXCEEDED_METRIC).counter().count());
+    }
+
+    @Test
+    void doFilter_whenNoHandlerMatched_recordsNothing() throws Exception {
+        //GIVEN
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/unknown");
+        //WHEN
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> issue(1, "find", "{ 'find': 'tasks' }"));
+        //THEN
+        assertNull(meterRegistry.find(MongoRequestTraceFilter.ROUND_TRIPS_METRIC).summary());
+    }
+
+    @Test
+    void scope_tracesCommandTypeCollectionDurationAndSize() {
+        //WHEN
+        List<MongoCommandTrace> actual;
+        try (MongoCommandTracer.Scope scope = commandTracer.open(true)) {
+            issue(1, "getMore", "{ 'getMore': 42, 'collection': 'tasks' }");
+            actual = scope.commands();
+        }
+        //THEN
+        MongoCommandTrace trace = actual.getFirst();
+        assertEquals("getMore", trace.commandName());
+        assertEquals("tasks", trace.collection());
+        assertEquals(Duration.ofMillis(3), trace.duration());
+        assertTrue(trace.commandBytes() > 0);
+        assertTrue(trace.succeeded());
+    }
+
+    @Test
+    void scope_whenNotMeasuringBytes_leavesSizesUnset() {
+        //WHEN
+        List<MongoCommandTrace> actual;
+        try (MongoCommandTracer.Scope scope = commandTracer.open(false)) {
+            issue(1, "find", "{ 'find': 'tasks' }");
+            actual = scope.commands();
+        }
+        //THEN
+        MongoCommandTrace trace = actual.getFirst();
+        assertEquals("tasks", trace.collection());
+        assertNull(trace.commandBytes());
+        assertNull(trace.responseBytes());
+    }
+
+    private void issue(int requestId, String commandName, String command) {
+        CommandStartedEvent started = mock(CommandStartedEvent.class);
+        when(started.getRequestId()).thenReturn(requestId);
+        when(started.getCommandName()).thenReturn(commandName);
+        when(started.getCommand()).thenReturn(BsonDocument.parse(command));
+        CommandSucceededEvent succeeded = mock(CommandSucceededEvent.class);
+        when(succeeded.getRequestId()).thenReturn(requestId);
+        when(succeeded.getElapsedTime(TimeUnit.NANOSECONDS)).thenReturn(TimeUnit.MILLISECONDS.toNanos(3));
+        when(succeeded.getResponse()).thenReturn(BsonDocument.parse("{ 'ok': 1 }"));
+        commandTracer.commandStarted(started);
+        commandTracer.commandSucceeded(succeeded);
+    }
+}
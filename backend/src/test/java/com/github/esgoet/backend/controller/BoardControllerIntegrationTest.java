@@ -1,21 +1,32 @@
 package com.github.esgoet.backend.controller;
 
+import com.github.esgoet.backend.config.VersionBackfillRunner;
 import com.github.esgoet.backend.model.Board;
 import com.github.esgoet.backend.model.Column;
 import com.github.esgoet.backend.model.Task;
 import com.github.esgoet.backend.repository.BoardRepository;
+import com.github.esgoet.backend.repository.MigrationRepository;
 import com.github.esgoet.backend.repository.TaskRepository;
+import com.github.esgoet.backend.service.CleanupJobService;
+import com.jayway.jsonpath.JsonPath;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.Instant;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -28,6 +39,14 @@ class BoardControllerIntegrationTest {
     private BoardRepository boardRepository;
     @Autowired
     private TaskRepository taskRepository;
+    @Autowired
+    private CleanupJobService cleanupJobService;
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private VersionBackfillRunner versionBackfillRunner;
+    @Autowired
+    private MigrationRepository migrationRepository;
 
     private Board board;
     private Task task;
@@ -48,6 +67,85 @@ class BoardControllerIntegrationTest {
                 .andExpect(content().json("[]"));
     }
 
+    @DirtiesContext
+    @Test
+    void getBoardSummaries() throws Exception {
+        //GIVEN
+        boardRepository.save(board);
+        boardRepository.save(new Board("2", "Board 2", List.of()));
+        //WHEN
+        mockMvc.perform(get("/api/boards/summaries").param("limit", "1"))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        {
+                          "boards": [
+                            {
+                              "id": "1",
+                              "name": "Board 1",
+                              "columnCount": 1
+                            }
+                          ],
+                          "nextCursor": "1"
+                        }
+                        """));
+        //WHEN
+        mockMvc.perform(get("/api/boards/summaries").param("after", "1"))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        {
+                          "boards": [
+                            {
+                              "id": "2",
+                              "name": "Board 2",
+                              "columnCount": 0
+                            }
+                          ]
+                        }
+                        """))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @DirtiesContext
+    @Test
+    void streamBoardSummaries() throws Exception {
+        //GIVEN
+        boardRepository.save(board);
+        boardRepository.save(new Board("2", "Board 2", List.of()));
+        //WHEN
+        MvcResult result = mockMvc.perform(get("/api/boards/summaries/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("""
+                        {"id":"1","name":"Board 1","columnCount":1}
+                        {"id":"2","name":"Board 2","columnCount":0}
+                        """));
+    }
+
+    @DirtiesContext
+    @Test
+    void getBoardOutline_OmitsTaskIds() throws Exception {
+        //GIVEN
+        boardRepository.save(board);
+        //WHEN
+        mockMvc.perform(get("/api/boards/1/outline"))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        {
+                          "id": "1",
+                          "name": "Board 1",
+                          "columns": [{ "id": "col-1", "name": "Column 1" }]
+                        }
+                        """))
+                .andExpect(jsonPath("$.columns[0].tasks").doesNotExist());
+    }
+
     @DirtiesContext
     @Test
     void getBoardById() throws Exception {
@@ -72,6 +170,148 @@ class BoardControllerIntegrationTest {
                         """));
     }
 
+    @DirtiesContext
+    @Test
+    void getBoardById_whenETagMatches_ReturnsNotModified() throws Exception {
+        //GIVEN
+        boardRepository.save(board);
+        mockMvc.perform(get("/api/boards/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""));
+        //WHEN
+        mockMvc.perform(get("/api/boards/1").header("If-None-Match", "\"0\""))
+                //THEN
+                .andExpect(status().isNotModified());
+        //WHEN
+        mockMvc.perform(put("/api/boards/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType("application/json")
+                        .content("""
+                                {
+                                  "name": "Board 1 renamed",
+                                  "columns": [{"id": "col-1", "name": "Column 1", "tasks": ["task-1"]}]
+                                }
+                                """))
+                //THEN
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @DirtiesContext
+    @Test
+    void getBoardSnapshot() throws Exception {
+        //GIVEN
+        taskRepository.save(task.withDeadline(Instant.parse("2025-01-01T00:00:00Z")));
+        boardRepository.save(board);
+        //WHEN
+        mockMvc.perform(get("/api/boards/1/snapshot"))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        {
+                          "id": "1",
+                          "name": "Board 1",
+                          "columns": [
+                            {
+                              "id": "col-1",
+                              "name": "Column 1",
+                              "tasks": [
+                                {
+                                  "id": "task-1",
+                                  "columnId": "col-1",
+                                  "title": "Task 1",
+                                  "description": "This is task 1",
+                                  "deadline": "2025-01-01T00:00:00Z"
+                                }
+                              ]
+                            }
+                          ]
+                        }
+                        """));
+    }
+
+    @DirtiesContext
+    @Test
+    void getBoardEvents_streamsTaskChanges() throws Exception {
+        //GIVEN
+        boardRepository.save(board);
+        MvcResult result = mockMvc.perform(get("/api/boards/1/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        //WHEN
+        mockMvc.perform(post("/api/tasks/column/col-1")
+                        .contentType("application/json")
+                        .content("""
+                        {
+                          "title": "Task 2",
+                          "description": "This is task 2"
+                        }
+                        """))
+                .andExpect(status().isCreated());
+        //THEN
+        String events = awaitContent(result, "event:TASK_CREATED");
+        assertTrue(events.contains("\"boardId\":\"1\""));
+        assertTrue(events.contains("\"title\":\"Task 2\""));
+    }
+
+    @DirtiesContext
+    @Test
+    void getBoardEvents_streamsBoardChangesInsteadOfBoard() throws Exception {
+        //GIVEN
+        boardRepository.save(board);
+        MvcResult result = mockMvc.perform(get("/api/boards/1/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        //WHEN
+        mockMvc.perform(put("/api/boards/1")
+                        .contentType("application/json")
+                        .content("""
+                                {
+                                  "name": "Board 1 renamed",
+                                  "columns": [{"id": "col-1", "name": "Column 1", "tasks": ["task-1"]}]
+                                }
+                                """))
+                .andExpect(status().isOk());
+        //THEN
+        String events = awaitContent(result, "event:BOARD_UPDATED");
+        assertTrue(events.contains("\"changes\":{\"name\":\"Board 1 renamed\"}"));
+        assertFalse(events.contains("\"board\":"));
+    }
+
+    @DirtiesContext
+    @Test
+    void createBoard_whenIdempotencyKeyIsRepeated_ReturnsOriginalBoard() throws Exception {
+        //GIVEN
+        MvcResult first = mockMvc.perform(post("/api/boards")
+                        .header("Idempotency-Key", "create-board-1")
+                        .contentType("application/json")
+                        .content("""
+                                { "name": "Board 1" }
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String boardId = JsonPath.read(first.getResponse().getContentAsString(), "$.id");
+        //WHEN
+        mockMvc.perform(post("/api/boards")
+                        .header("Idempotency-Key", "create-board-1")
+                        .contentType("application/json")
+                        .content("""
+                                { "name": "Board 1" }
+                                """))
+                //THEN
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(boardId));
+        assertEquals(1, boardRepository.count());
+        //WHEN
+        mockMvc.perform(post("/api/boards")
+                        .header("Idempotency-Key", "create-board-1")
+                        .contentType("application/json")
+                        .content("""
+                                { "name": "Board 2" }
+                                """))
+                //THEN
+                .andExpect(status().isUnprocessableEntity());
+    }
+
     @DirtiesContext
     @Test
     void createBoard() throws Exception {
@@ -174,6 +414,37 @@ class BoardControllerIntegrationTest {
                 .andExpect(jsonPath("$.columns[1].id").exists());
     }
 
+    @DirtiesContext
+    @Test
+    void updateBoard_whenBoardPredatesVersioning() throws Exception {
+        //GIVEN
+        Document legacyBoard = new Document();
+        mongoTemplate.getConverter().write(board.withColumns(List.of(new Column("col-1", "Column 1", List.of()))), legacyBoard);
+        legacyBoard.remove("version");
+        mongoTemplate.insert(legacyBoard, "boards");
+        migrationRepository.deleteAll();
+        versionBackfillRunner.run(new DefaultApplicationArguments());
+        //WHEN
+        mockMvc.perform(put("/api/boards/1")
+                .contentType("application/json")
+                .content("""
+                        {
+                          "name": "Board 2",
+                          "columns": [
+                            {
+                              "id": "col-1",
+                              "name": "Column 1",
+                              "tasks": []
+                            }
+                          ]
+                        }
+                        """))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Board 2"));
+        assertEquals(1L, boardRepository.findById("1").orElseThrow().version());
+    }
+
     @DirtiesContext
     @Test
     void updateBoard_whenDeletingAColumn() throws Exception {
@@ -200,6 +471,7 @@ class BoardControllerIntegrationTest {
                         }
                         """));
         //WHEN
+        cleanupJobService.processPendingJobs();
         mockMvc.perform(get("/api/tasks/task-1"))
                 //THEN
                 .andExpect(status().isNotFound());
@@ -223,17 +495,59 @@ class BoardControllerIntegrationTest {
         taskRepository.save(task);
         boardRepository.save(board);
         //WHEN
-        mockMvc.perform(delete("/api/boards/1"))
+        String response = mockMvc.perform(delete("/api/boards/1"))
                 //THEN
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted())
+                .andExpect(content().json("""
+                        {
+                          "boardId": "1",
+                          "pendingColumnIds": ["col-1"],
+                          "status": "PENDING",
+                          "deletedTaskCount": 0
+                        }
+                        """))
+                .andReturn().getResponse().getContentAsString();
+        String jobId = JsonPath.read(response, "$.id");
         //WHEN
+        mockMvc.perform(get("/api/boards/1"))
+                //THEN
+                .andExpect(status().isNotFound());
+        //WHEN
+        cleanupJobService.processPendingJobs();
         mockMvc.perform(get("/api/tasks/task-1"))
                 //THEN
                 .andExpect(status().isNotFound());
         //WHEN
-        mockMvc.perform(get("/api/boards/1"))
+        mockMvc.perform(get("/api/jobs/" + jobId))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        {
+                          "boardId": "1",
+                          "pendingColumnIds": [],
+                          "status": "COMPLETED",
+                          "deletedTaskCount": 1
+                        }
+                        """))
+                .andExpect(jsonPath("$.completedAt").exists());
+    }
+
+    @Test
+    void getJob_whenJobDoesNotExist() throws Exception {
+        //WHEN
+        mockMvc.perform(get("/api/jobs/999"))
                 //THEN
                 .andExpect(status().isNotFound());
+    }
 
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), content);
+        return content;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,206 @@
+package com.github.esgoet.backend.controller;
+
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Column;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.BoardRepository;
+import com.github.esgoet.backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+class ReactiveTaskControllerIntegrationTest {
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private BoardRepository boardRepository;
+
+    private Task task;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        task = new Task("task-1", "col-1", "Task 1", "This is task 1", Instant.parse("2025-01-01T00:00:00Z"));
+        board = new Board("1", "Board 1", List.of(new Column("col-1", "Column 1", List.of("task-1")), new Column("col-2", "Column 2", new ArrayList<>())));
+    }
+
+    @DirtiesContext
+    @Test
+    void getTaskById() {
+        //GIVEN
+        taskRepository.save(task);
+        //WHEN
+        webTestClient.get().uri("/api/tasks/task-1")
+                .exchange()
+                //THEN
+                .expectStatus().isOk()
+                .expectBody().json("""
+                        {
+                          "id": "task-1",
+                          "columnId": "col-1",
+                          "title": "Task 1",
+                          "description": "This is task 1",
+                          "deadline": "2025-01-01T00:00:00Z"
+                        }""");
+    }
+
+    @Test
+    void getTaskById_whenTaskDoesNotExist() {
+        //WHEN
+        webTestClient.get().uri("/api/tasks/task-999")
+                .exchange()
+                //THEN
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.message").isEqualTo("Task with ID task-999 not found");
+    }
+
+    @DirtiesContext
+    @Test
+    void createTask() {
+        //GIVEN
+        boardRepository.save(board);
+        //WHEN
+        webTestClient.post().uri("/api/tasks/column/col-2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                          "title": "Task 2",
+                          "description": "This is task 2"
+                        }
+                        """)
+                .exchange()
+                //THEN
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").exists()
+                .jsonPath("$.columnId").isEqualTo("col-2");
+        //WHEN
+        webTestClient.get().uri("/api/boards/1")
+                .exchange()
+                //THEN
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.columns[1].tasks[0]").exists();
+    }
+
+    @DirtiesContext
+    @Test
+    void moveTask_whenMovingToPosition() {
+        //GIVEN
+        taskRepository.save(task);
+        boardRepository.save(new Board("1", "Board 1", List.of(
+                new Column("col-1", "Column 1", List.of("task-1")),
+                new Column("col-2", "Column 2", List.of("task-2", "task-3")))));
+        //WHEN
+        webTestClient.put().uri("/api/tasks/task-1/move")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                          "columnId": "col-2",
+                          "position": 1
+                        }
+                        """)
+                .exchange()
+                //THEN
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.columnId").isEqualTo("col-2");
+        //WHEN
+        webTestClient.get().uri("/api/boards/1")
+                .exchange()
+                //THEN
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.columns[0].tasks").isEmpty()
+                .jsonPath("$.columns[1].tasks[0]").isEqualTo("task-2")
+                .jsonPath("$.columns[1].tasks[1]").isEqualTo("task-1")
+                .jsonPath("$.columns[1].tasks[2]").isEqualTo("task-3");
+    }
+
+    @DirtiesContext
+    @Test
+    void updateTask_whenTargetColumnDoesNotExist() {
+        //GIVEN
+        taskRepository.save(task);
+        boardRepository.save(board);
+        //WHEN
+        webTestClient.put().uri("/api/tasks/task-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                          "columnId": "col-999",
+                          "title": "Task 1",
+                          "description": "This is task 1"
+                        }
+                        """)
+                .exchange()
+                //THEN
+                .expectStatus().isNotFound();
+        //WHEN
+        webTestClient.get().uri("/api/tasks/task-1")
+                .exchange()
+                //THEN
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.columnId").isEqualTo("col-1");
+    }
+
+    @DirtiesContext
+    @Test
+    void updateTask_whenIfMatchIsStale_ReturnsPreconditionFailed() {
+        //GIVEN
+        taskRepository.save(task);
+        boardRepository.save(board);
+        //WHEN
+        webTestClient.put().uri("/api/tasks/task-1")
+                .header("If-Match", "\"5\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                          "columnId": "col-1",
+                          "title": "Task 1",
+                          "description": "This is task 1"
+                        }
+                        """)
+                .exchange()
+                //THEN
+                .expectStatus().isEqualTo(412);
+        //WHEN
+        webTestClient.delete().uri("/api/tasks/task-1")
+                .header("If-Match", "\"0\"")
+                .exchange()
+                //THEN
+                .expectStatus().isNoContent();
+    }
+
+    @DirtiesContext
+    @Test
+    void deleteTask() {
+        //GIVEN
+        taskRepository.save(task);
+        boardRepository.save(board);
+        //WHEN
+        webTestClient.delete().uri("/api/tasks/task-1")
+                .exchange()
+                //THEN
+                .expectStatus().isNoContent();
+        //WHEN
+        webTestClient.get().uri("/api/boards/1")
+                .exchange()
+                //THEN
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.columns[0].tasks").isEmpty();
+    }
+}
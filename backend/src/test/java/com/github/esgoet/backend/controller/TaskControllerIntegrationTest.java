@@ -1,10 +1,13 @@
 package com.github.esgoet.backend.controller;
 
+import com.github.esgoet.backend.config.MongoCommandTracer;
+import com.github.esgoet.backend.config.MongoCommandTrace;
 import com.github.esgoet.backend.model.Board;
 import com.github.esgoet.backend.model.Column;
 import com.github.esgoet.backend.model.Task;
 import com.github.esgoet.backend.repository.BoardRepository;
 import com.github.esgoet.backend.repository.TaskRepository;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,11 +15,15 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -29,6 +36,8 @@ class TaskControllerIntegrationTest {
     private TaskRepository taskRepository;
     @Autowired
     private BoardRepository boardRepository;
+    @Autowired
+    private MongoCommandTracer commandTracer;
 
     private Task task;
     private Board board;
@@ -59,6 +68,118 @@ class TaskControllerIntegrationTest {
                         """));
     }
 
+    @Test
+    void getTaskHeadersByColumnId_OmitsDescription() throws Exception {
+        //GIVEN
+        taskRepository.save(task);
+        //WHEN
+        mockMvc.perform(get("/api/tasks/column/col-1/headers"))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        [{
+                          "id": "task-1",
+                          "columnId": "col-1",
+                          "title": "Task 1",
+                          "deadline": "2025-01-01T00:00:00Z"
+                        }]
+                        """))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+    }
+
+    @DirtiesContext
+    @Test
+    void getTaskPage_whenSortedByDeadline_PagesWithCursor() throws Exception {
+        //GIVEN
+        taskRepository.save(new Task("task-1", "col-1", "Report", null, Instant.parse("2025-01-03T00:00:00Z")));
+        taskRepository.save(new Task("task-2", "col-1", "Review", null, Instant.parse("2025-01-01T00:00:00Z")));
+        taskRepository.save(new Task("task-3", "col-1", "Release", null, Instant.parse("2025-01-02T00:00:00Z")));
+        taskRepository.save(new Task("task-4", "col-1", "Plan", null, Instant.parse("2025-01-01T12:00:00Z")));
+        //WHEN
+        MvcResult result = mockMvc.perform(get("/api/tasks/column/col-1/page")
+                        .param("sortBy", "DEADLINE")
+                        .param("titlePrefix", "Re")
+                        .param("limit", "2"))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].id").value("task-2"))
+                .andExpect(jsonPath("$.tasks[1].id").value("task-3"))
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andReturn();
+        String nextCursor = JsonPath.read(result.getResponse().getContentAsString(), "$.nextCursor");
+        //WHEN
+        mockMvc.perform(get("/api/tasks/column/col-1/page")
+                        .param("sortBy", "DEADLINE")
+                        .param("titlePrefix", "Re")
+                        .param("limit", "2")
+                        .param("after", nextCursor))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(1))
+                .andExpect(jsonPath("$.tasks[0].id").value("task-1"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getTaskPage_whenCursorIsInvalid_ReturnsBadRequest() throws Exception {
+        //WHEN
+        mockMvc.perform(get("/api/tasks/column/col-1/page")
+                        .param("sortBy", "DEADLINE")
+                        .param("after", "not a cursor"))
+                //THEN
+                .andExpect(status().isBadRequest());
+    }
+
+    @DirtiesContext
+    @Test
+    void searchTasks_ReturnsPrefixMatchesByRelevance() throws Exception {
+        //GIVEN
+        boardRepository.save(board);
+        taskRepository.save(new Task("task-1", "col-1", "Write notes", "Review the release", null));
+        taskRepository.save(new Task("task-2", "col-2", "Release review", null, null));
+        taskRepository.save(new Task("task-3", "col-2", "Plan sprint", null, null));
+        //WHEN
+        mockMvc.perform(get("/api/tasks/search")
+                        .param("q", "rev")
+                        .param("boardId", "1"))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(2))
+                .andExpect(jsonPath("$.tasks[0].id").value("task-2"))
+                .andExpect(jsonPath("$.tasks[1].id").value("task-1"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @DirtiesContext
+    @Test
+    void streamOverdueTasks_StreamsBoardTasksByDeadline() throws Exception {
+        //GIVEN
+        boardRepository.save(board);
+        taskRepository.save(new Task("task-1", "col-1", "Report", null, Instant.parse("2025-01-03T00:00:00Z")));
+        taskRepository.save(new Task("task-2", "col-2", "Review", null, Instant.parse("2025-01-01T00:00:00Z")));
+        taskRepository.save(new Task("task-3", "col-3", "Release", null, Instant.parse("2025-01-02T00:00:00Z")));
+        taskRepository.save(new Task("task-4", "col-1", "Plan", null, Instant.now().plus(Duration.ofDays(1))));
+        //WHEN
+        MvcResult result = mockMvc.perform(get("/api/tasks/deadlines/overdue").param("boardId", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(stringContainsInOrder("\"id\":\"task-2\"", "\"id\":\"task-1\"")))
+                .andExpect(content().string(not(containsString("task-3"))))
+                .andExpect(content().string(not(containsString("task-4"))));
+    }
+
+    @Test
+    void streamUpcomingTasks_whenWindowExceedsMaximum_ReturnsBadRequest() throws Exception {
+        //WHEN
+        mockMvc.perform(get("/api/tasks/deadlines/upcoming").param("within", "P365D"))
+                //THEN
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getTaskById() throws Exception {
         //GIVEN
@@ -77,6 +198,48 @@ class TaskControllerIntegrationTest {
                         }"""));
     }
 
+    @DirtiesContext
+    @Test
+    void getTaskById_whenETagMatches_ReturnsNotModified() throws Exception {
+        //GIVEN
+        taskRepository.save(task);
+        mockMvc.perform(get("/api/tasks/task-1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""));
+        //WHEN
+        mockMvc.perform(get("/api/tasks/task-1").header("If-None-Match", "\"0\""))
+                //THEN
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(content().string(""));
+    }
+
+    @DirtiesContext
+    @Test
+    void updateTask_whenIfMatchIsStale_ReturnsPreconditionFailed() throws Exception {
+        //GIVEN
+        taskRepository.save(task);
+        //WHEN
+        mockMvc.perform(put("/api/tasks/task-1")
+                .header("If-Match", "\"5\"")
+                .contentType("application/json")
+                .content("""
+                        {
+                          "columnId": "col-1",
+                          "title": "Task 1",
+                          "description": "This is task 1",
+                          "deadline": "2025-02-01T00:00:00Z"
+                        }
+                        """))
+                //THEN
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value("Task with ID task-1 does not match the given If-Match precondition"));
+        //WHEN
+        mockMvc.perform(delete("/api/tasks/task-1").header("If-Match", "\"0\""))
+                //THEN
+                .andExpect(status().isNoContent());
+    }
+
     @DirtiesContext
     @Test
     void createTask() throws Exception {
@@ -209,6 +372,172 @@ class TaskControllerIntegrationTest {
                         """));
     }
 
+    @Test
+    @DirtiesContext
+    void moveTask_whenMovingToPosition() throws Exception {
+        //GIVEN
+        taskRepository.save(task);
+        boardRepository.save(new Board("1", "Board 1", List.of(
+                new Column("col-1", "Column 1", List.of("task-1")),
+                new Column("col-2", "Column 2", List.of("task-2", "task-3")))));
+        //WHEN
+        mockMvc.perform(put("/api/tasks/task-1/move")
+                        .contentType("application/json")
+                        .content("""
+                        {
+                          "columnId": "col-2",
+                          "position": 1
+                        }
+                        """))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        {
+                          "id": "task-1",
+                          "columnId": "col-2",
+                          "title": "Task 1",
+                          "description": "This is task 1",
+                          "deadline": "2025-01-01T00:00:00Z"
+                        }
+                        """));
+        //WHEN
+        mockMvc.perform(get("/api/boards/1"))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        {
+                          "id": "1",
+                          "name": "Board 1",
+                          "columns": [
+                            {
+                              "id": "col-1",
+                              "name": "Column 1",
+                              "tasks": []
+                            },
+                            {
+                              "id": "col-2",
+                              "name": "Column 2",
+                              "tasks": ["task-2", "task-1", "task-3"]
+                            }
+                          ]
+                        }
+                        """))
+                .andExpect(jsonPath("$.columns[1].tasks[0]").value("task-2"))
+                .andExpect(jsonPath("$.columns[1].tasks[1]").value("task-1"))
+                .andExpect(jsonPath("$.columns[1].tasks[2]").value("task-3"));
+    }
+
+    @Test
+    @DirtiesContext
+    void moveTask_whenMovingWithinColumn() throws Exception {
+        //GIVEN
+        taskRepository.save(task);
+        boardRepository.save(new Board("1", "Board 1", List.of(
+                new Column("col-1", "Column 1", List.of("task-1", "task-2", "task-3")),
+                new Column("col-2", "Column 2", List.of()))));
+        //WHEN
+        mockMvc.perform(put("/api/tasks/task-1/move")
+                        .contentType("application/json")
+                        .content("""
+                        {
+                          "columnId": "col-1",
+                          "position": 1
+                        }
+                        """))
+                //THEN
+                .andExpect(status().isOk());
+        //WHEN
+        mockMvc.perform(get("/api/boards/1"))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns[0].tasks[0]").value("task-2"))
+                .andExpect(jsonPath("$.columns[0].tasks[1]").value("task-1"))
+                .andExpect(jsonPath("$.columns[0].tasks[2]").value("task-3"))
+                .andExpect(jsonPath("$.columns[1].tasks").isEmpty());
+    }
+
+    @DirtiesContext
+    @Test
+    void executeBulkOperations() throws Exception {
+        //GIVEN
+        taskRepository.save(task);
+        boardRepository.save(board);
+        //WHEN
+        mockMvc.perform(post("/api/tasks/bulk")
+                        .contentType("application/json")
+                        .content("""
+                        [
+                          {
+                            "type": "CREATE",
+                            "columnId": "col-2",
+                            "title": "Task 2",
+                            "description": "This is task 2"
+                          },
+                          {
+                            "type": "DELETE",
+                            "id": "task-1"
+                          },
+                          {
+                            "type": "DELETE",
+                            "id": "task-999"
+                          }
+                        ]
+                        """))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        [
+                          {
+                            "index": 0,
+                            "statusCode": 201
+                          },
+                          {
+                            "index": 1,
+                            "id": "task-1",
+                            "statusCode": 204
+                          },
+                          {
+                            "index": 2,
+                            "id": "task-999",
+                            "statusCode": 404
+                          }
+                        ]
+                        """))
+                .andExpect(jsonPath("$[0].id").exists());
+        //WHEN
+        mockMvc.perform(get("/api/tasks/task-1"))
+                //THEN
+                .andExpect(status().isNotFound());
+        //WHEN
+        mockMvc.perform(get("/api/tasks/column/col-2"))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Task 2"));
+        //WHEN
+        mockMvc.perform(get("/api/boards/1"))
+                //THEN
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns[0].tasks").isEmpty())
+                .andExpect(jsonPath("$.columns[1].tasks[0]").exists());
+    }
+
+    @DirtiesContext
+    @Test
+    void deleteTask_staysWithinMongoRoundTripBudget() throws Exception {
+        //GIVEN
+        taskRepository.save(task);
+        boardRepository.save(board);
+        try (MongoCommandTracer.Scope scope = commandTracer.open(false)) {
+            //WHEN
+            mockMvc.perform(delete("/api/tasks/task-1"))
+                    .andExpect(status().isNoContent());
+            //THEN
+            assertEquals(List.of("tasks", "boards"), scope.commands().stream()
+                    .map(MongoCommandTrace::collection)
+                    .toList());
+        }
+    }
+
     @DirtiesContext
     @Test
     void deleteTask() throws Exception {
@@ -0,0 +1,43 @@
+package com.github.esgoet.backend.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSearchTermsTest {
+
+    @Test
+    void of_ReturnsLowercaseWordPrefixes() {
+        //WHEN
+        List<String> actual = TaskSearchTerms.of("Fix API-bug");
+        //THEN
+        assertEquals(List.of("fi", "fix", "ap", "api", "bu", "bug"), actual);
+    }
+
+    @Test
+    void of_whenWordIsLong_StopsAtMaximumPrefixLength() {
+        //WHEN
+        List<String> actual = TaskSearchTerms.of("internationalization");
+        //THEN
+        assertEquals("internationaliz", actual.getLast());
+        assertEquals(14, actual.size());
+    }
+
+    @Test
+    void of_whenTextIsNull_ReturnsEmptyList() {
+        //WHEN
+        List<String> actual = TaskSearchTerms.of(null);
+        //THEN
+        assertEquals(List.of(), actual);
+    }
+
+    @Test
+    void queryTerms_TruncatesWordsToIndexedPrefixLength() {
+        //WHEN
+        List<String> actual = TaskSearchTerms.queryTerms("Internationalization rel rel");
+        //THEN
+        assertEquals(List.of("internationaliz", "rel"), actual);
+    }
+}
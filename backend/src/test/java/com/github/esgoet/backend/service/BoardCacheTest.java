@@ -0,0 +1,249 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.BoardCacheProperties;
+import com.github.esgoet.backend.config.ChangeStreamProperties;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.dto.CacheStatsDto;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Column;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BoardCacheTest {
+    private final BoardCache boardCache = new BoardCache(new BoardCacheProperties(100, Duration.ofMinutes(10), false), new ChangeStreamProperties(true, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1)));
+    private final Board board = new Board("1", "Board 1", List.of(
+            new Column("col-1", "Column 1", List.of()),
+            new Column("col-2", "Column 2", List.of())));
+
+    @SuppressWarnings("unchecked")
+    private final Function<String, Optional<Board>> loader = mock(Function.class);
+
+    @Test
+    void get_whenCached_doesNotCallLoader() {
+        //GIVEN
+        boardCache.put(board);
+        //WHEN
+        Optional<Board> actual = boardCache.get("1", loader);
+        //THEN
+        assertEquals(Optional.of(board), actual);
+        verifyNoInteractions(loader);
+    }
+
+    @Test
+    void get_whenNotCached_loadsOnceAndCaches() {
+        //GIVEN
+        when(loader.apply("1")).thenReturn(Optional.of(board));
+        //WHEN
+        boardCache.get("1", loader);
+        Optional<Board> actual = boardCache.get("1", loader);
+        //THEN
+        assertEquals(Optional.of(board), actual);
+        verify(loader, times(1)).apply("1");
+    }
+
+    @Test
+    void get_whenLoaderFindsNothing_returnsEmpty() {
+        //GIVEN
+        when(loader.apply("999")).thenReturn(Optional.empty());
+        //WHEN
+        Optional<Board> actual = boardCache.get("999", loader);
+        //THEN
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void getByColumnId_whenBoardCached_usesColumnIndex() {
+        //GIVEN
+        boardCache.put(board);
+        //WHEN
+        Optional<Board> actual = boardCache.getByColumnId("col-2", loader);
+        //THEN
+        assertEquals(Optional.of(board), actual);
+        verifyNoInteractions(loader);
+    }
+
+    @Test
+    void getByColumnId_whenColumnRemovedFromBoard_callsLoader() {
+        //GIVEN
+        boardCache.put(board);
+        Board updatedBoard = board.withColumns(List.of(new Column("col-1", "Column 1", List.of())));
+        boardCache.put(updatedBoard);
+        when(loader.apply("col-2")).thenReturn(Optional.empty());
+        //WHEN
+        Optional<Board> actual = boardCache.getByColumnId("col-2", loader);
+        //THEN
+        assertTrue(actual.isEmpty());
+        verify(loader).apply("col-2");
+    }
+
+    @Test
+    void evictByColumnId_removesOwningBoard() {
+        //GIVEN
+        boardCache.put(board);
+        when(loader.apply("1")).thenReturn(Optional.of(board));
+        //WHEN
+        boardCache.evictByColumnId("col-1");
+        boardCache.get("1", loader);
+        //THEN
+        verify(loader).apply("1");
+    }
+
+    @Test
+    void remove_dropsBoardAndColumnIndex() {
+        //GIVEN
+        boardCache.put(board);
+        when(loader.apply("col-1")).thenReturn(Optional.empty());
+        //WHEN
+        boardCache.remove("1");
+        Optional<Board> actual = boardCache.getByColumnId("col-1", loader);
+        //THEN
+        assertTrue(actual.isEmpty());
+        verify(loader).apply("col-1");
+    }
+
+    @Test
+    void evict_dropsColumnIndex() {
+        //GIVEN
+        boardCache.put(board);
+        Board movedColumnBoard = new Board("2", "Board 2", List.of(new Column("col-2", "Column 2", List.of())));
+        when(loader.apply("col-2")).thenReturn(Optional.of(movedColumnBoard));
+        //WHEN
+        boardCache.evict("1");
+        Optional<Board> actual = boardCache.getByColumnId("col-2", loader);
+        //THEN
+        assertEquals(Optional.of(movedColumnBoard), actual);
+        verify(loader, times(1)).apply("col-2");
+    }
+
+    @Test
+    void get_whenInvalidatedDuringLoad_returnsButDoesNotCacheLoadedBoard() {
+        //GIVEN
+        when(loader.apply("1")).thenAnswer(invocation -> {
+            boardCache.evictByColumnId("col-unknown");
+            return Optional.of(board);
+        });
+        //WHEN
+        Optional<Board> actual = boardCache.get("1", loader);
+        //THEN
+        assertEquals(Optional.of(board), actual);
+        assertTrue(boardCache.getIfPresent("1").isEmpty());
+    }
+
+    @Test
+    void getByColumnId_whenEvictedDuringLoad_doesNotCacheLoadedBoard() {
+        //GIVEN
+        when(loader.apply("col-1")).thenAnswer(invocation -> {
+            boardCache.evict("1");
+            return Optional.of(board);
+        });
+        //WHEN
+        boardCache.getByColumnId("col-1", loader);
+        Optional<Board> actual = boardCache.getIfPresent("1");
+        //THEN
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void getByColumnId_whenColumnIndexed_readsThroughCache() {
+        //GIVEN
+        boardCache.put(board);
+        //WHEN
+        boardCache.getByColumnId("col-1", loader);
+        CacheStatsDto actual = boardCache.stats();
+        //THEN
+        assertEquals(1, actual.hitCount());
+        verifyNoInteractions(loader);
+    }
+
+    @Test
+    void get_whenChangeStreamRelayDisabled_alwaysCallsLoader() {
+        //GIVEN
+        BoardCache disabledCache = new BoardCache(new BoardCacheProperties(100, Duration.ofMinutes(10), false),
+                new ChangeStreamProperties(false, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1)));
+        when(loader.apply("1")).thenReturn(Optional.of(board));
+        //WHEN
+        disabledCache.put(board);
+        disabledCache.get("1", loader);
+        disabledCache.get("1", loader);
+        //THEN
+        verify(loader, times(2)).apply("1");
+        assertTrue(disabledCache.getIfPresent("1").isEmpty());
+    }
+
+    @Test
+    void stats_countsHitsAndMisses() {
+        //GIVEN
+        when(loader.apply("1")).thenReturn(Optional.of(board));
+        //WHEN
+        boardCache.get("1", loader);
+        boardCache.get("1", loader);
+        boardCache.get("1", loader);
+        CacheStatsDto actual = boardCache.stats();
+        //THEN
+        assertEquals(2, actual.hitCount());
+        assertEquals(1, actual.missCount());
+        assertEquals(1, actual.size());
+    }
+
+    @Test
+    void onChangeStreamEvent_whenBoardChangedOnAnotherNode_evictsBoard() {
+        //GIVEN
+        boardCache.put(board);
+        when(loader.apply("1")).thenReturn(Optional.of(board));
+        //WHEN
+        boardCache.onChangeStreamEvent(new ChangeStreamEvent(BoardEventDto.boardUpdated(board)));
+        boardCache.get("1", loader);
+        //THEN
+        verify(loader).apply("1");
+    }
+
+    @Test
+    void onChangeStreamEvent_whenBoardDeletedOnAnotherNode_removesColumnIndex() {
+        //GIVEN
+        boardCache.put(board);
+        when(loader.apply("col-1")).thenReturn(Optional.empty());
+        //WHEN
+        boardCache.onChangeStreamEvent(new ChangeStreamEvent(BoardEventDto.boardDeleted("1")));
+        Optional<Board> actual = boardCache.getByColumnId("col-1", loader);
+        //THEN
+        assertEquals(Optional.empty(), actual);
+        verify(loader).apply("col-1");
+    }
+
+    @Test
+    void bindTo_exposesCacheStatisticsToMicrometer() {
+        //GIVEN
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        boardCache.bindTo(registry);
+        when(loader.apply("1")).thenReturn(Optional.of(board));
+        //WHEN
+        boardCache.get("1", loader);
+        boardCache.get("1", loader);
+        //THEN
+        assertEquals(1, registry.get("cache.gets").tag("cache", "boards").tag("result", "hit").functionCounter().count());
+        assertEquals(1, registry.get("cache.gets").tag("cache", "boards").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void onChangeStreamStatus_whenRelayInterrupted_bypassesCacheUntilItIsBack() {
+        //GIVEN
+        Board board = new Board("1", "Board 1", List.of(), 0L);
+        boardCache.put(board);
+        //WHEN
+        boardCache.onChangeStreamStatus(new ChangeStreamStatusEvent(false));
+        boardCache.put(board);
+        //THEN
+        assertEquals(Optional.empty(), boardCache.getIfPresent("1"));
+        boardCache.onChangeStreamStatus(new ChangeStreamStatusEvent(true));
+        boardCache.put(board);
+        assertEquals(Optional.of(board), boardCache.getIfPresent("1"));
+    }
+}
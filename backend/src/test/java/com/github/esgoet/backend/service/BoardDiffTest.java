@@ -0,0 +1,72 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.model.Column;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardDiffTest {
+
+    @Test
+    void between_whenNothingChanged_isEmpty() {
+        //GIVEN
+        List<Column> columns = List.of(new Column("col-1", "Column 1", List.of("task-1", "task-2")));
+        //WHEN
+        BoardDiff actual = BoardDiff.between(columns, columns);
+        //THEN
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void between_whenColumnsAddedRemovedAndReordered() {
+        //GIVEN
+        List<Column> before = List.of(
+                new Column("col-1", "Column 1", List.of()),
+                new Column("col-2", "Column 2", List.of()),
+                new Column("col-3", "Column 3", List.of()),
+                new Column("col-4", "Column 4", List.of()));
+        List<Column> after = List.of(
+                new Column("col-2", "Column 2", List.of()),
+                new Column("col-3", "Column 3", List.of()),
+                new Column("col-1", "Column 1", List.of()),
+                new Column("col-5", "Column 5", List.of()));
+        //WHEN
+        BoardDiff actual = BoardDiff.between(before, after);
+        //THEN
+        assertEquals(new OrderedDiff(List.of("col-5"), List.of("col-4"), List.of("col-1")), actual.columns());
+        assertEquals(Map.of(), actual.tasksByColumnId());
+    }
+
+    @Test
+    void between_whenTasksMovedBetweenColumns() {
+        //GIVEN
+        List<Column> before = List.of(
+                new Column("col-1", "Column 1", List.of("task-1", "task-2", "task-3")),
+                new Column("col-2", "Column 2", null));
+        List<Column> after = List.of(
+                new Column("col-1", "Column 1", List.of("task-3", "task-1")),
+                new Column("col-2", "Column 2", List.of("task-2")));
+        //WHEN
+        BoardDiff actual = BoardDiff.between(before, after);
+        //THEN
+        assertTrue(actual.columns().isEmpty());
+        assertEquals(Map.of(
+                "col-1", new OrderedDiff(List.of(), List.of("task-2"), List.of("task-3")),
+                "col-2", new OrderedDiff(List.of("task-2"), List.of(), List.of())), actual.tasksByColumnId());
+    }
+
+    @Test
+    void orderedDiff_movesOnlyElementsOutsideLongestIncreasingSubsequence() {
+        //WHEN
+        OrderedDiff actual = OrderedDiff.between(
+                List.of("a", "b", "c", "d", "e", "f"),
+                List.of("f", "a", "b", "d", "c", "e"));
+        //THEN
+        assertEquals(List.of(), actual.added());
+        assertEquals(List.of(), actual.removed());
+        assertEquals(List.of("f", "d"), actual.moved());
+    }
+}
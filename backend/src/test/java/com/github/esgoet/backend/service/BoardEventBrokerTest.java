@@ -0,0 +1,204 @@
+package com.github.esgoet.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.esgoet.backend.config.BoardEventProperties;
+import com.github.esgoet.backend.config.ChangeStreamProperties;
+import com.github.esgoet.backend.dto.BoardChangesDto;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.dto.ColumnChangesDto;
+import com.github.esgoet.backend.dto.PlacementDto;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Column;
+import com.github.esgoet.backend.model.Task;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BoardEventBrokerTest {
+    private final ObjectMapper objectMapper = spy(new ObjectMapper().findAndRegisterModules());
+    private final BoardEventBroker broker = new BoardEventBroker(objectMapper,
+            new BoardEventProperties(1, Duration.ofMinutes(1)), new ChangeStreamProperties(false, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1)));
+    private final Board board = new Board("1", "Board 1", List.of(new Column("col-1", "Column 1", List.of())));
+    private final Task task = new Task("task-1", "col-1", "Task 1", "Description 1", null, 0L);
+
+    @Test
+    void onBoardEvent_deliversTaskEventsOnlyToSubscribersOfOwningBoard() throws Exception {
+        //GIVEN
+        SseEmitter emitter = mock(SseEmitter.class);
+        CountDownLatch sent = countSends(emitter);
+        broker.subscribe(board, emitter);
+        //WHEN
+        broker.onBoardEvent(BoardEventDto.taskCreated(task.withColumnId("col-999")));
+        broker.onBoardEvent(BoardEventDto.taskCreated(task));
+        //THEN
+        assertTrue(sent.await(1, TimeUnit.SECONDS));
+        verify(emitter, after(100).times(1)).send(anySet());
+    }
+
+    @Test
+    void onBoardEvent_serialisesEventOnceForAllSubscribers() throws Exception {
+        //GIVEN
+        SseEmitter emitter1 = mock(SseEmitter.class);
+        SseEmitter emitter2 = mock(SseEmitter.class);
+        CountDownLatch sent1 = countSends(emitter1);
+        CountDownLatch sent2 = countSends(emitter2);
+        broker.subscribe(board, emitter1);
+        broker.subscribe(board, emitter2);
+        //WHEN
+        broker.onBoardEvent(BoardEventDto.taskCreated(task));
+        //THEN
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<DataWithMediaType>> message1 = ArgumentCaptor.forClass(Set.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<DataWithMediaType>> message2 = ArgumentCaptor.forClass(Set.class);
+        assertTrue(sent1.await(1, TimeUnit.SECONDS));
+        assertTrue(sent2.await(1, TimeUnit.SECONDS));
+        verify(emitter1).send(message1.capture());
+        verify(emitter2).send(message2.capture());
+        assertSame(message1.getValue(), message2.getValue());
+        verify(objectMapper, times(1)).writeValueAsString(any());
+    }
+
+    @Test
+    void onBoardEvent_whenSubscriberFallsBehind_disconnectsIt() throws Exception {
+        //GIVEN
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SseEmitter emitter = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await();
+            return null;
+        }).when(emitter).send(anySet());
+        CountDownLatch completed = countCompletions(emitter);
+        broker.subscribe(board, emitter);
+        //WHEN
+        broker.onBoardEvent(BoardEventDto.taskCreated(task));
+        sending.await();
+        broker.onBoardEvent(BoardEventDto.taskUpdated(task));
+        broker.onBoardEvent(BoardEventDto.taskDeleted("col-1", "task-1"));
+        //THEN
+        assertEquals(0, broker.subscriberCount("1"));
+        release.countDown();
+        assertTrue(completed.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void onBoardEvent_whenBoardUpdated_routesEventsOfNewColumns() throws Exception {
+        //GIVEN
+        BoardEventBroker roomyBroker = new BoardEventBroker(objectMapper,
+                new BoardEventProperties(10, Duration.ofMinutes(1)), new ChangeStreamProperties(false, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1)));
+        SseEmitter emitter = mock(SseEmitter.class);
+        CountDownLatch sent = countSends(emitter, 2);
+        roomyBroker.subscribe(board, emitter);
+        Board updatedBoard = board.withColumns(List.of(new Column("col-2", "Column 2", List.of())));
+        //WHEN
+        roomyBroker.onBoardEvent(BoardEventDto.boardUpdated(updatedBoard));
+        roomyBroker.onBoardEvent(BoardEventDto.taskCreated(task.withColumnId("col-2")));
+        //THEN
+        assertTrue(sent.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void onBoardEvent_whenBoardUpdated_sendsChangesInsteadOfBoard() throws Exception {
+        //GIVEN
+        SseEmitter emitter = mock(SseEmitter.class);
+        CountDownLatch sent = countSends(emitter);
+        Board subscribedBoard = new Board("1", "Board 1", List.of(
+                new Column("col-1", "Column 1", List.of("task-1", "task-2", "task-3")),
+                new Column("col-2", "Column 2", List.of())), 1L);
+        broker.subscribe(subscribedBoard, emitter);
+        Board updatedBoard = new Board("1", "Board 1", List.of(
+                new Column("col-1", "Column 1", List.of("task-3", "task-1")),
+                new Column("col-2", "Column 2", List.of()),
+                new Column("col-3", "Column 3", List.of("task-4"))), 2L);
+        //WHEN
+        broker.onBoardEvent(BoardEventDto.boardUpdated(updatedBoard));
+        //THEN
+        assertTrue(sent.await(1, TimeUnit.SECONDS));
+        ArgumentCaptor<BoardEventDto> event = ArgumentCaptor.forClass(BoardEventDto.class);
+        verify(objectMapper).writeValueAsString(event.capture());
+        assertNull(event.getValue().board());
+        assertEquals(new BoardChangesDto(null, List.of(), List.of(new PlacementDto("col-3", 2)), List.of(
+                new ColumnChangesDto("col-1", null, List.of("task-2"), List.of(new PlacementDto("task-3", 0))),
+                new ColumnChangesDto("col-3", "Column 3", List.of(), List.of(new PlacementDto("task-4", 0))))),
+                event.getValue().changes());
+    }
+
+    @Test
+    void onBoardEvent_whenBoardUpdateIsNotNewer_sendsNothing() throws Exception {
+        //GIVEN
+        SseEmitter emitter = mock(SseEmitter.class);
+        broker.subscribe(board.withVersion(2L), emitter);
+        //WHEN
+        broker.onBoardEvent(BoardEventDto.boardUpdated(board.withName("Renamed").withVersion(1L)));
+        //THEN
+        verify(emitter, after(100).never()).send(anySet());
+    }
+
+    @Test
+    void onBoardEvent_whenBoardDeleted_completesSubscribers() throws Exception {
+        //GIVEN
+        SseEmitter emitter = mock(SseEmitter.class);
+        CountDownLatch sent = countSends(emitter);
+        CountDownLatch completed = countCompletions(emitter);
+        broker.subscribe(board, emitter);
+        //WHEN
+        broker.onBoardEvent(BoardEventDto.boardDeleted("1"));
+        //THEN
+        assertTrue(sent.await(1, TimeUnit.SECONDS));
+        assertTrue(completed.await(1, TimeUnit.SECONDS));
+        assertEquals(0, broker.subscriberCount("1"));
+    }
+
+    @Test
+    void onBoardEvent_whenChangeStreamsEnabled_deliversOnlyChangeStreamEvents() throws Exception {
+        //GIVEN
+        BoardEventBroker clusteredBroker = new BoardEventBroker(objectMapper,
+                new BoardEventProperties(10, Duration.ofMinutes(1)), new ChangeStreamProperties(true, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1)));
+        SseEmitter emitter = mock(SseEmitter.class);
+        CountDownLatch sent = countSends(emitter);
+        clusteredBroker.subscribe(board, emitter);
+        //WHEN
+        clusteredBroker.onBoardEvent(BoardEventDto.taskCreated(task));
+        clusteredBroker.onChangeStreamEvent(new ChangeStreamEvent(BoardEventDto.taskUpdated(task)));
+        //THEN
+        assertTrue(sent.await(1, TimeUnit.SECONDS));
+        verify(emitter, after(100).times(1)).send(anySet());
+        verify(objectMapper, times(1)).writeValueAsString(BoardEventDto.taskUpdated(task).withBoardId("1"));
+    }
+
+    // Mockito keeps SseEmitter's synchronized modifiers, so verify(timeout(..)) would hold the emitter's monitor while
+    // polling and block the broker's drain thread; latches wait without it.
+    private static CountDownLatch countSends(SseEmitter emitter) throws Exception {
+        return countSends(emitter, 1);
+    }
+
+    private static CountDownLatch countSends(SseEmitter emitter, int count) throws Exception {
+        CountDownLatch latch = new CountDownLatch(count);
+        doAnswer(invocation -> {
+            latch.countDown();
+            return null;
+        }).when(emitter).send(anySet());
+        return latch;
+    }
+
+    private static CountDownLatch countCompletions(SseEmitter emitter) {
+        CountDownLatch latch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            latch.countDown();
+            return null;
+        }).when(emitter).complete();
+        return latch;
+    }
+}
@@ -1,16 +1,35 @@
 package com.github.esgoet.backend.service;
 
+import com.github.esgoet.backend.config.OrderingProperties;
+import com.github.esgoet.backend.config.BoardCacheProperties;
+import com.github.esgoet.backend.config.ChangeStreamProperties;
 import com.github.esgoet.backend.dto.BoardDto;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.dto.BoardOutlineDto;
+import com.github.esgoet.backend.dto.BoardPageDto;
+import com.github.esgoet.backend.dto.BoardSnapshotDto;
+import com.github.esgoet.backend.dto.BoardSummaryDto;
+import com.github.esgoet.backend.dto.ColumnOutlineDto;
+import com.github.esgoet.backend.dto.ColumnSnapshotDto;
 import com.github.esgoet.backend.dto.NewBoardDto;
 import com.github.esgoet.backend.exception.ElementNotFoundException;
 import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.CleanupJob;
 import com.github.esgoet.backend.model.Column;
+import com.github.esgoet.backend.model.Task;
 import com.github.esgoet.backend.repository.BoardRepository;
 import com.github.esgoet.backend.repository.TaskRepository;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -19,7 +38,11 @@ class BoardServiceTest {
     private final IdService idService = mock(IdService.class);
     private final BoardRepository boardRepository = mock(BoardRepository.class);
     private final TaskRepository taskRepository = mock(TaskRepository.class);
-    private final BoardService boardService = new BoardService(boardRepository, idService, taskRepository);
+    private final BoardCache boardCache = new BoardCache(new BoardCacheProperties(100, Duration.ofMinutes(10), false), new ChangeStreamProperties(true, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1)));
+    private final CleanupJobService cleanupJobService = mock(CleanupJobService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final BoardService boardService = new BoardService(boardRepository, idService, taskRepository, boardCache, cleanupJobService,
+            new OrderingProperties(OrderingProperties.Mode.LIST, 500, false), eventPublisher);
 
     @Test
     void getAllBoards_whenNoBoards_ReturnEmptyList() {
@@ -48,6 +71,51 @@ class BoardServiceTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void getBoardSummaries_whenMoreBoardsThanLimit_ReturnPageWithNextCursor() {
+        //GIVEN
+        List<Board> boards = List.of(
+                new Board("1", "Board 1", List.of(new Column("col-1", null, null))),
+                new Board("2", "Board 2", List.of()),
+                new Board("3", "Board 3", List.of()));
+        when(boardRepository.findSummaries(null, 3)).thenReturn(boards);
+        //WHEN
+        BoardPageDto actual = boardService.getBoardSummaries(null, 2);
+        //THEN
+        BoardPageDto expected = new BoardPageDto(List.of(
+                new BoardSummaryDto("1", "Board 1", 1),
+                new BoardSummaryDto("2", "Board 2", 0)), "2");
+        verify(boardRepository).findSummaries(null, 3);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void getBoardSummaries_whenLastPage_ReturnPageWithoutNextCursor() {
+        //GIVEN
+        when(boardRepository.findSummaries("2", 51)).thenReturn(List.of(new Board("3", "Board 3", List.of())));
+        //WHEN
+        BoardPageDto actual = boardService.getBoardSummaries("2", 50);
+        //THEN
+        BoardPageDto expected = new BoardPageDto(List.of(new BoardSummaryDto("3", "Board 3", 0)), null);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void streamBoardSummaries_passesEverySummaryToConsumer() {
+        //GIVEN
+        when(boardRepository.streamSummaries()).thenReturn(Stream.of(
+                new Board("1", "Board 1", List.of()),
+                new Board("2", "Board 2", List.of(new Column("col-1", null, null)))));
+        List<BoardSummaryDto> actual = new ArrayList<>();
+        //WHEN
+        boardService.streamBoardSummaries(actual::add);
+        //THEN
+        List<BoardSummaryDto> expected = List.of(
+                new BoardSummaryDto("1", "Board 1", 0),
+                new BoardSummaryDto("2", "Board 2", 1));
+        assertEquals(expected, actual);
+    }
+
     @Test
     void getBoardById_whenBoardExists_ReturnBoard() {
         //GIVEN
@@ -61,6 +129,55 @@ class BoardServiceTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void getBoardOutline_whenBoardNotCached_ReadsOutlineProjection() {
+        //GIVEN
+        Board outline = new Board("1", "Board 1", List.of(new Column("col-1", "Column 1", null)));
+        when(boardRepository.findOutline("1")).thenReturn(Optional.of(outline));
+        //WHEN
+        BoardOutlineDto actual = boardService.getBoardOutline("1");
+        //THEN
+        assertEquals(new BoardOutlineDto("1", "Board 1", List.of(new ColumnOutlineDto("col-1", "Column 1"))), actual);
+        verify(boardRepository, never()).findById(any());
+    }
+
+    @Test
+    void getBoardOutline_whenBoardCached_DoesNotQueryRepository() {
+        //GIVEN
+        Board board = new Board("1", "Board 1", List.of(new Column("col-1", "Column 1", List.of("task-1"))));
+        when(boardRepository.findById("1")).thenReturn(Optional.of(board));
+        boardService.getBoardById("1");
+        //WHEN
+        BoardOutlineDto actual = boardService.getBoardOutline("1");
+        //THEN
+        assertEquals(new BoardOutlineDto("1", "Board 1", List.of(new ColumnOutlineDto("col-1", "Column 1"))), actual);
+        verify(boardRepository, never()).findOutline(any());
+    }
+
+    @Test
+    void getBoardOutline_whenBoardNotFound_ThrowsElementNotFoundException() {
+        //GIVEN
+        when(boardRepository.findOutline("999")).thenReturn(Optional.empty());
+        //THEN
+        assertThrows(ElementNotFoundException.class,
+                //WHEN
+                () -> boardService.getBoardOutline("999"));
+    }
+
+    @Test
+    void getBoardById_whenCalledTwice_ReadsRepositoryOnce() {
+        //GIVEN
+        Board board = new Board("1", "Board 1", List.of());
+        when(boardRepository.findById("1")).thenReturn(Optional.of(board));
+        //WHEN
+        boardService.getBoardById("1");
+        Board actual = boardService.getBoardById("1");
+        //THEN
+        Board expected = new Board("1", "Board 1", List.of());
+        verify(boardRepository, times(1)).findById("1");
+        assertEquals(expected, actual);
+    }
+
     @Test
     void getBoardById_whenNoBoard_ThrowsElementNotFoundException() {
         //GIVEN
@@ -71,6 +188,39 @@ class BoardServiceTest {
         assertEquals("Board with ID 999 not found", exception.getMessage());
     }
 
+    @Test
+    void getBoardSnapshot_whenBoardExists_ReturnBoardWithTasksInColumnOrder() {
+        //GIVEN
+        Board board = new Board("1", "Board 1", List.of(
+                new Column("col-1", "Column 1", List.of("task-2", "task-1")),
+                new Column("col-2", "Column 2", List.of())), 4L);
+        Task task1 = new Task("task-1", "col-1", "Task 1", "Description 1", null);
+        Task task2 = new Task("task-2", "col-1", "Task 2", "Description 2", null);
+        Task task3 = new Task("task-3", "col-2", "Task 3", "Description 3", null);
+        when(boardRepository.findById("1")).thenReturn(Optional.of(board));
+        when(taskRepository.findTasksByColumnIdIn(List.of("col-1", "col-2"))).thenReturn(List.of(task1, task2, task3));
+        //WHEN
+        BoardSnapshotDto actual = boardService.getBoardSnapshot("1");
+        //THEN
+        BoardSnapshotDto expected = new BoardSnapshotDto("1", "Board 1", List.of(
+                new ColumnSnapshotDto("col-1", "Column 1", List.of(task2, task1)),
+                new ColumnSnapshotDto("col-2", "Column 2", List.of(task3))), 4L);
+        verify(boardRepository).findById("1");
+        verify(taskRepository).findTasksByColumnIdIn(List.of("col-1", "col-2"));
+        verify(taskRepository, never()).findTasksByColumnId(anyString());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void getBoardSnapshot_whenNoBoard_ThrowsElementNotFoundException() {
+        //GIVEN
+        when(boardRepository.findById("999")).thenReturn(Optional.empty());
+        //WHEN
+        ElementNotFoundException exception = assertThrows(ElementNotFoundException.class, () -> boardService.getBoardSnapshot("999"));
+        assertEquals("Board with ID 999 not found", exception.getMessage());
+        verify(taskRepository, never()).findTasksByColumnIdIn(any());
+    }
+
     @Test
     void createBoard_savesBoardWithGeneratedId() {
         //GIVEN
@@ -112,7 +262,7 @@ class BoardServiceTest {
     }
 
     @Test
-    void updateBoard_deletesTasksRelatedToRemovedColumns() {
+    void updateBoard_schedulesCleanupOfTasksRelatedToRemovedColumns() {
         // GIVEN
         String boardId = "1";
         Column columnToStay = new Column("col-1", "Column 1", List.of());
@@ -122,17 +272,102 @@ class BoardServiceTest {
 
         when(boardRepository.findById(boardId)).thenReturn(Optional.of(existingBoard));
         when(boardRepository.save(any(Board.class))).thenReturn(new Board(boardId, updatedBoardDto.name(), updatedBoardDto.columns()));
-        doNothing().when(taskRepository).deleteTasksByColumnId("col-2");
 
         // WHEN
         Board actual = boardService.updateBoard(boardId, updatedBoardDto);
 
         // THEN
         Board expected = new Board(boardId, "Updated Board", List.of(columnToStay));
-        verify(taskRepository).deleteTasksByColumnId("col-2");
+        verify(cleanupJobService).scheduleCleanup(boardId, List.of("col-2"));
+        verify(taskRepository, never()).deleteTasksByColumnId(anyString());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void updateBoard_keepsTasksAddedConcurrentlyAndDropsTasksDeletedConcurrently() {
+        // GIVEN
+        String boardId = "1";
+        Board existingBoard = new Board(boardId, "Board 1", List.of(
+                new Column("col-1", "Column 1", List.of("task-1", "task-3")),
+                new Column("col-2", "Column 2", List.of("task-4"))), 3L);
+        BoardDto updatedBoardDto = new BoardDto("Board 1", List.of(
+                new Column("col-1", "Column 1", List.of("task-2", "task-1")),
+                new Column("col-2", "Column 2", List.of("task-4"))));
+
+        when(boardRepository.findById(boardId)).thenReturn(Optional.of(existingBoard));
+        when(boardRepository.save(any(Board.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // WHEN
+        Board actual = boardService.updateBoard(boardId, updatedBoardDto);
+
+        // THEN
+        Board expected = new Board(boardId, "Board 1", List.of(
+                new Column("col-1", "Column 1", List.of("task-1", "task-3")),
+                new Column("col-2", "Column 2", List.of("task-4"))), 3L);
         assertEquals(expected, actual);
     }
 
+    @Test
+    void updateBoard_whenVersionConflict_schedulesCleanupOnlyForColumnsTheSavedAttemptRemoved() {
+        // GIVEN
+        String boardId = "1";
+        Board staleBoard = new Board(boardId, "Board 1", List.of(
+                new Column("col-1", "Column 1", List.of()),
+                new Column("col-2", "Column 2", List.of())), 1L);
+        Board latestBoard = new Board(boardId, "Board 1", List.of(new Column("col-1", "Column 1", List.of())), 2L);
+        BoardDto updatedBoardDto = new BoardDto("Updated Board", List.of(new Column("col-1", "Column 1", List.of())));
+        Board mergedBoard = new Board(boardId, "Updated Board", List.of(new Column("col-1", "Column 1", List.of())), 2L);
+
+        when(boardRepository.findById(boardId)).thenReturn(Optional.of(staleBoard)).thenReturn(Optional.of(latestBoard));
+        when(boardRepository.save(any(Board.class))).thenThrow(new OptimisticLockingFailureException("conflict"));
+        doReturn(mergedBoard).when(boardRepository).save(mergedBoard);
+
+        // WHEN
+        boardService.updateBoard(boardId, updatedBoardDto);
+
+        // THEN
+        verifyNoInteractions(cleanupJobService);
+    }
+
+    @Test
+    void updateBoard_whenVersionConflict_retriesWithLatestBoard() {
+        // GIVEN
+        String boardId = "1";
+        Board staleBoard = new Board(boardId, "Board 1", List.of(new Column("col-1", "Column 1", List.of())), 1L);
+        Board latestBoard = new Board(boardId, "Board 1", List.of(new Column("col-1", "Column 1", List.of("task-1"))), 2L);
+        BoardDto updatedBoardDto = new BoardDto("Updated Board", List.of(new Column("col-1", "Column 1", List.of())));
+        Board mergedBoard = new Board(boardId, "Updated Board", List.of(new Column("col-1", "Column 1", List.of("task-1"))), 2L);
+
+        when(boardRepository.findById(boardId)).thenReturn(Optional.of(staleBoard)).thenReturn(Optional.of(latestBoard));
+        when(boardRepository.save(any(Board.class))).thenThrow(new OptimisticLockingFailureException("conflict"));
+        doReturn(mergedBoard).when(boardRepository).save(mergedBoard);
+
+        // WHEN
+        Board actual = boardService.updateBoard(boardId, updatedBoardDto);
+
+        // THEN
+        verify(boardRepository, times(2)).findById(boardId);
+        assertEquals(mergedBoard, actual);
+    }
+
+    @Test
+    void updateBoard_whenVersionConflictPersists_throwsOptimisticLockingFailureException() {
+        // GIVEN
+        String boardId = "1";
+        Board existingBoard = new Board(boardId, "Board 1", List.of(), 1L);
+        BoardDto updatedBoardDto = new BoardDto("Updated Board", List.of());
+
+        when(boardRepository.findById(boardId)).thenReturn(Optional.of(existingBoard));
+        when(boardRepository.save(any(Board.class))).thenThrow(new OptimisticLockingFailureException("conflict"));
+
+        // THEN
+        assertThrows(OptimisticLockingFailureException.class,
+                // WHEN
+                () -> boardService.updateBoard(boardId, updatedBoardDto));
+        verify(boardRepository, times(3)).save(any(Board.class));
+        verifyNoInteractions(cleanupJobService);
+    }
+
     @Test
     void updateBoard_whenBoardDoesNotExist_throwsElementNotFoundException() {
         //GIVEN
@@ -150,23 +385,61 @@ class BoardServiceTest {
 
 
     @Test
-    void deleteBoard() {
+    void deleteBoard_removesBoardAndSchedulesCleanup() {
         // GIVEN
         String boardId = "1";
         Column column1 = new Column("col-1", "Column 1", List.of("task-1", "task-2"));
         Column column2 = new Column("col-2", "Column 2", List.of("task-3"));
         Board board = new Board(boardId, "Board 1", List.of(column1, column2));
+        CleanupJob cleanupJob = new CleanupJob("job-1", boardId, List.of("col-1", "col-2"),
+                CleanupJob.Status.PENDING, 0, Instant.now(), null, null);
 
         when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-        doNothing().when(taskRepository).deleteTasksByColumnId(anyString());
-        doNothing().when(boardRepository).deleteById(boardId);
+        when(boardRepository.findAndDelete(boardId, null)).thenReturn(Optional.of(board));
+        when(cleanupJobService.scheduleCleanup(boardId, List.of("col-1", "col-2"))).thenReturn(cleanupJob);
+
+        // WHEN
+        CleanupJob actual = boardService.deleteBoard(boardId);
+
+        // THEN
+        assertEquals(cleanupJob, actual);
+        InOrder inOrder = inOrder(cleanupJobService, boardRepository);
+        inOrder.verify(cleanupJobService).scheduleCleanup(boardId, List.of("col-1", "col-2"));
+        inOrder.verify(boardRepository).findAndDelete(boardId, null);
+        verifyNoMoreInteractions(cleanupJobService);
+        verify(taskRepository, never()).deleteTasksByColumnId(anyString());
+        verify(eventPublisher).publishEvent(BoardEventDto.boardDeleted(boardId));
+    }
+
+    @Test
+    void deleteBoard_whenBoardDoesNotExist_throwsElementNotFoundException() {
+        // GIVEN
+        when(boardRepository.findById("999")).thenReturn(Optional.empty());
+        // THEN
+        ElementNotFoundException exception = assertThrows(ElementNotFoundException.class,
+                // WHEN
+                () -> boardService.deleteBoard("999"));
+        assertEquals("Board with ID 999 not found", exception.getMessage());
+        verifyNoInteractions(cleanupJobService);
+    }
+
+    @Test
+    void deleteBoard_whenColumnAddedConcurrently_schedulesCleanupOfAddedColumn() {
+        // GIVEN
+        String boardId = "1";
+        Board cachedBoard = new Board(boardId, "Board 1", List.of(new Column("col-1", "Column 1", List.of())));
+        Board deletedBoard = cachedBoard.withColumns(List.of(
+                new Column("col-1", "Column 1", List.of()),
+                new Column("col-2", "Column 2", List.of("task-1"))));
+
+        when(boardRepository.findById(boardId)).thenReturn(Optional.of(cachedBoard));
+        when(boardRepository.findAndDelete(boardId, null)).thenReturn(Optional.of(deletedBoard));
 
         // WHEN
         boardService.deleteBoard(boardId);
 
         // THEN
-        verify(taskRepository).deleteTasksByColumnId("col-1");
-        verify(taskRepository).deleteTasksByColumnId("col-2");
-        verify(boardRepository).deleteById(boardId);
+        verify(cleanupJobService).scheduleCleanup(boardId, List.of("col-1"));
+        verify(cleanupJobService).scheduleCleanup(boardId, List.of("col-2"));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,233 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.BulkProperties;
+import com.github.esgoet.backend.config.OrderingProperties;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.dto.BulkTaskOperationDto;
+import com.github.esgoet.backend.dto.BulkTaskResultDto;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Column;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.BoardRepository;
+import com.github.esgoet.backend.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.github.esgoet.backend.dto.BulkTaskOperationDto.Type.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BulkTaskServiceTest {
+    private final IdService idService = mock(IdService.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final BoardCache boardCache = mock(BoardCache.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final BulkTaskService bulkTaskService = new BulkTaskService(idService, taskRepository, boardRepository, boardCache,
+            new OrderingProperties(OrderingProperties.Mode.LIST, 500, false), new BulkProperties(4), TransactionOperations.withoutTransaction(), eventPublisher);
+
+    private final Task task1 = new Task("task-1", "col-1", "Task 1", "Description 1", null, 2L);
+    private final Task task2 = new Task("task-2", "col-1", "Task 2", "Description 2", null, 0L);
+    private final Board board = new Board("1", "Board 1", List.of(
+            new Column("col-1", "Column 1", List.of("task-1", "task-2")),
+            new Column("col-2", "Column 2", List.of())), 5L);
+
+    @Test
+    void execute_appliesAllOperationsWithOneBoardUpdateAndOneBulkWrite() {
+        //GIVEN
+        List<BulkTaskOperationDto> operations = List.of(
+                new BulkTaskOperationDto(CREATE, null, "col-2", "Task 3", "Description 3", null, null),
+                new BulkTaskOperationDto(MOVE, "task-1", "col-2", null, null, null, 0),
+                new BulkTaskOperationDto(UPDATE, "task-2", null, "Updated Task 2", "Updated", null, null),
+                new BulkTaskOperationDto(DELETE, "task-2", null, null, null, null, null));
+        when(idService.generateId()).thenReturn("task-3");
+        when(taskRepository.findAllById(anyIterable())).thenReturn(List.of(task1, task2));
+        when(boardRepository.findAllByColumnIdIn(anyCollection())).thenReturn(List.of(board));
+        when(boardRepository.save(any(Board.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        //WHEN
+        List<BulkTaskResultDto> actual = bulkTaskService.execute(operations);
+        //THEN
+        List<BulkTaskResultDto> expected = List.of(
+                new BulkTaskResultDto(0, "task-3", 201, null),
+                new BulkTaskResultDto(1, "task-1", 200, null),
+                new BulkTaskResultDto(2, "task-2", 200, null),
+                new BulkTaskResultDto(3, "task-2", 204, null));
+        assertEquals(expected, actual);
+        verify(boardRepository, times(1)).save(new Board("1", "Board 1", List.of(
+                new Column("col-1", "Column 1", List.of()),
+                new Column("col-2", "Column 2", List.of("task-1", "task-3"))), 5L));
+        verify(taskRepository).bulkWrite(
+                List.of(new Task("task-3", "col-2", "Task 3", "Description 3", null, 0L)),
+                List.of(task1.withColumnId("col-2")),
+                List.of("task-2"));
+        verify(boardCache).put(any(Board.class));
+        verify(eventPublisher).publishEvent(BoardEventDto.boardUpdated(new Board("1", "Board 1", List.of(
+                new Column("col-1", "Column 1", List.of()),
+                new Column("col-2", "Column 2", List.of("task-1", "task-3"))), 5L)));
+        verify(eventPublisher).publishEvent(BoardEventDto.taskCreated(new Task("task-3", "col-2", "Task 3", "Description 3", null, 0L)));
+        verify(eventPublisher).publishEvent(BoardEventDto.taskUpdated(task1.withColumnId("col-2")));
+        verify(eventPublisher).publishEvent(BoardEventDto.taskDeleted("col-1", "task-2"));
+    }
+
+    @Test
+    void execute_whenTaskOrColumnMissing_reportsNotFoundPerItem() {
+        //GIVEN
+        List<BulkTaskOperationDto> operations = List.of(
+                new BulkTaskOperationDto(UPDATE, "task-999", "col-1", "Title", null, null, null),
+                new BulkTaskOperationDto(CREATE, null, "col-999", "Title", null, null, null),
+                new BulkTaskOperationDto(null, "task-1", null, null, null, null, null));
+        when(taskRepository.findAllById(anyIterable())).thenReturn(List.of());
+        when(boardRepository.findAllByColumnIdIn(anyCollection())).thenReturn(List.of());
+        //WHEN
+        List<BulkTaskResultDto> actual = bulkTaskService.execute(operations);
+        //THEN
+        List<BulkTaskResultDto> expected = List.of(
+                new BulkTaskResultDto(0, "task-999", 404, "Task with ID task-999 not found"),
+                new BulkTaskResultDto(1, null, 404, "Board including column with ID col-999 not found"),
+                new BulkTaskResultDto(2, "task-1", 400, "Operation type is required"));
+        assertEquals(expected, actual);
+        verify(boardRepository, never()).save(any());
+        verify(idService, never()).generateId();
+    }
+
+    @Test
+    void execute_whenBoardVersionConflict_replaysChangesOnLatestBoard() {
+        //GIVEN
+        List<BulkTaskOperationDto> operations = List.of(
+                new BulkTaskOperationDto(MOVE, "task-1", "col-2", null, null, null, null));
+        Board latestBoard = new Board("1", "Board 1", List.of(
+                new Column("col-1", "Column 1", List.of("task-1", "task-2", "task-4")),
+                new Column("col-2", "Column 2", List.of("task-5"))), 6L);
+        Board mergedBoard = new Board("1", "Board 1", List.of(
+                new Column("col-1", "Column 1", List.of("task-2", "task-4")),
+                new Column("col-2", "Column 2", List.of("task-5", "task-1"))), 6L);
+        when(taskRepository.findAllById(anyIterable())).thenReturn(List.of(task1));
+        when(boardRepository.findAllByColumnIdIn(anyCollection())).thenReturn(List.of(board));
+        when(boardRepository.findById("1")).thenReturn(Optional.of(latestBoard));
+        when(boardRepository.save(any(Board.class))).thenThrow(new OptimisticLockingFailureException("conflict"));
+        doReturn(mergedBoard).when(boardRepository).save(mergedBoard);
+        //WHEN
+        List<BulkTaskResultDto> actual = bulkTaskService.execute(operations);
+        //THEN
+        assertEquals(List.of(new BulkTaskResultDto(0, "task-1", 200, null)), actual);
+        verify(boardRepository).save(mergedBoard);
+        verify(taskRepository).bulkWrite(List.of(), List.of(task1.withColumnId("col-2")), List.of());
+    }
+
+    @Test
+    void execute_whenTaskWriteFailsWithoutTransaction_revertsBoardAndRethrows() {
+        //GIVEN
+        List<BulkTaskOperationDto> operations = List.of(
+                new BulkTaskOperationDto(CREATE, null, "col-2", "Task 3", null, null, null));
+        Board savedBoard = new Board("1", "Board 1", List.of(
+                new Column("col-1", "Column 1", List.of("task-1", "task-2")),
+                new Column("col-2", "Column 2", List.of("task-3"))), 5L);
+        Board revertedBoard = savedBoard.withColumns(board.columns()).withVersion(6L);
+        when(idService.generateId()).thenReturn("task-3");
+        when(boardRepository.findAllByColumnIdIn(anyCollection())).thenReturn(List.of(board));
+        when(boardRepository.save(savedBoard)).thenReturn(savedBoard.withVersion(6L));
+        when(boardRepository.save(revertedBoard)).thenReturn(revertedBoard.withVersion(7L));
+        doThrow(new DataAccessResourceFailureException("write failed"))
+                .when(taskRepository).bulkWrite(anyCollection(), anyCollection(), anyCollection());
+        //THEN
+        assertThrows(DataAccessResourceFailureException.class,
+                //WHEN
+                () -> bulkTaskService.execute(operations));
+        verify(boardRepository).save(revertedBoard);
+        verify(boardCache).evict("1");
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void execute_whenBoardConflictPersists_reportsConflictAndSkipsTaskWrites() {
+        //GIVEN
+        List<BulkTaskOperationDto> operations = List.of(
+                new BulkTaskOperationDto(DELETE, "task-1", null, null, null, null, null));
+        when(taskRepository.findAllById(anyIterable())).thenReturn(List.of(task1));
+        when(boardRepository.findAllByColumnIdIn(anyCollection())).thenReturn(List.of(board));
+        when(boardRepository.findById("1")).thenReturn(Optional.of(board));
+        when(boardRepository.save(any(Board.class))).thenThrow(new OptimisticLockingFailureException("conflict"));
+        //WHEN
+        List<BulkTaskResultDto> actual = bulkTaskService.execute(operations);
+        //THEN
+        assertEquals(List.of(new BulkTaskResultDto(0, "task-1", 409, "Board was modified concurrently")), actual);
+        verify(boardRepository, times(3)).save(any(Board.class));
+        verify(taskRepository).bulkWrite(List.of(), List.of(), List.of());
+    }
+
+    @Test
+    void execute_whenBatchExceedsMaximum_throwsIllegalArgumentException() {
+        //GIVEN
+        List<BulkTaskOperationDto> operations = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            operations.add(new BulkTaskOperationDto(DELETE, "task-" + i, null, null, null, null, null));
+        }
+        //WHEN & THEN
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> bulkTaskService.execute(operations));
+        assertEquals("Bulk request must contain at most 4 operations", exception.getMessage());
+        verifyNoInteractions(taskRepository, boardRepository);
+    }
+
+    @Test
+    void execute_whenTargetBoardConflictPersists_restoresSourceBoard() {
+        //GIVEN
+        List<BulkTaskOperationDto> operations = List.of(
+                new BulkTaskOperationDto(MOVE, "task-1", "col-3", null, null, null, null));
+        Board targetBoard = new Board("2", "Board 2", List.of(new Column("col-3", "Column 3", List.of())), 1L);
+        when(taskRepository.findAllById(anyIterable())).thenReturn(List.of(task1));
+        when(boardRepository.findAllByColumnIdIn(anyCollection())).thenReturn(List.of(board, targetBoard));
+        when(boardRepository.findById("2")).thenReturn(Optional.of(targetBoard));
+        when(boardRepository.save(any(Board.class))).thenAnswer(invocation -> {
+            Board savedBoard = invocation.getArgument(0);
+            if (savedBoard.id().equals("2")) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return savedBoard;
+        });
+        //WHEN
+        List<BulkTaskResultDto> actual = bulkTaskService.execute(operations);
+        //THEN
+        assertEquals(List.of(new BulkTaskResultDto(0, "task-1", 409, "Board was modified concurrently")), actual);
+        verify(boardRepository).save(new Board("1", "Board 1", List.of(
+                new Column("col-1", "Column 1", List.of("task-2")),
+                new Column("col-2", "Column 2", List.of())), 5L));
+        verify(boardRepository).save(board);
+        verify(taskRepository).bulkWrite(List.of(), List.of(), List.of());
+        verify(eventPublisher, never()).publishEvent(any(BoardEventDto.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void execute_whenRankedCreatesShareAPosition_assignsDistinctOrderedRanks() {
+        //GIVEN
+        BulkTaskService rankedService = new BulkTaskService(idService, taskRepository, boardRepository, boardCache,
+                new OrderingProperties(OrderingProperties.Mode.RANK, 500, false), new BulkProperties(4), TransactionOperations.withoutTransaction(), eventPublisher);
+        List<BulkTaskOperationDto> operations = List.of(
+                new BulkTaskOperationDto(CREATE, null, "col-1", "Task 3", null, null, 0),
+                new BulkTaskOperationDto(CREATE, null, "col-1", "Task 4", null, null, 0),
+                new BulkTaskOperationDto(CREATE, null, "col-1", "Task 5", null, null, null));
+        when(idService.generateId()).thenReturn("task-3", "task-4", "task-5");
+        when(taskRepository.findAllById(anyIterable())).thenReturn(List.of());
+        when(boardRepository.findAllByColumnIdIn(anyCollection())).thenReturn(List.of(board));
+        when(taskRepository.findRanks("col-1", null, 0, 1)).thenReturn(List.of("m"));
+        when(taskRepository.findLastRank("col-1", null)).thenReturn(Optional.of("t"));
+        //WHEN
+        rankedService.execute(operations);
+        //THEN
+        ArgumentCaptor<Collection<Task>> inserted = ArgumentCaptor.forClass(Collection.class);
+        verify(taskRepository).bulkWrite(inserted.capture(), eq(List.of()), eq(List.of()));
+        List<String> ranks = inserted.getValue().stream().map(Task::rank).toList();
+        assertTrue(ranks.get(1).compareTo(ranks.get(0)) < 0);
+        assertTrue(ranks.get(0).compareTo("m") < 0);
+        assertTrue(ranks.get(2).compareTo("t") > 0);
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.ChangeStreamProperties;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.ChangeStreamToken;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.ChangeStreamTokenRepository;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.Message;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ChangeStreamRelayTest {
+    private final ChangeStreamTokenRepository tokenRepository = mock(ChangeStreamTokenRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ChangeStreamRelay relay = new ChangeStreamRelay(mock(MongoTemplate.class), tokenRepository,
+            eventPublisher, new ChangeStreamProperties(true, Duration.ofMinutes(1), Duration.ofSeconds(1), Duration.ofMinutes(1)));
+    private final BsonDocument resumeToken = new BsonDocument("_data", new BsonString("8263"));
+
+    @Test
+    void onBoardChange_whenBoardUpdated_publishesBoardUpdatedAndSavesResumeToken() {
+        //GIVEN
+        Board board = new Board("1", "Board 1", List.of(), 3L);
+        //WHEN
+        relay.onBoardChange(message(OperationType.UPDATE, "1", board));
+        relay.flushTokens();
+        //THEN
+        verify(eventPublisher).publishEvent(new ChangeStreamEvent(BoardEventDto.boardUpdated(board)));
+        ArgumentCaptor<ChangeStreamToken> token = ArgumentCaptor.forClass(ChangeStreamToken.class);
+        verify(tokenRepository).save(token.capture());
+        assertEquals("boards", token.getValue().id());
+        assertEquals(resumeToken, BsonDocument.parse(token.getValue().token()));
+    }
+
+    @Test
+    void onBoardChange_whenBoardDeleted_publishesBoardDeleted() {
+        //WHEN
+        relay.onBoardChange(message(OperationType.DELETE, "1", null));
+        //THEN
+        verify(eventPublisher).publishEvent(new ChangeStreamEvent(BoardEventDto.boardDeleted("1")));
+    }
+
+    @Test
+    void onTaskChange_whenTaskInserted_publishesTaskCreated() {
+        //GIVEN
+        Task task = new Task("task-1", "col-1", "Task 1", "Description 1", null, 0L);
+        //WHEN
+        relay.onTaskChange(message(OperationType.INSERT, "task-1", task));
+        //THEN
+        verify(eventPublisher).publishEvent(new ChangeStreamEvent(BoardEventDto.taskCreated(task)));
+    }
+
+    @Test
+    void onTaskChange_whenTaskDeleted_publishesTaskDeletedWithColumnFromPreImage() {
+        //GIVEN
+        Task task = new Task("task-1", "col-1", "Task 1", "Description 1", null, 0L);
+        Message<ChangeStreamDocument<Document>, Task> message = message(OperationType.DELETE, "task-1", null);
+        when(message.getBodyBeforeChange()).thenReturn(task);
+        //WHEN
+        relay.onTaskChange(message);
+        //THEN
+        verify(eventPublisher).publishEvent(new ChangeStreamEvent(BoardEventDto.taskDeleted("col-1", "task-1")));
+    }
+
+    @Test
+    void onTaskChange_whenColumnChanged_publishesTaskMovedFromPreImageColumn() {
+        //GIVEN
+        Task previousTask = new Task("task-1", "col-1", "Task 1", "Description 1", null, 0L);
+        Task task = previousTask.withColumnId("col-2");
+        Message<ChangeStreamDocument<Document>, Task> message = message(OperationType.UPDATE, "task-1", task);
+        when(message.getBodyBeforeChange()).thenReturn(previousTask);
+        //WHEN
+        relay.onTaskChange(message);
+        //THEN
+        verify(eventPublisher).publishEvent(new ChangeStreamEvent(BoardEventDto.taskMoved(task, "col-1", null)));
+    }
+
+    @Test
+    void onTaskChange_whenColumnChangedWithoutPreImage_publishesTaskMoved() {
+        //GIVEN
+        Task task = new Task("task-1", "col-2", "Task 1", "Description 1", null, 0L);
+        Message<ChangeStreamDocument<Document>, Task> message = message(OperationType.UPDATE, "task-1", task);
+        when(message.getRaw().getUpdateDescription()).thenReturn(
+                new UpdateDescription(List.of(), new BsonDocument("columnId", new BsonString("col-2"))));
+        //WHEN
+        relay.onTaskChange(message);
+        //THEN
+        verify(eventPublisher).publishEvent(new ChangeStreamEvent(BoardEventDto.taskMoved(task, null, null)));
+    }
+
+    @Test
+    void flushTokens_savesLatestResumeTokenOncePerCollection() {
+        //GIVEN
+        Task task = new Task("task-1", "col-1", "Task 1", "Description 1", null, 0L);
+        relay.onTaskChange(message(OperationType.UPDATE, "task-1", task));
+        relay.onTaskChange(message(OperationType.UPDATE, "task-1", task));
+        //WHEN
+        relay.flushTokens();
+        relay.flushTokens();
+        //THEN
+        verify(eventPublisher, times(2)).publishEvent(new ChangeStreamEvent(BoardEventDto.taskUpdated(task)));
+        verify(tokenRepository, times(1)).save(any(ChangeStreamToken.class));
+    }
+
+    @Test
+    void onTaskChange_whenStreamInvalidated_dropsResumeTokenInsteadOfSavingIt() {
+        //WHEN
+        relay.onTaskChange(message(OperationType.INVALIDATE, "task-1", null));
+        relay.flushTokens();
+        //THEN
+        verify(tokenRepository).deleteById("tasks");
+        verify(tokenRepository, never()).save(any(ChangeStreamToken.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Message<ChangeStreamDocument<Document>, T> message(OperationType operationType, String id, T body) {
+        ChangeStreamDocument<Document> change = mock(ChangeStreamDocument.class);
+        when(change.getOperationType()).thenReturn(operationType);
+        when(change.getDocumentKey()).thenReturn(new BsonDocument("_id", new BsonString(id)));
+        when(change.getResumeToken()).thenReturn(resumeToken);
+        Message<ChangeStreamDocument<Document>, T> message = mock(Message.class);
+        when(message.getRaw()).thenReturn(change);
+        when(message.getBody()).thenReturn(body);
+        return message;
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.CleanupProperties;
+import com.github.esgoet.backend.exception.ElementNotFoundException;
+import com.github.esgoet.backend.model.CleanupJob;
+import com.github.esgoet.backend.repository.BoardRepository;
+import com.github.esgoet.backend.repository.CleanupJobRepository;
+import com.github.esgoet.backend.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CleanupJobServiceTest {
+    private final CleanupJobRepository cleanupJobRepository = mock(CleanupJobRepository.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final IdService idService = mock(IdService.class);
+    private final CleanupJobService cleanupJobService = new CleanupJobService(cleanupJobRepository, taskRepository,
+            boardRepository, idService, new CleanupProperties(2, Duration.ZERO, Duration.ofMinutes(1), Duration.ofSeconds(5)));
+
+    @Test
+    void scheduleCleanup_savesPendingJob() {
+        //GIVEN
+        when(idService.generateId()).thenReturn("job-1");
+        when(cleanupJobRepository.save(any(CleanupJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        //WHEN
+        CleanupJob actual = cleanupJobService.scheduleCleanup("1", List.of("col-1", "col-2"));
+        //THEN
+        assertEquals("job-1", actual.id());
+        assertEquals("1", actual.boardId());
+        assertEquals(List.of("col-1", "col-2"), actual.pendingColumnIds());
+        assertEquals(CleanupJob.Status.PENDING, actual.status());
+        assertTrue(actual.leaseExpiresAt().isAfter(actual.createdAt()));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getJob_whenJobDoesNotExist_throwsElementNotFoundException() {
+        //GIVEN
+        when(cleanupJobRepository.findById("999")).thenReturn(Optional.empty());
+        //THEN
+        ElementNotFoundException exception = assertThrows(ElementNotFoundException.class,
+                //WHEN
+                () -> cleanupJobService.getJob("999"));
+        assertEquals("Cleanup job with ID 999 not found", exception.getMessage());
+    }
+
+    @Test
+    void processPendingJobs_deletesTasksInBatchesAndCompletesJob() {
+        //GIVEN
+        CleanupJob job = new CleanupJob("job-1", "1", List.of("col-1", "col-2"),
+                CleanupJob.Status.RUNNING, 0, Instant.now(), Instant.now(), null);
+        when(cleanupJobRepository.claimNext(any(Instant.class), any(Duration.class)))
+                .thenReturn(Optional.of(job))
+                .thenReturn(Optional.empty());
+        when(cleanupJobRepository.save(any(CleanupJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.deleteBatchByColumnId("col-1", 2)).thenReturn(2L, 1L);
+        when(taskRepository.deleteBatchByColumnId("col-2", 2)).thenReturn(0L);
+        //WHEN
+        cleanupJobService.processPendingJobs();
+        //THEN
+        verify(taskRepository, times(2)).deleteBatchByColumnId("col-1", 2);
+        verify(taskRepository).deleteBatchByColumnId("col-2", 2);
+        ArgumentCaptor<CleanupJob> savedJobs = ArgumentCaptor.forClass(CleanupJob.class);
+        verify(cleanupJobRepository, times(4)).save(savedJobs.capture());
+        assertEquals(List.of("col-1", "col-2"), savedJobs.getAllValues().get(0).pendingColumnIds());
+        assertEquals(List.of("col-2"), savedJobs.getAllValues().get(1).pendingColumnIds());
+        CleanupJob completedJob = savedJobs.getAllValues().getLast();
+        assertEquals(CleanupJob.Status.COMPLETED, completedJob.status());
+        assertEquals(List.of(), completedJob.pendingColumnIds());
+        assertEquals(3, completedJob.deletedTaskCount());
+        assertNotNull(completedJob.completedAt());
+        assertNull(completedJob.leaseExpiresAt());
+    }
+
+    @Test
+    void processPendingJobs_resumesFromRecordedProgress() {
+        //GIVEN
+        CleanupJob job = new CleanupJob("job-1", "1", List.of("col-2"),
+                CleanupJob.Status.RUNNING, 5, Instant.now(), Instant.now(), null);
+        when(cleanupJobRepository.claimNext(any(Instant.class), any(Duration.class)))
+                .thenReturn(Optional.of(job))
+                .thenReturn(Optional.empty());
+        when(cleanupJobRepository.save(any(CleanupJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.deleteBatchByColumnId("col-2", 2)).thenReturn(1L);
+        //WHEN
+        cleanupJobService.processPendingJobs();
+        //THEN
+        verify(taskRepository, never()).deleteBatchByColumnId(eq("col-1"), anyInt());
+        ArgumentCaptor<CleanupJob> savedJobs = ArgumentCaptor.forClass(CleanupJob.class);
+        verify(cleanupJobRepository, times(2)).save(savedJobs.capture());
+        assertEquals(6, savedJobs.getAllValues().getLast().deletedTaskCount());
+    }
+
+    @Test
+    void processPendingJobs_whenColumnIsStillOnBoard_skipsIt() {
+        //GIVEN
+        CleanupJob job = new CleanupJob("job-1", "1", List.of("col-1", "col-2"),
+                CleanupJob.Status.RUNNING, 0, Instant.now(), Instant.now(), null);
+        when(cleanupJobRepository.claimNext(any(Instant.class), any(Duration.class)))
+                .thenReturn(Optional.of(job))
+                .thenReturn(Optional.empty());
+        when(cleanupJobRepository.save(any(CleanupJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(boardRepository.existsByColumnId("col-1")).thenReturn(true);
+        when(taskRepository.deleteBatchByColumnId("col-2", 2)).thenReturn(1L);
+        //WHEN
+        cleanupJobService.processPendingJobs();
+        //THEN
+        verify(taskRepository, never()).deleteBatchByColumnId(eq("col-1"), anyInt());
+        ArgumentCaptor<CleanupJob> savedJobs = ArgumentCaptor.forClass(CleanupJob.class);
+        verify(cleanupJobRepository, times(3)).save(savedJobs.capture());
+        CleanupJob completedJob = savedJobs.getAllValues().getLast();
+        assertEquals(CleanupJob.Status.COMPLETED, completedJob.status());
+        assertEquals(1, completedJob.deletedTaskCount());
+    }
+}
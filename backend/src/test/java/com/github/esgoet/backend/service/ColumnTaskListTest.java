@@ -0,0 +1,54 @@
+package com.github.esgoet.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnTaskListTest {
+
+    @Test
+    void add_ignoresDuplicatesAndKeepsOrder() {
+        //GIVEN
+        ColumnTaskList tasks = new ColumnTaskList(List.of("task-1", "task-2"));
+        //WHEN
+        tasks.add("task-3");
+        tasks.add("task-1");
+        //THEN
+        assertEquals(List.of("task-1", "task-2", "task-3"), tasks.toList());
+    }
+
+    @Test
+    void remove_keepsOrderOfRemainingTasks() {
+        //GIVEN
+        ColumnTaskList tasks = new ColumnTaskList(List.of("task-1", "task-2", "task-3"));
+        //WHEN
+        boolean actual = tasks.remove("task-2");
+        //THEN
+        assertTrue(actual);
+        assertFalse(tasks.contains("task-2"));
+        assertEquals(List.of("task-1", "task-3"), tasks.toList());
+    }
+
+    @Test
+    void insert_atPosition() {
+        //GIVEN
+        ColumnTaskList tasks = new ColumnTaskList(List.of("task-1", "task-2", "task-3"));
+        //WHEN
+        tasks.insert("task-3", 1);
+        tasks.insert("task-4", 0);
+        tasks.insert("task-5", 99);
+        tasks.insert("task-6", null);
+        //THEN
+        assertEquals(List.of("task-4", "task-1", "task-3", "task-2", "task-5", "task-6"), tasks.toList());
+    }
+
+    @Test
+    void constructor_whenNull_isEmpty() {
+        //WHEN
+        ColumnTaskList tasks = new ColumnTaskList(null);
+        //THEN
+        assertEquals(0, tasks.size());
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.ChangeStreamProperties;
+import com.github.esgoet.backend.config.DeadlineProperties;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DeadlineSchedulerTest {
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final DeadlineScheduler scheduler = new DeadlineScheduler(taskRepository,
+            new DeadlineProperties(true, Duration.ofHours(1), Duration.ofMinutes(15), Duration.ofDays(30)),
+            new ChangeStreamProperties(false, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1)), eventPublisher);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    void start_whenLoadedDeadlineReached_PublishesDeadlineReachedEvent() {
+        //GIVEN
+        Task task = new Task("task-1", "col-1", "Task 1", null, Instant.now().plusMillis(50));
+        when(taskRepository.streamByDeadline(isNull(), any(Instant.class), any(Instant.class))).thenReturn(Stream.of(task));
+        when(taskRepository.findById("task-1")).thenReturn(Optional.of(task));
+        //WHEN
+        scheduler.start();
+        //THEN
+        verify(eventPublisher, timeout(2000)).publishEvent(new DeadlineReachedEvent(task));
+        assertEquals(0, scheduler.scheduledCount());
+    }
+
+    @Test
+    void onBoardEvent_whenDeadlineChangedBeforeReached_DoesNotPublishStaleDeadline() {
+        //GIVEN
+        Task task = new Task("task-1", "col-1", "Task 1", null, Instant.now().plusMillis(50));
+        Task movedDeadline = task.withDeadline(Instant.now().plus(Duration.ofDays(1)));
+        when(taskRepository.streamByDeadline(isNull(), any(Instant.class), any(Instant.class))).thenReturn(Stream.empty());
+        when(taskRepository.findById("task-1")).thenReturn(Optional.of(movedDeadline));
+        scheduler.start();
+        //WHEN
+        scheduler.onBoardEvent(BoardEventDto.taskCreated(task));
+        //THEN
+        verify(taskRepository, timeout(2000)).findById("task-1");
+        verify(eventPublisher, never()).publishEvent(any(DeadlineReachedEvent.class));
+    }
+
+    @Test
+    void onBoardEvent_whenDeadlineBeyondHorizon_DoesNotSchedule() {
+        //GIVEN
+        Task task = new Task("task-1", "col-1", "Task 1", null, Instant.now().plus(Duration.ofDays(1)));
+        when(taskRepository.streamByDeadline(isNull(), any(Instant.class), any(Instant.class))).thenReturn(Stream.empty());
+        scheduler.start();
+        //WHEN
+        scheduler.onBoardEvent(BoardEventDto.taskUpdated(task));
+        //THEN
+        assertEquals(0, scheduler.scheduledCount());
+    }
+
+    @Test
+    void onBoardEvent_whenSameDeadlineTrackedTwice_SchedulesOnce() {
+        //GIVEN
+        Task task = new Task("task-1", "col-1", "Task 1", null, Instant.now().plus(Duration.ofMinutes(30)));
+        when(taskRepository.streamByDeadline(isNull(), any(Instant.class), any(Instant.class))).thenReturn(Stream.empty());
+        scheduler.start();
+        //WHEN
+        scheduler.onBoardEvent(BoardEventDto.taskCreated(task));
+        scheduler.onBoardEvent(BoardEventDto.taskUpdated(task));
+        //THEN
+        assertEquals(1, scheduler.scheduledCount());
+    }
+}
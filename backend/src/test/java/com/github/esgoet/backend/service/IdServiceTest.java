@@ -1,5 +1,7 @@
 package com.github.esgoet.backend.service;
 
+import com.github.esgoet.backend.config.IdProperties;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
@@ -9,7 +11,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mockStatic;
 
 class IdServiceTest {
-    private final IdService idService = new IdService();
+    private final IdService idService = new IdService(new IdProperties(IdProperties.Strategy.RANDOM_UUID));
 
     @Test
     void generateId_ReturnsUUIDString() {
@@ -25,4 +27,90 @@ class IdServiceTest {
             assertEquals(expected, actual);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void generateId_whenUuidV7_ReturnsTimeOrderedVersion7UUID() {
+        //GIVEN
+        IdService uuidV7Service = new IdService(new IdProperties(IdProperties.Strategy.UUID_V7));
+        long before = System.currentTimeMillis();
+        //WHEN
+        UUID actual = UUID.fromString(uuidV7Service.generateId());
+        //THEN
+        assertEquals(7, actual.version());
+        assertEquals(2, actual.variant());
+        long timestamp = actual.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis());
+    }
+
+    @Test
+    void uuidV7_whenLaterMillisecond_SortsAfterAsString() {
+        //WHEN
+        String earlier = IdService.uuidV7(1_700_000_000_000L).toString();
+        String later = IdService.uuidV7(1_700_000_000_001L).toString();
+        //THEN
+        assertTrue(earlier.compareTo(later) < 0);
+    }
+
+    @Test
+    void uuidV7_whenSameMillisecond_ReturnsDistinctRandomBits() {
+        //WHEN
+        UUID first = IdService.uuidV7(1_700_000_000_000L);
+        UUID second = IdService.uuidV7(1_700_000_000_000L);
+        //THEN
+        assertEquals(first.getMostSignificantBits() >>> 16, second.getMostSignificantBits() >>> 16);
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void generateId_whenUlid_ReturnsCrockfordBase32WithTimestamp() {
+        //GIVEN
+        IdService ulidService = new IdService(new IdProperties(IdProperties.Strategy.ULID));
+        //WHEN
+        String actual = ulidService.generateId();
+        //THEN
+        assertEquals(26, actual.length());
+        assertTrue(actual.matches("[0-9A-HJKMNP-TV-Z]{26}"));
+    }
+
+    @Test
+    void ulid_EncodesTimestampInFirstTenCharacters() {
+        //WHEN
+        String actual = IdService.ulid(1_700_000_000_000L);
+        //THEN
+        assertEquals("01HF7YAT00", actual.substring(0, 10));
+    }
+
+    @Test
+    void ulid_whenLaterMillisecond_SortsAfter() {
+        //WHEN
+        String earlier = IdService.ulid(1_700_000_000_000L);
+        String later = IdService.ulid(1_700_000_000_001L);
+        //THEN
+        assertTrue(earlier.compareTo(later) < 0);
+    }
+
+    @Test
+    void uuidV7_whenVirtualThread_ReturnsDistinctRandomBits() throws InterruptedException {
+        //GIVEN
+        UUID[] ids = new UUID[2];
+        //WHEN
+        Thread.ofVirtual().start(() -> ids[0] = IdService.uuidV7(1_700_000_000_000L)).join();
+        Thread.ofVirtual().start(() -> ids[1] = IdService.uuidV7(1_700_000_000_000L)).join();
+        //THEN
+        assertEquals(7, ids[0].version());
+        assertNotEquals(ids[0], ids[1]);
+    }
+
+    @Test
+    void generateId_whenObjectId_ReturnsObjectIdHexString() {
+        //GIVEN
+        IdService objectIdService = new IdService(new IdProperties(IdProperties.Strategy.OBJECT_ID));
+        //WHEN
+        String first = objectIdService.generateId();
+        String second = objectIdService.generateId();
+        //THEN
+        assertEquals(24, first.length());
+        assertTrue(ObjectId.isValid(first));
+        assertTrue(first.compareTo(second) < 0);
+    }
+}
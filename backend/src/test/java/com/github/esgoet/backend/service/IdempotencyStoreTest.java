@@ -0,0 +1,139 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.IdempotencyProperties;
+import com.github.esgoet.backend.exception.IdempotencyKeyReuseException;
+import com.github.esgoet.backend.exception.IdempotentRequestInProgressException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyStoreTest {
+    private final IdempotencyStore idempotencyStore = new IdempotencyStore(new IdempotencyProperties(100, Duration.ofMinutes(1), 16, Duration.ofMillis(100)));
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void execute_whenKeyIsRepeated_ReturnsOriginalResult() {
+        //WHEN
+        String first = idempotencyStore.execute("board", "key-1", "request", String.class, this::create);
+        String second = idempotencyStore.execute("board", "key-1", "request", String.class, this::create);
+        //THEN
+        assertEquals("result-1", first);
+        assertEquals("result-1", second);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void execute_whenKeyIsUsedInOtherScope_ExecutesAgain() {
+        //WHEN
+        idempotencyStore.execute("board", "key-1", "request", String.class, this::create);
+        String actual = idempotencyStore.execute("task", "key-1", "request", String.class, this::create);
+        //THEN
+        assertEquals("result-2", actual);
+    }
+
+    @Test
+    void execute_whenKeyIsReusedForDifferentRequest_ThrowsIdempotencyKeyReuseException() {
+        //GIVEN
+        idempotencyStore.execute("board", "key-1", "request", String.class, this::create);
+        //THEN
+        assertThrows(IdempotencyKeyReuseException.class,
+                //WHEN
+                () -> idempotencyStore.execute("board", "key-1", "other request", String.class, this::create));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void execute_whenFirstAttemptFailed_ExecutesRetry() {
+        //GIVEN
+        assertThrows(IllegalStateException.class, () -> idempotencyStore.execute("board", "key-1", "request", String.class,
+                () -> {
+                    throw new IllegalStateException("timeout");
+                }));
+        //WHEN
+        String actual = idempotencyStore.execute("board", "key-1", "request", String.class, this::create);
+        //THEN
+        assertEquals("result-1", actual);
+    }
+
+    @Test
+    void execute_whenKeyIsTooLong_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotencyStore.execute("board", "k".repeat(17), "request", String.class, this::create));
+    }
+
+    @Test
+    void execute_whenReactiveKeyIsRepeated_ReturnsOriginalResult() {
+        //GIVEN
+        Mono<String> action = Mono.fromSupplier(this::create);
+        //WHEN
+        Mono<String> first = idempotencyStore.execute("task", "key-1", "request", String.class, action);
+        Mono<String> second = idempotencyStore.execute("task", "key-1", "request", String.class, action);
+        //THEN
+        StepVerifier.create(first).expectNext("result-1").verifyComplete();
+        StepVerifier.create(second).expectNext("result-1").verifyComplete();
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void execute_whenReactiveAttemptFailed_ExecutesRetry() {
+        //GIVEN
+        StepVerifier.create(idempotencyStore.execute("task", "key-1", "request", String.class,
+                        Mono.error(new IllegalStateException("timeout"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        //WHEN
+        Mono<String> actual = idempotencyStore.execute("task", "key-1", "request", String.class, Mono.fromSupplier(this::create));
+        //THEN
+        StepVerifier.create(actual).expectNext("result-1").verifyComplete();
+    }
+
+    @Test
+    void execute_whenFirstAttemptIsStillRunning_ThrowsAfterWaitTimeout() throws Exception {
+        //GIVEN
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> idempotencyStore.execute("board", "key-1",
+                "request", String.class, () -> {
+                    started.countDown();
+                    awaitUninterruptibly(release);
+                    return create();
+                }));
+        started.await();
+        //THEN
+        assertThrows(IdempotentRequestInProgressException.class,
+                //WHEN
+                () -> idempotencyStore.execute("board", "key-1", "request", String.class, this::create));
+        release.countDown();
+        assertEquals("result-1", first.get());
+    }
+
+    @Test
+    void execute_whenReactiveFirstAttemptIsStillRunning_FailsAfterWaitTimeout() {
+        //GIVEN
+        idempotencyStore.execute("task", "key-1", "request", String.class, Mono.<String>never()).subscribe();
+        //WHEN
+        Mono<String> actual = idempotencyStore.execute("task", "key-1", "request", String.class, Mono.fromSupplier(this::create));
+        //THEN
+        StepVerifier.create(actual).expectError(IdempotentRequestInProgressException.class).verify();
+        assertEquals(0, executions.get());
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String create() {
+        return "result-" + executions.incrementAndGet();
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.esgoet.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankGeneratorTest {
+
+    @Test
+    void between_whenBothBoundsOpen_ReturnsMiddleRank() {
+        //WHEN
+        String actual = RankGenerator.between(null, null);
+        //THEN
+        assertEquals("V", actual);
+    }
+
+    @Test
+    void between_whenRanksAreAdjacent_ReturnsLongerRankBetweenThem() {
+        //WHEN
+        String actual = RankGenerator.between("a", "b");
+        //THEN
+        assertTrue("a".compareTo(actual) < 0);
+        assertTrue(actual.compareTo("b") < 0);
+        assertEquals("aV", actual);
+    }
+
+    @Test
+    void between_whenBoundsAreOutOfOrder_ThrowsIllegalArgumentException() {
+        //THEN
+        assertThrows(IllegalArgumentException.class,
+                //WHEN
+                () -> RankGenerator.between("b", "a"));
+    }
+
+    @Test
+    void between_whenAppendingRepeatedly_KeepsRanksShort() {
+        //GIVEN
+        String rank = RankGenerator.between(null, null);
+        //WHEN
+        for (int i = 0; i < 100_000; i++) {
+            String next = RankGenerator.between(rank, null);
+            assertTrue(rank.compareTo(next) < 0);
+            rank = next;
+        }
+        //THEN
+        assertTrue(rank.length() <= 8);
+    }
+
+    @Test
+    void between_whenInsertingAtRandomPositions_KeepsOrder() {
+        //GIVEN
+        Random random = new Random(42);
+        List<String> ranks = new ArrayList<>();
+        //WHEN
+        for (int i = 0; i < 5_000; i++) {
+            int position = random.nextInt(ranks.size() + 1);
+            String before = position == 0 ? null : ranks.get(position - 1);
+            String after = position == ranks.size() ? null : ranks.get(position);
+            ranks.add(position, RankGenerator.between(before, after));
+        }
+        //THEN
+        List<String> sorted = new ArrayList<>(ranks);
+        sorted.sort(null);
+        assertEquals(sorted, ranks);
+        assertTrue(ranks.stream().noneMatch(rank -> rank.endsWith("0")));
+    }
+
+    @Test
+    void evenlySpaced_ReturnsSortedDistinctRanks() {
+        //WHEN
+        List<String> actual = RankGenerator.evenlySpaced(1_000);
+        //THEN
+        List<String> sorted = new ArrayList<>(actual);
+        sorted.sort(null);
+        assertEquals(sorted, actual);
+        assertEquals(1_000, actual.stream().distinct().count());
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.OrderingProperties;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Column;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.BoardRepository;
+import com.github.esgoet.backend.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RankMigrationServiceTest {
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final BoardCache boardCache = mock(BoardCache.class);
+    private final RankMigrationService rankMigrationService = new RankMigrationService(boardRepository, taskRepository,
+            boardCache, new OrderingProperties(OrderingProperties.Mode.RANK, 500, false));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void migrateBoard_RanksTasksInListOrderAndClearsLists() {
+        //GIVEN
+        Board board = new Board("1", "Board 1", List.of(new Column("col-1", "Column 1", List.of("task-2", "task-1"))), 0L);
+        when(boardRepository.findById("1")).thenReturn(Optional.of(board));
+        when(taskRepository.findTasksByColumnIdOrderByRankAscIdAsc("col-1")).thenReturn(List.of(
+                new Task("task-3", "col-1", "Task 3", null, null),
+                new Task("task-1", "col-1", "Task 1", null, null)));
+        //WHEN
+        long actual = rankMigrationService.migrateBoard("1");
+        //THEN
+        assertEquals(3, actual);
+        ArgumentCaptor<Map<String, String>> ranks = ArgumentCaptor.forClass(Map.class);
+        verify(taskRepository).updateRanks(eq("col-1"), ranks.capture());
+        assertEquals(List.of("task-2", "task-1", "task-3"), List.copyOf(ranks.getValue().keySet()));
+        assertEquals(RankGenerator.evenlySpaced(3), List.copyOf(ranks.getValue().values()));
+        verify(boardRepository).save(new Board("1", "Board 1", List.of(new Column("col-1", "Column 1", List.of())), 0L));
+        verify(boardCache).evict("1");
+    }
+
+    @Test
+    void migrateBoard_whenListMode_ThrowsIllegalStateExceptionWithoutTouchingLists() {
+        //GIVEN
+        RankMigrationService listModeMigration = new RankMigrationService(boardRepository, taskRepository,
+                boardCache, new OrderingProperties(OrderingProperties.Mode.LIST, 500, false));
+        //THEN
+        assertThrows(IllegalStateException.class,
+                //WHEN
+                () -> listModeMigration.migrateBoard("1"));
+        verifyNoInteractions(boardRepository, taskRepository);
+    }
+}
@@ -0,0 +1,180 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.BoardCacheProperties;
+import com.github.esgoet.backend.config.ChangeStreamProperties;
+import com.github.esgoet.backend.config.DeadlineProperties;
+import com.github.esgoet.backend.config.OrderingProperties;
+import com.github.esgoet.backend.config.TaskVersionCacheProperties;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.dto.MoveTaskDto;
+import com.github.esgoet.backend.dto.NewTaskDto;
+import com.github.esgoet.backend.dto.TaskDto;
+import com.github.esgoet.backend.exception.ElementNotFoundException;
+import com.github.esgoet.backend.exception.PreconditionFailedException;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.ReactiveBoardRepository;
+import com.github.esgoet.backend.repository.ReactiveTaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveTaskServiceTest {
+    private final IdService idService = mock(IdService.class);
+    private final ReactiveTaskRepository taskRepository = mock(ReactiveTaskRepository.class);
+    private final ReactiveBoardRepository boardRepository = mock(ReactiveBoardRepository.class);
+    private final BoardCache boardCache = mock(BoardCache.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final TaskVersionCache taskVersionCache = new TaskVersionCache(new TaskVersionCacheProperties(100, Duration.ofMinutes(10)),
+            new BoardCacheProperties(100, Duration.ofMinutes(10), true), new ChangeStreamProperties(false, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1)));
+    private final ReactiveTaskService taskService = new ReactiveTaskService(idService, taskRepository, boardRepository, boardCache,
+            new OrderingProperties(OrderingProperties.Mode.LIST, 500, false),
+            new DeadlineProperties(true, Duration.ofHours(1), Duration.ofMinutes(15), Duration.ofDays(30)),
+            taskVersionCache, Optional.empty(), eventPublisher);
+
+    @Test
+    void getTaskById_whenNoTask_EmitsElementNotFoundException() {
+        //GIVEN
+        when(taskRepository.findById("task-999")).thenReturn(Mono.empty());
+        //WHEN
+        StepVerifier.create(taskService.getTaskById("task-999"))
+                //THEN
+                .expectErrorMatches(error -> error instanceof ElementNotFoundException
+                        && error.getMessage().equals("Task with ID task-999 not found"))
+                .verify();
+    }
+
+    @Test
+    void getTaskById_whenTaskExists_CachesItsVersion() {
+        //GIVEN
+        Task task = new Task("task-1", "col-1", "Task 1", "Description 1", null, 3L);
+        when(taskRepository.findById("task-1")).thenReturn(Mono.just(task));
+        //WHEN
+        StepVerifier.create(taskService.getTaskById("task-1"))
+                //THEN
+                .expectNext(task)
+                .verifyComplete();
+        assertEquals(Optional.of(3L), taskService.getCachedVersion("task-1"));
+    }
+
+    @Test
+    void createTask_whenColumnExists_SavesTask() {
+        //GIVEN
+        NewTaskDto newTask = new NewTaskDto("Task 1", "Description 1", null);
+        Task task = new Task("task-1", "col-1", "Task 1", "Description 1", null);
+        when(idService.generateId()).thenReturn("task-1");
+        when(boardRepository.pushTask("col-1", "task-1", null)).thenReturn(Mono.just(true));
+        when(taskRepository.save(task)).thenReturn(Mono.just(task));
+        //WHEN
+        StepVerifier.create(taskService.createTask("col-1", newTask))
+                //THEN
+                .expectNext(task)
+                .verifyComplete();
+        verify(boardCache).evictByColumnId("col-1");
+        verify(eventPublisher).publishEvent(BoardEventDto.taskCreated(task));
+    }
+
+    @Test
+    void createTask_whenColumnDoesNotExist_EmitsElementNotFoundException() {
+        //GIVEN
+        NewTaskDto newTask = new NewTaskDto("Task 1", "Description 1", null);
+        when(idService.generateId()).thenReturn("task-1");
+        when(boardRepository.pushTask("col-999", "task-1", null)).thenReturn(Mono.just(false));
+        //WHEN
+        StepVerifier.create(taskService.createTask("col-999", newTask))
+                //THEN
+                .expectError(ElementNotFoundException.class)
+                .verify();
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void updateTask_whenIfMatchIsStale_EmitsPreconditionFailedException() {
+        //GIVEN
+        TaskDto taskDto = new TaskDto("col-1", "Task 1", "Description 1", null);
+        Task updatedTask = new Task("task-1", "col-1", "Task 1", "Description 1", null);
+        when(taskRepository.findAndUpdate(updatedTask, 5L)).thenReturn(Mono.empty());
+        when(taskRepository.existsById("task-1")).thenReturn(Mono.just(true));
+        //WHEN
+        StepVerifier.create(taskService.updateTask("task-1", taskDto, 5L))
+                //THEN
+                .expectError(PreconditionFailedException.class)
+                .verify();
+        verifyNoInteractions(boardRepository, eventPublisher);
+    }
+
+    @Test
+    void updateTask_whenTargetColumnDoesNotExist_RestoresTask() {
+        //GIVEN
+        TaskDto taskDto = new TaskDto("col-999", "Task 1", "Description 1", null);
+        Task updatedTask = new Task("task-1", "col-999", "Task 1", "Description 1", null);
+        Task previousTask = new Task("task-1", "col-1", "Task 1", "Description 1", null, 1L);
+        when(taskRepository.findAndUpdate(updatedTask, null)).thenReturn(Mono.just(previousTask));
+        when(boardRepository.moveTask("task-1", "col-1", "col-999", null)).thenReturn(Mono.just(false));
+        when(taskRepository.findAndUpdate(previousTask, null)).thenReturn(Mono.just(updatedTask));
+        //WHEN
+        StepVerifier.create(taskService.updateTask("task-1", taskDto))
+                //THEN
+                .expectErrorMatches(error -> error instanceof ElementNotFoundException
+                        && error.getMessage().equals("Board including column with ID col-999 not found"))
+                .verify();
+        verify(taskRepository).findAndUpdate(previousTask, null);
+        verify(taskRepository, never()).existsById(anyString());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void moveTask_whenBoardUpdateFails_RestoresColumnId() {
+        //GIVEN
+        MoveTaskDto moveTaskDto = new MoveTaskDto("col-2", 0);
+        Task previousTask = new Task("task-1", "col-1", "Task 1", "Description 1", null, 1L);
+        when(taskRepository.findAndUpdateColumnId("task-1", "col-2", null)).thenReturn(Mono.just(previousTask));
+        when(boardRepository.moveTask("task-1", "col-1", "col-2", 0)).thenReturn(Mono.just(false));
+        when(taskRepository.findAndUpdateColumnId("task-1", "col-1", null)).thenReturn(Mono.just(previousTask));
+        //WHEN
+        StepVerifier.create(taskService.moveTask("task-1", moveTaskDto))
+                //THEN
+                .expectError(ElementNotFoundException.class)
+                .verify();
+        verify(taskRepository).findAndUpdateColumnId("task-1", "col-1", null);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void moveTask_whenBoardUpdateSucceeds_ReturnsMovedTask() {
+        //GIVEN
+        MoveTaskDto moveTaskDto = new MoveTaskDto("col-2", 0);
+        Task previousTask = new Task("task-1", "col-1", "Task 1", "Description 1", null, 1L);
+        Task movedTask = previousTask.withColumnId("col-2").withVersion(2L);
+        when(taskRepository.findAndUpdateColumnId("task-1", "col-2", null)).thenReturn(Mono.just(previousTask));
+        when(boardRepository.moveTask("task-1", "col-1", "col-2", 0)).thenReturn(Mono.just(true));
+        //WHEN
+        StepVerifier.create(taskService.moveTask("task-1", moveTaskDto))
+                //THEN
+                .expectNext(movedTask)
+                .verifyComplete();
+        verify(boardCache).evictByColumnId("col-1");
+        verify(boardCache).evictByColumnId("col-2");
+        verify(eventPublisher).publishEvent(BoardEventDto.taskMoved(movedTask, "col-1", 0));
+    }
+
+    @Test
+    void deleteTask_whenTaskExists_PullsTaskFromColumn() {
+        //GIVEN
+        Task task = new Task("task-1", "col-1", "Task 1", "Description 1", null);
+        when(taskRepository.findAndDelete("task-1", null)).thenReturn(Mono.just(task));
+        when(boardRepository.pullTask("col-1", "task-1")).thenReturn(Mono.just(true));
+        //WHEN
+        StepVerifier.create(taskService.deleteTask("task-1"))
+                //THEN
+                .verifyComplete();
+        verify(boardRepository).pullTask("col-1", "task-1");
+        verify(eventPublisher).publishEvent(BoardEventDto.taskDeleted("col-1", "task-1"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.DeadlineProperties;
+import com.github.esgoet.backend.exception.ElementNotFoundException;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Column;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.BoardRepository;
+import com.github.esgoet.backend.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskDeadlineServiceTest {
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final BoardCache boardCache = mock(BoardCache.class);
+    private final TaskDeadlineService taskDeadlineService = new TaskDeadlineService(taskRepository, boardRepository, boardCache,
+            new DeadlineProperties(true, Duration.ofHours(1), Duration.ofMinutes(15), Duration.ofDays(30)));
+
+    @Test
+    void streamOverdueTasks_whenBoardGiven_QueriesBoardColumns() {
+        //GIVEN
+        Board board = new Board("1", "Board 1", List.of(new Column("col-1", "Column 1", List.of()), new Column("col-2", "Column 2", List.of())));
+        Task task = new Task("task-1", "col-1", "Task 1", null, Instant.parse("2025-01-01T00:00:00Z"));
+        when(boardCache.get(eq("1"), any())).thenReturn(Optional.of(board));
+        when(taskRepository.streamByDeadline(eq(List.of("col-1", "col-2")), isNull(), any(Instant.class))).thenReturn(Stream.of(task));
+        //WHEN
+        List<Task> actual = taskDeadlineService.streamOverdueTasks("1").toList();
+        //THEN
+        assertEquals(List.of(task), actual);
+    }
+
+    @Test
+    void streamOverdueTasks_whenBoardNotFound_ThrowsElementNotFoundException() {
+        //GIVEN
+        when(boardCache.get(eq("1"), any())).thenReturn(Optional.empty());
+        //THEN
+        assertThrows(ElementNotFoundException.class,
+                //WHEN
+                () -> taskDeadlineService.streamOverdueTasks("1"));
+        verify(taskRepository, never()).streamByDeadline(any(), any(), any());
+    }
+
+    @Test
+    void streamTasksDueWithin_QueriesWindowFromNow() {
+        //GIVEN
+        when(taskRepository.streamByDeadline(isNull(), any(Instant.class), any(Instant.class))).thenReturn(Stream.empty());
+        Instant before = Instant.now();
+        //WHEN
+        taskDeadlineService.streamTasksDueWithin(null, Duration.ofDays(1)).close();
+        //THEN
+        verify(taskRepository).streamByDeadline(isNull(),
+                argThat(from -> !from.isBefore(before)),
+                argThat(to -> !to.isBefore(before.plus(Duration.ofDays(1)))));
+    }
+
+    @Test
+    void streamTasksDueWithin_whenWindowTooLarge_ThrowsIllegalArgumentException() {
+        //THEN
+        assertThrows(IllegalArgumentException.class,
+                //WHEN
+                () -> taskDeadlineService.streamTasksDueWithin(null, Duration.ofDays(31)));
+        verify(taskRepository, never()).streamByDeadline(any(), any(), any());
+    }
+}
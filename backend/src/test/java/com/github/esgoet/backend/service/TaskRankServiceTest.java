@@ -0,0 +1,45 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskRankServiceTest {
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskRankService taskRankService = new TaskRankService(taskRepository);
+
+    @Test
+    void rankAt_whenNeighboursShareARank_RebalancesColumnAndRanksBetweenThem() {
+        //GIVEN
+        List<String> ranks = RankGenerator.evenlySpaced(3);
+        when(taskRepository.findRanks("col-1", "task-4", 1, 2))
+                .thenReturn(List.of("V", "V"))
+                .thenReturn(List.of(ranks.get(1), ranks.get(2)));
+        when(taskRepository.findRankedIds("col-1")).thenReturn(List.of("task-1", "task-2", "task-3"));
+        //WHEN
+        String actual = taskRankService.rankAt("col-1", "task-4", 2);
+        //THEN
+        verify(taskRepository).updateRanks("col-1", Map.of(
+                "task-1", ranks.get(0),
+                "task-2", ranks.get(1),
+                "task-3", ranks.get(2)));
+        assertTrue(ranks.get(1).compareTo(actual) < 0);
+        assertTrue(actual.compareTo(ranks.get(2)) < 0);
+    }
+
+    @Test
+    void rankAt_whenNeighboursAreOrdered_DoesNotRebalance() {
+        //GIVEN
+        when(taskRepository.findRanks("col-1", "task-4", 0, 2)).thenReturn(List.of("a", "b"));
+        //WHEN
+        String actual = taskRankService.rankAt("col-1", "task-4", 1);
+        //THEN
+        assertEquals("aV", actual);
+        verify(taskRepository, never()).updateRanks(any(), any());
+    }
+}
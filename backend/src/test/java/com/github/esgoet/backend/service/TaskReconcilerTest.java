@@ -0,0 +1,110 @@
+package com.github.esgoet.backend.service;
+
+import com.github.esgoet.backend.config.OrderingProperties;
+import com.github.esgoet.backend.config.ReconcilerProperties;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Column;
+import com.github.esgoet.backend.model.ReconcilerLease;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.BoardRepository;
+import com.github.esgoet.backend.repository.ReconcilerLeaseRepository;
+import com.github.esgoet.backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskReconcilerTest {
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final ReconcilerLeaseRepository leaseRepository = mock(ReconcilerLeaseRepository.class);
+    private final BoardCache boardCache = mock(BoardCache.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final TaskReconciler reconciler = new TaskReconciler(taskRepository, boardRepository, leaseRepository,
+            boardCache, new OrderingProperties(OrderingProperties.Mode.LIST, 500, false),
+            new ReconcilerProperties(true, 500, 2, Duration.ofMinutes(10), Duration.ofMinutes(5)), eventPublisher);
+
+    @BeforeEach
+    void claimLease() {
+        when(leaseRepository.claim(eq("task-reconciler"), anyString(), any(), eq(Duration.ofMinutes(5))))
+                .thenReturn(Optional.of(new ReconcilerLease("task-reconciler", "owner", null, null, null)));
+    }
+
+    @Test
+    void reconcile_whenInconsistencyIsSeenTwice_RepairsIt() {
+        //GIVEN
+        Board board = new Board("1", "Board 1", List.of(new Column("col-1", "Column 1", List.of("task-1", "task-gone"))));
+        Task listedTask = new Task("task-1", "col-1", null, null, null, 0L);
+        Task unlistedTask = new Task("task-2", "col-1", null, null, null, 0L);
+        Task orphanedTask = new Task("task-3", "col-deleted", null, null, null, 4L);
+        when(boardRepository.findTaskListings(null, 500)).thenReturn(List.of(board));
+        when(taskRepository.findExistingIds(anyCollection())).thenReturn(List.of("task-1"));
+        when(taskRepository.findPlacements(null, 500)).thenReturn(List.of(listedTask, unlistedTask, orphanedTask));
+        when(boardRepository.findAllByColumnIdIn(anyCollection())).thenReturn(List.of(board));
+        when(boardRepository.pullTask("col-1", "task-gone")).thenReturn(true);
+        when(boardRepository.pushTask("col-1", "task-2", null)).thenReturn(true);
+        when(taskRepository.findAndDelete("task-3", 4L)).thenReturn(Optional.of(orphanedTask));
+        //WHEN
+        ReconciliationResult first = reconciler.reconcile();
+        ReconciliationResult second = reconciler.reconcile();
+        //THEN
+        assertEquals(new ReconciliationResult(0, 0, 0), first);
+        assertEquals(new ReconciliationResult(1, 1, 1), second);
+        verify(boardRepository).pullTask("col-1", "task-gone");
+        verify(boardRepository).pushTask("col-1", "task-2", null);
+        verify(taskRepository).findAndDelete("task-3", 4L);
+        verify(boardRepository, never()).pushTask(eq("col-1"), eq("task-1"), any());
+        verify(eventPublisher).publishEvent(BoardEventDto.taskDeleted("col-deleted", "task-3"));
+    }
+
+    @Test
+    void reconcile_whenInconsistencyResolvesItself_LeavesItAlone() {
+        //GIVEN
+        Board board = new Board("1", "Board 1", List.of(new Column("col-1", "Column 1", List.of("task-1"))));
+        when(boardRepository.findTaskListings(null, 500)).thenReturn(List.of(board));
+        when(taskRepository.findExistingIds(anyCollection())).thenReturn(List.of()).thenReturn(List.of("task-1"));
+        when(taskRepository.findPlacements(null, 500)).thenReturn(List.of());
+        //WHEN
+        reconciler.reconcile();
+        ReconciliationResult actual = reconciler.reconcile();
+        //THEN
+        assertEquals(new ReconciliationResult(0, 0, 0), actual);
+        verify(boardRepository, never()).pullTask(anyString(), anyString());
+    }
+
+    @Test
+    void reconcile_whenAnotherInstanceHoldsLease_SkipsRun() {
+        //GIVEN
+        when(leaseRepository.claim(eq("task-reconciler"), anyString(), any(), any())).thenReturn(Optional.empty());
+        //WHEN
+        ReconciliationResult actual = reconciler.reconcile();
+        //THEN
+        assertEquals(new ReconciliationResult(0, 0, 0), actual);
+        verifyNoInteractions(boardRepository, taskRepository);
+        verify(leaseRepository, never()).release(anyString(), anyString(), any(), any(), any());
+    }
+
+    @Test
+    void reconcile_whenBatchLimitReached_StoresCursorsAndResumesFromThem() {
+        //GIVEN
+        TaskReconciler smallBatchReconciler = new TaskReconciler(taskRepository, boardRepository, leaseRepository,
+                boardCache, new OrderingProperties(OrderingProperties.Mode.RANK, 500, false),
+                new ReconcilerProperties(true, 1, 2, Duration.ofMinutes(10), Duration.ofMinutes(5)), eventPublisher);
+        when(leaseRepository.claim(eq("task-reconciler"), anyString(), any(), any()))
+                .thenReturn(Optional.of(new ReconcilerLease("task-reconciler", "owner", null, null, "task-5")));
+        when(taskRepository.findPlacements("task-5", 1)).thenReturn(List.of(new Task("task-6", "col-1", null, null, null, 0L)));
+        when(taskRepository.findPlacements("task-6", 1)).thenReturn(List.of(new Task("task-7", "col-1", null, null, null, 0L)));
+        //WHEN
+        smallBatchReconciler.reconcile();
+        //THEN
+        verify(taskRepository, never()).findPlacements("task-7", 1);
+        verify(leaseRepository).release(eq("task-reconciler"), anyString(), any(), isNull(), eq("task-7"));
+    }
+}
@@ -1,16 +1,30 @@
 package com.github.esgoet.backend.service;
 
+import com.github.esgoet.backend.config.BoardCacheProperties;
+import com.github.esgoet.backend.config.ChangeStreamProperties;
+import com.github.esgoet.backend.config.OrderingProperties;
+import com.github.esgoet.backend.config.SearchProperties;
+import com.github.esgoet.backend.config.TaskVersionCacheProperties;
+import com.github.esgoet.backend.dto.BoardEventDto;
+import com.github.esgoet.backend.dto.MoveTaskDto;
 import com.github.esgoet.backend.dto.NewTaskDto;
 import com.github.esgoet.backend.dto.TaskDto;
+import com.github.esgoet.backend.dto.TaskHeaderDto;
+import com.github.esgoet.backend.dto.TaskPageDto;
+import com.github.esgoet.backend.dto.TaskQueryDto;
 import com.github.esgoet.backend.exception.ElementNotFoundException;
+import com.github.esgoet.backend.exception.PreconditionFailedException;
 import com.github.esgoet.backend.model.Board;
 import com.github.esgoet.backend.model.Column;
 import com.github.esgoet.backend.model.Task;
 import com.github.esgoet.backend.repository.BoardRepository;
 import com.github.esgoet.backend.repository.TaskRepository;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
 
-import java.util.ArrayList;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,7 +35,18 @@ class TaskServiceTest {
     private final IdService idService = mock(IdService.class);
     private final TaskRepository taskRepository = mock(TaskRepository.class);
     private final BoardRepository boardRepository = mock(BoardRepository.class);
-    private final TaskService taskService = new TaskService(idService, taskRepository, boardRepository);
+    private final BoardCache boardCache = mock(BoardCache.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final TaskRankService taskRankService = mock(TaskRankService.class);
+    private final SearchProperties searchProperties = new SearchProperties(false, 500, 1000);
+    private final TaskVersionCache taskVersionCache = new TaskVersionCache(new TaskVersionCacheProperties(100, Duration.ofMinutes(10)),
+            new BoardCacheProperties(100, Duration.ofMinutes(10), true), new ChangeStreamProperties(false, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1)));
+    private final TaskService taskService = new TaskService(idService, taskRepository, boardRepository, boardCache,
+            new OrderingProperties(OrderingProperties.Mode.LIST, 500, false), taskRankService, searchProperties, taskVersionCache,
+            TransactionOperations.withoutTransaction(), eventPublisher);
+    private final TaskService rankedTaskService = new TaskService(idService, taskRepository, boardRepository, boardCache,
+            new OrderingProperties(OrderingProperties.Mode.RANK, 500, false), taskRankService, searchProperties, taskVersionCache,
+            TransactionOperations.withoutTransaction(), eventPublisher);
 
     @Test
     void getTasksByColumnId_whenNoTasks_ReturnEmptyList() {
@@ -87,40 +112,53 @@ class TaskServiceTest {
 
         Task savedTask = new Task(generatedId, columnId, taskDto.title(), taskDto.description(), taskDto.deadline());
         when(taskRepository.save(savedTask)).thenReturn(savedTask);
-
-        Column column = new Column(columnId, "Column 1", new ArrayList<>());
-        Board board = new Board("1", "Board 1", List.of(column));
-        when(boardRepository.findByColumnId(columnId)).thenReturn(Optional.of(board));
+        when(boardRepository.pushTask(columnId, generatedId, null)).thenReturn(true);
 
         //WHEN
         Task actual = taskService.createTask(columnId, taskDto);
         //THEN
         Task expected = new Task(generatedId, columnId, taskDto.title(), taskDto.description(),taskDto.deadline());
         verify(idService).generateId();
-        verify(boardRepository).findByColumnId(columnId);
-        verify(boardRepository).save(board);
+        verify(boardRepository).pushTask(columnId, generatedId, null);
+        verify(boardRepository, never()).save(any());
+        verify(boardCache).evictByColumnId(columnId);
         verify(taskRepository).save(savedTask);
+        verify(eventPublisher).publishEvent(BoardEventDto.taskCreated(savedTask));
         assertEquals(expected, actual);
     }
 
+    @Test
+    void createTask_whenColumnDoesNotExist_throwsElementNotFoundException() {
+        //GIVEN
+        NewTaskDto taskDto = new NewTaskDto("Task 1", "Description 1",null);
+        when(idService.generateId()).thenReturn("task-1");
+        when(boardRepository.pushTask("col-999", "task-1", null)).thenReturn(false);
+        //THEN
+        ElementNotFoundException exception = assertThrows(ElementNotFoundException.class,
+                //WHEN
+                () -> taskService.createTask("col-999", taskDto));
+        assertEquals("Board including column with ID col-999 not found", exception.getMessage());
+        verify(taskRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     void updateTask_whenTaskExistsWithSameColumnId_returnUpdatedTask() {
         //GIVEN
         String existingId = "task-1";
         Task existingTask = new Task(existingId, "col-1", "Task 1", "Description 1",null);
         TaskDto updatedTaskDto = new TaskDto("col-1","Updated Task", "Updated Description", null);
-
-        when(taskRepository.findById(existingId)).thenReturn(Optional.of(existingTask));
         Task updatedTask = new Task(existingId, "col-1", updatedTaskDto.title(), updatedTaskDto.description(),  updatedTaskDto.deadline());
-        when(taskRepository.save(updatedTask)).thenReturn(updatedTask);
+
+        when(taskRepository.findAndUpdate(updatedTask, null)).thenReturn(Optional.of(existingTask));
         //WHEN
         Task actual = taskService.updateTask(existingId, updatedTaskDto);
         //THEN
-        Task expected = new Task(existingId, "col-1", updatedTaskDto.title(), updatedTaskDto.description(),  updatedTaskDto.deadline());
-        verify(taskRepository).findById(existingId);
-        verify(boardRepository, never()).findByColumnId("col-1");
+        Task expected = new Task(existingId, "col-1", updatedTaskDto.title(), updatedTaskDto.description(),  updatedTaskDto.deadline(), 1L);
+        verify(taskRepository).findAndUpdate(updatedTask, null);
+        verify(boardRepository, never()).moveTask(anyString(), anyString(), anyString(), any());
         verify(boardRepository, never()).save(any());
-        verify(taskRepository).save(updatedTask);
+        verify(eventPublisher).publishEvent(BoardEventDto.taskUpdated(expected));
         assertEquals(expected, actual);
     }
 
@@ -131,35 +169,47 @@ class TaskServiceTest {
         Task existingTask = new Task(existingId, "col-1", "Task 1", "Description 1", null);
         TaskDto updatedTaskDto = new TaskDto("col-2","Updated Task", "Updated Description",  null);
         Task updatedTask = new Task(existingId, "col-2", updatedTaskDto.title(), updatedTaskDto.description(), updatedTaskDto.deadline());
-        Column oldColumn = new Column("col-1", "Column 1", new ArrayList<>());
-        oldColumn.tasks().add(existingId);
-        Column newColumn = new Column("col-2", "Column 2", new ArrayList<>());
-        Board board = new Board("1", "Board 1", List.of(oldColumn, newColumn));
-        System.out.println(board);
-
-        when(boardRepository.findByColumnId("col-1")).thenReturn(Optional.of(board));
-        when(taskRepository.findById(existingId)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(updatedTask)).thenReturn(updatedTask);
 
+        when(taskRepository.findAndUpdate(updatedTask, null)).thenReturn(Optional.of(existingTask));
+        when(boardRepository.moveTask(existingId, "col-1", "col-2", null)).thenReturn(true);
         //WHEN
         Task actual = taskService.updateTask(existingId, updatedTaskDto);
         //THEN
-        System.out.println(board);
-        Task expected = new Task(existingId, "col-2", updatedTaskDto.title(), updatedTaskDto.description(),  updatedTaskDto.deadline());
-        verify(taskRepository).findById(existingId);
-        verify(boardRepository).findByColumnId("col-1");
-        verify(boardRepository).save(board);
-        verify(taskRepository).save(updatedTask);
+        Task expected = new Task(existingId, "col-2", updatedTaskDto.title(), updatedTaskDto.description(),  updatedTaskDto.deadline(), 1L);
+        verify(taskRepository).findAndUpdate(updatedTask, null);
+        verify(boardRepository).moveTask(existingId, "col-1", "col-2", null);
+        verify(boardRepository, never()).findByColumnId(anyString());
+        verify(boardCache).evictByColumnId("col-1");
+        verify(boardCache).evictByColumnId("col-2");
+        verify(boardRepository, never()).save(any());
         assertEquals(expected, actual);
     }
 
+    @Test
+    void updateTask_whenTargetColumnDoesNotExist_restoresTaskAndThrowsElementNotFoundException() {
+        //GIVEN
+        String existingId = "task-1";
+        Task existingTask = new Task(existingId, "col-1", "Task 1", "Description 1", null);
+        TaskDto updatedTaskDto = new TaskDto("col-999","Updated Task", "Updated Description",  null);
+        Task updatedTask = new Task(existingId, "col-999", updatedTaskDto.title(), updatedTaskDto.description(), updatedTaskDto.deadline());
+
+        when(taskRepository.findAndUpdate(updatedTask, null)).thenReturn(Optional.of(existingTask));
+        when(boardRepository.moveTask(existingId, "col-1", "col-999", null)).thenReturn(false);
+        //THEN
+        ElementNotFoundException exception = assertThrows(ElementNotFoundException.class,
+                //WHEN
+                () -> taskService.updateTask(existingId, updatedTaskDto));
+        assertEquals("Board including column with ID col-999 not found", exception.getMessage());
+        verify(taskRepository).findAndUpdate(existingTask, null);
+    }
+
     @Test
     void updateTask_whenTaskDoesNotExist_throwsElementNotFoundException() {
         //GIVEN
         String nonExistingId = "task-999";
         TaskDto updatedTaskDto = new TaskDto("col-1","Updated Task", "Updated Description",null);
 
-        when(taskRepository.findById(nonExistingId)).thenReturn(Optional.empty());
+        when(taskRepository.findAndUpdate(any(Task.class), any())).thenReturn(Optional.empty());
         //THEN
         ElementNotFoundException exception = assertThrows(ElementNotFoundException.class,
                 //WHEN
@@ -167,25 +217,268 @@ class TaskServiceTest {
         assertEquals("Task with ID task-999 not found", exception.getMessage());
     }
 
+    @Test
+    void updateTask_whenVersionDoesNotMatch_throwsPreconditionFailedException() {
+        //GIVEN
+        TaskDto updatedTaskDto = new TaskDto("col-1","Updated Task", "Updated Description",null);
+
+        when(taskRepository.findAndUpdate(any(Task.class), eq(2L))).thenReturn(Optional.empty());
+        when(taskRepository.existsById("task-1")).thenReturn(true);
+        //THEN
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                //WHEN
+                () -> taskService.updateTask("task-1", updatedTaskDto, 2L));
+        assertEquals("Task with ID task-1 does not match the given If-Match precondition", exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void getCachedVersion_whenTaskWasReadAndNotChanged_returnsVersion() {
+        //GIVEN
+        Task task = new Task("task-1", "col-1", "Task 1", "Description 1", null, 3L);
+        when(taskRepository.findById("task-1")).thenReturn(Optional.of(task));
+        taskService.getTaskById("task-1");
+        //WHEN
+        Optional<Long> actual = taskService.getCachedVersion("task-1");
+        //THEN
+        assertEquals(Optional.of(3L), actual);
+        taskVersionCache.onBoardEvent(BoardEventDto.taskDeleted("col-1", "task-1"));
+        assertEquals(Optional.empty(), taskService.getCachedVersion("task-1"));
+    }
+
+    @Test
+    void getCachedVersion_whenMultiNodeWithoutChangeStreams_returnsEmpty() {
+        //GIVEN
+        TaskVersionCache disabledCache = new TaskVersionCache(new TaskVersionCacheProperties(100, Duration.ofMinutes(10)),
+                new BoardCacheProperties(100, Duration.ofMinutes(10), false), new ChangeStreamProperties(false, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1)));
+        Task task = new Task("task-1", "col-1", "Task 1", "Description 1", null, 3L);
+        //WHEN
+        Optional<Task> loaded = disabledCache.load("task-1", id -> Optional.of(task));
+        //THEN
+        assertEquals(Optional.of(task), loaded);
+        assertEquals(Optional.empty(), disabledCache.getIfPresent("task-1"));
+    }
+
+    @Test
+    void moveTask_whenTaskExists_returnMovedTask() {
+        //GIVEN
+        String existingId = "task-1";
+        Task existingTask = new Task(existingId, "col-1", "Task 1", "Description 1", null);
+        MoveTaskDto moveTaskDto = new MoveTaskDto("col-2", 0);
+
+        when(taskRepository.findAndUpdateColumnId(existingId, "col-2", null)).thenReturn(Optional.of(existingTask));
+        when(boardRepository.moveTask(existingId, "col-1", "col-2", 0)).thenReturn(true);
+        //WHEN
+        Task actual = taskService.moveTask(existingId, moveTaskDto);
+        //THEN
+        Task expected = new Task(existingId, "col-2", "Task 1", "Description 1", null, 1L);
+        verify(taskRepository).findAndUpdateColumnId(existingId, "col-2", null);
+        verify(boardRepository).moveTask(existingId, "col-1", "col-2", 0);
+        verify(taskRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(BoardEventDto.taskMoved(expected, "col-1", 0));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void moveTask_whenTaskDoesNotExist_throwsElementNotFoundException() {
+        //GIVEN
+        String nonExistingId = "task-999";
+        MoveTaskDto moveTaskDto = new MoveTaskDto("col-2", 0);
+
+        when(taskRepository.findAndUpdateColumnId(nonExistingId, "col-2", null)).thenReturn(Optional.empty());
+        //THEN
+        ElementNotFoundException exception = assertThrows(ElementNotFoundException.class,
+                //WHEN
+                () -> taskService.moveTask(nonExistingId, moveTaskDto));
+        assertEquals("Task with ID task-999 not found", exception.getMessage());
+        verify(boardRepository, never()).moveTask(anyString(), anyString(), anyString(), any());
+    }
+
     @Test
     void deleteTask() {
         //GIVEN
         String existingId = "task-1";
         Task task = new Task(existingId, "col-1", "Task 1", "Description 1",  null);
-        Column column = new Column("col-1", "Column 1", new ArrayList<>());
-        column.tasks().add(existingId);
-        Board board = new Board("1", "Board 1", List.of(column));
 
-        when(taskRepository.findById(existingId)).thenReturn(Optional.of(task));
-        when(boardRepository.findByColumnId("col-1")).thenReturn(Optional.of(board));
-
-        doNothing().when(taskRepository).deleteById(existingId);
+        when(taskRepository.findAndDelete(existingId, null)).thenReturn(Optional.of(task));
+        when(boardRepository.pullTask("col-1", existingId)).thenReturn(true);
         //WHEN
         taskService.deleteTask(existingId);
         //THEN
-        verify(taskRepository).findById(existingId);
-        verify(boardRepository).findByColumnId("col-1");
-        verify(boardRepository).save(board);
-        verify(taskRepository).deleteById(existingId);
+        verify(taskRepository).findAndDelete(existingId, null);
+        verify(boardRepository).pullTask("col-1", existingId);
+        verify(boardRepository, never()).save(any());
+        verify(boardCache).evictByColumnId("col-1");
+        verify(eventPublisher).publishEvent(BoardEventDto.taskDeleted("col-1", existingId));
+    }
+
+    @Test
+    void deleteTask_whenTaskDoesNotExist_throwsElementNotFoundException() {
+        //GIVEN
+        String nonExistingId = "task-999";
+        when(taskRepository.findAndDelete(nonExistingId, null)).thenReturn(Optional.empty());
+        //THEN
+        ElementNotFoundException exception = assertThrows(ElementNotFoundException.class,
+                //WHEN
+                () -> taskService.deleteTask(nonExistingId));
+        assertEquals("Task with ID task-999 not found", exception.getMessage());
+        verify(boardRepository, never()).pullTask(anyString(), anyString());
+    }
+
+    @Test
+    void createTask_whenRanked_AppendsRankWithoutTouchingBoard() {
+        //GIVEN
+        NewTaskDto newTask = new NewTaskDto("Task 1", "Description 1", null);
+        Task expected = new Task("task-1", "col-1", "Task 1", "Description 1", null).withRank("V");
+        when(idService.generateId()).thenReturn("task-1");
+        when(boardCache.getByColumnId(eq("col-1"), any())).thenReturn(Optional.of(new Board("1", "Board 1", List.of())));
+        when(taskRankService.rankAt("col-1", "task-1", null)).thenReturn("V");
+        when(taskRepository.save(expected)).thenReturn(expected);
+        //WHEN
+        Task actual = rankedTaskService.createTask("col-1", newTask);
+        //THEN
+        assertEquals(expected, actual);
+        verify(boardRepository, never()).pushTask(anyString(), anyString(), any());
+        verify(eventPublisher).publishEvent(BoardEventDto.taskCreated(expected));
+    }
+
+    @Test
+    void createTask_whenRankedAndColumnDoesNotExist_ThrowsElementNotFoundException() {
+        //GIVEN
+        NewTaskDto newTask = new NewTaskDto("Task 1", "Description 1", null);
+        when(idService.generateId()).thenReturn("task-1");
+        when(boardCache.getByColumnId(eq("col-999"), any())).thenReturn(Optional.empty());
+        //THEN
+        ElementNotFoundException exception = assertThrows(ElementNotFoundException.class,
+                //WHEN
+                () -> rankedTaskService.createTask("col-999", newTask));
+        assertEquals("Board including column with ID col-999 not found", exception.getMessage());
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void moveTask_whenRanked_UpdatesOnlyTheTask() {
+        //GIVEN
+        MoveTaskDto moveTaskDto = new MoveTaskDto("col-2", 1);
+        Task previousTask = new Task("task-1", "col-1", "Task 1", "Description 1", null, 1L, "V");
+        when(boardCache.getByColumnId(eq("col-2"), any())).thenReturn(Optional.of(new Board("1", "Board 1", List.of())));
+        when(taskRankService.rankAt("col-2", "task-1", 1)).thenReturn("X");
+        when(taskRepository.findAndUpdatePosition("task-1", "col-2", "X", null)).thenReturn(Optional.of(previousTask));
+        //WHEN
+        Task actual = rankedTaskService.moveTask("task-1", moveTaskDto);
+        //THEN
+        Task expected = new Task("task-1", "col-2", "Task 1", "Description 1", null, 2L, "X");
+        assertEquals(expected, actual);
+        verify(boardRepository, never()).moveTask(anyString(), anyString(), anyString(), any());
+        verify(eventPublisher).publishEvent(BoardEventDto.taskMoved(expected, "col-1", 1));
+    }
+
+    @Test
+    void updateTask_whenRankedAndColumnUnchanged_KeepsRank() {
+        //GIVEN
+        TaskDto taskDto = new TaskDto("col-1", "Task 1 updated", "Description 1", null);
+        Task previousTask = new Task("task-1", "col-1", "Task 1", "Description 1", null, 1L, "V");
+        when(taskRepository.findPlacement("task-1")).thenReturn(Optional.of(new Task("task-1", "col-1", null, null, null, 1L, "V")));
+        when(taskRepository.findAndUpdate(any(), any())).thenReturn(Optional.of(previousTask));
+        //WHEN
+        Task actual = rankedTaskService.updateTask("task-1", taskDto);
+        //THEN
+        Task expected = new Task("task-1", "col-1", "Task 1 updated", "Description 1", null, 2L, "V");
+        assertEquals(expected, actual);
+        verifyNoInteractions(taskRankService);
+    }
+
+    @Test
+    void getTaskHeadersByColumnId_whenRanked_ReturnsHeadersInRankOrder() {
+        //GIVEN
+        List<TaskHeaderDto> headers = List.of(
+                new TaskHeaderDto("task-2", "col-1", "Task 2", null),
+                new TaskHeaderDto("task-1", "col-1", "Task 1", null));
+        when(taskRepository.findTaskHeadersByColumnIdOrderByRankAscIdAsc("col-1")).thenReturn(headers);
+        //WHEN
+        List<TaskHeaderDto> actual = rankedTaskService.getTaskHeadersByColumnId("col-1");
+        //THEN
+        assertEquals(headers, actual);
+        verify(taskRepository, never()).findTasksByColumnIdOrderByRankAscIdAsc(any());
+    }
+
+    @Test
+    void getTaskPage_whenSortedByDeadline_ReturnsContinuationCursor() {
+        //GIVEN
+        TaskQueryDto query = new TaskQueryDto(TaskQueryDto.SortBy.DEADLINE, null, null, null);
+        Instant deadline = Instant.parse("2025-01-01T00:00:00Z");
+        List<Task> tasks = List.of(
+                new Task("task-1", "col-1", "Task 1", null, deadline),
+                new Task("task-2", "col-1", "Task 2", null, deadline),
+                new Task("task-3", "col-1", "Task 3", null, deadline));
+        when(taskRepository.findPage("col-1", query, null, null, 3)).thenReturn(tasks);
+        when(taskRepository.findPage("col-1", query, deadline, "task-2", 3)).thenReturn(tasks.subList(2, 3));
+        //WHEN
+        TaskPageDto firstPage = taskService.getTaskPage("col-1", query, null, 2);
+        TaskPageDto secondPage = taskService.getTaskPage("col-1", query, firstPage.nextCursor(), 2);
+        //THEN
+        assertEquals(tasks.subList(0, 2), firstPage.tasks());
+        assertNotNull(firstPage.nextCursor());
+        assertEquals(new TaskPageDto(tasks.subList(2, 3), null), secondPage);
+    }
+
+    @Test
+    void getTaskPage_whenOrderedByColumnListInListMode_PagesThroughBoardList() {
+        //GIVEN
+        TaskQueryDto query = new TaskQueryDto(TaskQueryDto.SortBy.ORDER, null, null, null);
+        Board board = new Board("1", "Board 1", List.of(new Column("col-1", "Column 1", List.of("task-3", "task-1", "task-2"))));
+        when(boardCache.getByColumnId(eq("col-1"), any())).thenReturn(Optional.of(board));
+        when(taskRepository.findAllMatching(List.of("task-3", "task-1"), query)).thenReturn(List.of(
+                new Task("task-1", "col-1", "Task 1", null, null),
+                new Task("task-3", "col-1", "Task 3", null, null)));
+        when(taskRepository.findAllMatching(List.of("task-2"), query)).thenReturn(List.of(
+                new Task("task-2", "col-1", "Task 2", null, null)));
+        //WHEN
+        TaskPageDto firstPage = taskService.getTaskPage("col-1", query, null, 2);
+        TaskPageDto secondPage = taskService.getTaskPage("col-1", query, firstPage.nextCursor(), 2);
+        //THEN
+        assertEquals(List.of("task-3", "task-1"), firstPage.tasks().stream().map(Task::id).toList());
+        assertEquals(List.of("task-2"), secondPage.tasks().stream().map(Task::id).toList());
+        assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    void getTaskPage_whenCursorBelongsToOtherSort_ThrowsIllegalArgumentException() {
+        //GIVEN
+        TaskQueryDto deadlineQuery = new TaskQueryDto(TaskQueryDto.SortBy.DEADLINE, null, null, null);
+        TaskQueryDto orderQuery = new TaskQueryDto(TaskQueryDto.SortBy.ORDER, null, null, null);
+        String cursor = TaskCursor.after(TaskQueryDto.SortBy.DEADLINE, new Task("task-1", "col-1", "Task 1", null, null)).encode();
+        //THEN
+        assertThrows(IllegalArgumentException.class,
+                //WHEN
+                () -> rankedTaskService.getTaskPage("col-1", orderQuery, cursor, 10));
+        assertThrows(IllegalArgumentException.class,
+                //WHEN
+                () -> rankedTaskService.getTaskPage("col-1", deadlineQuery, "not a cursor", 10));
+    }
+
+    @Test
+    void searchTasks_whenMoreResultsExist_ReturnsOffsetCursor() {
+        //GIVEN
+        Board board = new Board("1", "Board 1", List.of(new Column("col-1", "Column 1", List.of()), new Column("col-2", "Column 2", List.of())));
+        List<Task> tasks = List.of(
+                new Task("task-1", "col-1", "Review release", null, null),
+                new Task("task-2", "col-2", "Release notes", null, null),
+                new Task("task-3", "col-2", "Release plan", null, null));
+        when(boardCache.get(eq("1"), any())).thenReturn(Optional.of(board));
+        when(taskRepository.search("rel", List.of("col-1", "col-2"), 0, 3)).thenReturn(tasks);
+        //WHEN
+        TaskPageDto actual = taskService.searchTasks("rel", "1", null, 2);
+        //THEN
+        assertEquals(new TaskPageDto(tasks.subList(0, 2), "2"), actual);
+    }
+
+    @Test
+    void searchTasks_whenQueryHasNoWords_ThrowsIllegalArgumentException() {
+        //THEN
+        assertThrows(IllegalArgumentException.class,
+                //WHEN
+                () -> taskService.searchTasks(" -- ", null, null, 20));
+        verify(taskRepository, never()).search(any(), any(), anyInt(), anyInt());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.github.esgoet.benchmarks;
+
+import com.github.esgoet.backend.BackendApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public final class BenchmarkApplication {
+    public static final String EMBEDDED_MONGO = "embedded-mongo";
+    public static final String IN_MEMORY = "in-memory";
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String backend) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false);
+        if (IN_MEMORY.equals(backend)) {
+            builder.sources(InMemoryRepositoryConfiguration.class);
+        }
+        return builder.run();
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.esgoet.benchmarks;
+
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Column;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.BoardRepository;
+import com.github.esgoet.backend.repository.TaskRepository;
+import org.springframework.context.ApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record BoardFixture(
+        String boardId,
+        String firstColumnId,
+        String secondColumnId,
+        List<String> firstColumnTaskIds
+) {
+    public static BoardFixture create(ApplicationContext context, int tasksPerColumn) {
+        BoardRepository boardRepository = context.getBean(BoardRepository.class);
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+        boardRepository.deleteAll();
+        taskRepository.deleteAll();
+
+        List<Task> tasks = new ArrayList<>();
+        List<String> firstColumnTaskIds = new ArrayList<>();
+        List<String> secondColumnTaskIds = new ArrayList<>();
+        for (int i = 0; i < tasksPerColumn; i++) {
+            tasks.add(task("task-a-" + i, "col-a", i));
+            tasks.add(task("task-b-" + i, "col-b", i));
+            firstColumnTaskIds.add("task-a-" + i);
+            secondColumnTaskIds.add("task-b-" + i);
+        }
+        taskRepository.saveAll(tasks);
+        boardRepository.save(new Board("board-1", "Benchmark Board", List.of(
+                new Column("col-a", "Column A", firstColumnTaskIds),
+                new Column("col-b", "Column B", secondColumnTaskIds))));
+        return new BoardFixture("board-1", "col-a", "col-b", List.copyOf(firstColumnTaskIds));
+    }
+
+    public String middleTaskId() {
+        return firstColumnTaskIds.get(firstColumnTaskIds.size() / 2);
+    }
+
+    private static Task task(String id, String columnId, int index) {
+        return new Task(id, columnId, "Task " + index, "Benchmark task " + index, null);
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.esgoet.benchmarks;
+
+import com.github.esgoet.backend.dto.BoardDto;
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.service.BoardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardServiceBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    public int tasksPerColumn;
+
+    @Param({BenchmarkApplication.EMBEDDED_MONGO, BenchmarkApplication.IN_MEMORY})
+    public String backend;
+
+    private ConfigurableApplicationContext context;
+    private BoardService boardService;
+    private String boardId;
+    private BoardDto renamedBoard;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkApplication.start(backend);
+        boardService = context.getBean(BoardService.class);
+        BoardFixture fixture = BoardFixture.create(context, tasksPerColumn);
+        boardId = fixture.boardId();
+        Board board = boardService.getBoardById(boardId);
+        renamedBoard = new BoardDto("Renamed Board", board.columns());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Board updateBoard() {
+        return boardService.updateBoard(boardId, renamedBoard);
+    }
+}
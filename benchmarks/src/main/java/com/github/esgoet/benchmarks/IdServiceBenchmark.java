@@ -0,0 +1,47 @@
+package com.github.esgoet.benchmarks;
+
+import com.github.esgoet.backend.config.IdProperties;
+import com.github.esgoet.backend.service.IdService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdServiceBenchmark {
+    @Param({"RANDOM_UUID", "UUID_V7", "ULID", "OBJECT_ID"})
+    public IdProperties.Strategy strategy;
+
+    private IdService idService;
+
+    @Setup
+    public void createIdService() {
+        idService = new IdService(new IdProperties(strategy));
+    }
+
+    @Benchmark
+    public String generateId() {
+        return idService.generateId();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String generateIdContended() {
+        return idService.generateId();
+    }
+}
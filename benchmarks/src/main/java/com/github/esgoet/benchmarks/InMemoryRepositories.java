@@ -0,0 +1,210 @@
+package com.github.esgoet.benchmarks;
+
+import com.github.esgoet.backend.model.Board;
+import com.github.esgoet.backend.model.Column;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.repository.BoardRepository;
+import com.github.esgoet.backend.repository.TaskRepository;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Map-backed stand-ins for the Mongo repositories, so benchmarks can separate service overhead from database cost.
+ * Only the methods the services call are implemented; stored documents are copied on every read and write to
+ * approximate (de)serialisation.
+ */
+public class InMemoryRepositories {
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+    private final Map<String, Task> tasks = new ConcurrentHashMap<>();
+
+    public BoardRepository boardRepository() {
+        return proxy(BoardRepository.class, this::invokeBoardMethod);
+    }
+
+    public TaskRepository taskRepository() {
+        return proxy(TaskRepository.class, this::invokeTaskMethod);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object invokeBoardMethod(Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "findById" -> Optional.ofNullable(boards.get((String) args[0])).map(InMemoryRepositories::copy);
+            case "findAll" -> boards.values().stream().map(InMemoryRepositories::copy).toList();
+            case "save" -> saveBoard((Board) args[0]);
+            case "deleteById" -> boards.remove((String) args[0]);
+            case "deleteAll" -> {
+                boards.clear();
+                yield null;
+            }
+            case "findByColumnId" -> findBoardByColumnId((String) args[0]).map(InMemoryRepositories::copy);
+            case "existsByColumnId" -> findBoardByColumnId((String) args[0]).isPresent();
+            case "findAllByColumnIdIn" -> ((Collection<String>) args[0]).stream()
+                    .map(this::findBoardByColumnId)
+                    .flatMap(Optional::stream)
+                    .distinct()
+                    .map(InMemoryRepositories::copy)
+                    .toList();
+            case "pushTask" -> pushTask((String) args[0], (String) args[1], (Integer) args[2]);
+            case "pullTask" -> pullTask((String) args[0], (String) args[1]);
+            case "moveTask" -> moveTask((String) args[0], (String) args[1], (String) args[2], (Integer) args[3]);
+            default -> throw new UnsupportedOperationException("BoardRepository." + method.getName());
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object invokeTaskMethod(Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "findById" -> Optional.ofNullable(tasks.get((String) args[0]));
+            case "findAllById" -> {
+                List<Task> found = new ArrayList<>();
+                ((Iterable<String>) args[0]).forEach(id -> Optional.ofNullable(tasks.get(id)).ifPresent(found::add));
+                yield found;
+            }
+            case "save" -> saveTask((Task) args[0]);
+            case "saveAll" -> {
+                List<Task> saved = new ArrayList<>();
+                ((Iterable<Task>) args[0]).forEach(task -> saved.add(saveTask(task)));
+                yield saved;
+            }
+            case "deleteById" -> tasks.remove((String) args[0]);
+            case "deleteAll" -> {
+                tasks.clear();
+                yield null;
+            }
+            case "findTasksByColumnId" -> Optional.of(tasksInColumns(List.of((String) args[0])));
+            case "findTasksByColumnIdIn" -> tasksInColumns((Collection<String>) args[0]);
+            case "deleteTasksByColumnId" -> tasks.values().removeIf(task -> task.columnId().equals(args[0]));
+            case "findAndUpdate" -> replaceTask((Task) args[0], task -> task
+                    .withColumnId(((Task) args[0]).columnId())
+                    .withTitle(((Task) args[0]).title())
+                    .withDescription(((Task) args[0]).description())
+                    .withDeadline(((Task) args[0]).deadline()));
+            case "findAndUpdateColumnId" -> replaceTask(tasks.get((String) args[0]), task -> task.withColumnId((String) args[1]));
+            case "findAndDelete" -> Optional.ofNullable(tasks.remove((String) args[0]));
+            case "bulkWrite" -> {
+                ((Collection<Task>) args[0]).forEach(this::saveTask);
+                ((Collection<Task>) args[1]).forEach(task -> tasks.put(task.id(), task.withVersion(nextVersion(task))));
+                ((Collection<String>) args[2]).forEach(tasks::remove);
+                yield null;
+            }
+            default -> throw new UnsupportedOperationException("TaskRepository." + method.getName());
+        };
+    }
+
+    private Board saveBoard(Board board) {
+        Board saved = boards.compute(board.id(), (id, existing) -> {
+            if (existing != null && board.version() != null && !board.version().equals(existing.version())) {
+                throw new OptimisticLockingFailureException("Board " + id + " was modified concurrently");
+            }
+            return copy(board.withVersion(existing == null ? 0L : nextVersion(existing.version())));
+        });
+        return copy(saved);
+    }
+
+    private Optional<Board> findBoardByColumnId(String columnId) {
+        return boards.values().stream()
+                .filter(board -> board.columns().stream().anyMatch(column -> column.id().equals(columnId)))
+                .findFirst();
+    }
+
+    private boolean pushTask(String columnId, String taskId, Integer position) {
+        return updateColumn(columnId, columnTasks -> {
+            int index = position == null ? columnTasks.size() : Math.clamp(position, 0, columnTasks.size());
+            columnTasks.add(index, taskId);
+        });
+    }
+
+    private boolean pullTask(String columnId, String taskId) {
+        return updateColumn(columnId, columnTasks -> columnTasks.remove(taskId));
+    }
+
+    private boolean moveTask(String taskId, String fromColumnId, String toColumnId, Integer position) {
+        if (fromColumnId.equals(toColumnId)) {
+            pullTask(fromColumnId, taskId);
+            return pushTask(toColumnId, taskId, position);
+        }
+        if (!pushTask(toColumnId, taskId, position)) {
+            return false;
+        }
+        pullTask(fromColumnId, taskId);
+        return true;
+    }
+
+    private boolean updateColumn(String columnId, Consumer<List<String>> change) {
+        Optional<Board> board = findBoardByColumnId(columnId);
+        board.ifPresent(found -> boards.computeIfPresent(found.id(), (id, existing) -> {
+            existing.columns().stream()
+                    .filter(column -> column.id().equals(columnId))
+                    .findFirst()
+                    .ifPresent(column -> change.accept(column.tasks()));
+            return existing.withVersion(nextVersion(existing.version()));
+        }));
+        return board.isPresent();
+    }
+
+    private Task saveTask(Task task) {
+        Task saved = task.withVersion(task.version() == null ? 0L : nextVersion(task.version()));
+        tasks.put(saved.id(), saved);
+        return saved;
+    }
+
+    private Optional<Task> replaceTask(Task task, UnaryOperator<Task> change) {
+        Task previous = task == null ? null : tasks.get(task.id());
+        if (previous == null) {
+            return Optional.empty();
+        }
+        tasks.put(previous.id(), change.apply(previous).withVersion(nextVersion(previous)));
+        return Optional.of(previous);
+    }
+
+    private List<Task> tasksInColumns(Collection<String> columnIds) {
+        return tasks.values().stream()
+                .filter(task -> columnIds.contains(task.columnId()))
+                .toList();
+    }
+
+    private static long nextVersion(Task task) {
+        return nextVersion(task.version());
+    }
+
+    private static long nextVersion(Long version) {
+        return version == null ? 1L : version + 1;
+    }
+
+    private static Board copy(Board board) {
+        return board.withColumns(board.columns().stream()
+                .map(column -> new Column(column.id(), column.name(), new ArrayList<>(column.tasks())))
+                .toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, RepositoryInvocation invocation) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> type.getSimpleName() + "(in-memory)";
+                };
+            }
+            return invocation.invoke(method, args == null ? new Object[0] : args);
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface RepositoryInvocation {
+        Object invoke(Method method, Object[] args);
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.esgoet.benchmarks;
+
+import com.github.esgoet.backend.repository.BoardRepository;
+import com.github.esgoet.backend.repository.TaskRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class InMemoryRepositoryConfiguration {
+    private final InMemoryRepositories repositories = new InMemoryRepositories();
+
+    @Bean
+    @Primary
+    public BoardRepository inMemoryBoardRepository() {
+        return repositories.boardRepository();
+    }
+
+    @Bean
+    @Primary
+    public TaskRepository inMemoryTaskRepository() {
+        return repositories.taskRepository();
+    }
+}
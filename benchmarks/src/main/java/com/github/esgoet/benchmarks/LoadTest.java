@@ -0,0 +1,148 @@
+package com.github.esgoet.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.esgoet.backend.BackendApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives the HTTP API with a fixed number of concurrent clients and reports throughput and latency percentiles.
+ * Run it once per mode on the same machine and compare the JSON files written to {@code target/}.
+ */
+public final class LoadTest {
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (ConfigurableApplicationContext context = start(options);
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            BoardFixture fixture = BoardFixture.create(context, options.tasksPerColumn());
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clients)
+                    .build();
+            Workload workload = new Workload(httpClient, URI.create("http://localhost:" + port), fixture);
+
+            run(workload, clients, options.concurrency(), options.warmup());
+            long started = System.nanoTime();
+            Samples samples = run(workload, clients, options.concurrency(), options.duration());
+            double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+            LoadTestResult result = LoadTestResult.of(options, elapsedSeconds, samples.latencies(), samples.errors());
+            ObjectMapper objectMapper = new ObjectMapper();
+            Path output = Path.of("target", "load-" + options.mode() + ".json");
+            Files.createDirectories(output.getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), result);
+            System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(result));
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestOptions options) {
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .logStartupInfo(false)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + options.virtualThreads(),
+                        "server.tomcat.threads.max=" + options.tomcatThreads(),
+                        "server.tomcat.max-connections=" + Math.max(8192, options.concurrency() * 2),
+                        "server.tomcat.accept-count=" + options.concurrency())
+                .run();
+    }
+
+    private static Samples run(Workload workload, ExecutorService clients, int concurrency, Duration duration)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(clients.submit(() -> {
+                LatencyRecorder recorder = new LatencyRecorder();
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    if (workload.next()) {
+                        recorder.record(System.nanoTime() - start);
+                    } else {
+                        errors.incrementAndGet();
+                    }
+                }
+                return recorder.toArray();
+            }));
+        }
+        List<long[]> latencies = new ArrayList<>(concurrency);
+        for (Future<long[]> future : futures) {
+            latencies.add(future.get());
+        }
+        long[] merged = latencies.stream().flatMapToLong(Arrays::stream).toArray();
+        return new Samples(merged, errors.get());
+    }
+
+    private record Samples(long[] latencies, long errors) {
+    }
+
+    private record Workload(HttpClient httpClient, URI baseUri, BoardFixture fixture) {
+        private boolean next() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<String> taskIds = fixture.firstColumnTaskIds();
+            String taskId = taskIds.get(random.nextInt(taskIds.size()));
+            int operation = random.nextInt(10);
+            HttpRequest request;
+            if (operation < 5) {
+                request = HttpRequest.newBuilder(baseUri.resolve("/api/tasks/" + taskId)).GET().build();
+            } else if (operation < 8) {
+                request = HttpRequest.newBuilder(baseUri.resolve("/api/tasks/column/" + fixture.firstColumnId())).GET().build();
+            } else {
+                String body = "{\"columnId\":\"" + fixture.firstColumnId() + "\",\"position\":" + random.nextInt(taskIds.size()) + "}";
+                request = HttpRequest.newBuilder(baseUri.resolve("/api/tasks/" + taskId + "/move"))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+            }
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                return response.statusCode() < 400;
+            } catch (IOException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private static final class LatencyRecorder {
+        private long[] samples = new long[1024];
+        private int size;
+
+        private void record(long nanos) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(samples, size);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.esgoet.benchmarks;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public record LoadTestOptions(
+        String mode,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int tasksPerColumn,
+        int tomcatThreads
+) {
+    public static final String POOLED = "pooled";
+    public static final String VIRTUAL = "virtual";
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        String mode = values.getOrDefault("mode", POOLED);
+        if (!POOLED.equals(mode) && !VIRTUAL.equals(mode)) {
+            throw new IllegalArgumentException("--mode must be " + POOLED + " or " + VIRTUAL);
+        }
+        return new LoadTestOptions(
+                mode,
+                Integer.parseInt(values.getOrDefault("concurrency", "1000")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup-seconds", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration-seconds", "30"))),
+                Integer.parseInt(values.getOrDefault("tasks-per-column", "100")),
+                Integer.parseInt(values.getOrDefault("tomcat-threads", "200")));
+    }
+
+    public boolean virtualThreads() {
+        return VIRTUAL.equals(mode);
+    }
+}
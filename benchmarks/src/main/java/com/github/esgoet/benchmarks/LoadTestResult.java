@@ -0,0 +1,40 @@
+package com.github.esgoet.benchmarks;
+
+import java.util.Arrays;
+
+public record LoadTestResult(
+        String mode,
+        int concurrency,
+        int tomcatThreads,
+        double durationSeconds,
+        long requests,
+        long errors,
+        double throughputPerSecond,
+        double p50Millis,
+        double p99Millis,
+        double maxMillis
+) {
+    public static LoadTestResult of(LoadTestOptions options, double durationSeconds, long[] latenciesNanos, long errors) {
+        long[] sorted = latenciesNanos.clone();
+        Arrays.sort(sorted);
+        return new LoadTestResult(
+                options.mode(),
+                options.concurrency(),
+                options.tomcatThreads(),
+                durationSeconds,
+                sorted.length,
+                errors,
+                sorted.length / durationSeconds,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.clamp(index, 0, sorted.length - 1)] / 1_000_000.0;
+    }
+}
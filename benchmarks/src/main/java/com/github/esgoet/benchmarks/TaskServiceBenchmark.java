@@ -0,0 +1,120 @@
+package com.github.esgoet.benchmarks;
+
+import com.github.esgoet.backend.dto.MoveTaskDto;
+import com.github.esgoet.backend.dto.NewTaskDto;
+import com.github.esgoet.backend.dto.TaskDto;
+import com.github.esgoet.backend.model.Task;
+import com.github.esgoet.backend.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    public int tasksPerColumn;
+
+    @Param({BenchmarkApplication.EMBEDDED_MONGO, BenchmarkApplication.IN_MEMORY})
+    public String backend;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private BoardFixture fixture;
+    private String movingTaskId;
+    private boolean inSecondColumn;
+    private boolean movedToTop;
+    private boolean movedAcross;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkApplication.start(backend);
+        taskService = context.getBean(TaskService.class);
+        fixture = BoardFixture.create(context, tasksPerColumn);
+        movingTaskId = fixture.middleTaskId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task createTask(CreatedTask createdTask) {
+        Task task = taskService.createTask(fixture.firstColumnId(), new NewTaskDto("New task", "Created by benchmark", null));
+        createdTask.id = task.id();
+        return task;
+    }
+
+    @Benchmark
+    public Task updateTaskSameColumn() {
+        return taskService.updateTask(movingTaskId, new TaskDto(fixture.firstColumnId(), "Renamed", "Updated by benchmark", null));
+    }
+
+    @Benchmark
+    public Task updateTaskCrossColumn() {
+        inSecondColumn = !inSecondColumn;
+        String columnId = inSecondColumn ? fixture.secondColumnId() : fixture.firstColumnId();
+        return taskService.updateTask(movingTaskId, new TaskDto(columnId, "Moved", "Moved by benchmark", null));
+    }
+
+    @Benchmark
+    public Task moveTaskSameColumn() {
+        movedToTop = !movedToTop;
+        int position = movedToTop ? 0 : tasksPerColumn - 1;
+        return taskService.moveTask(movingTaskId, new MoveTaskDto(fixture.firstColumnId(), position));
+    }
+
+    @Benchmark
+    public Task moveTaskCrossColumn() {
+        movedAcross = !movedAcross;
+        String columnId = movedAcross ? fixture.secondColumnId() : fixture.firstColumnId();
+        return taskService.moveTask(movingTaskId, new MoveTaskDto(columnId, tasksPerColumn / 2));
+    }
+
+    @Benchmark
+    public void deleteTask(TaskToDelete taskToDelete) {
+        taskService.deleteTask(taskToDelete.id);
+    }
+
+    @State(Scope.Thread)
+    public static class TaskToDelete {
+        private String id;
+
+        @Setup(Level.Invocation)
+        public void createTask(TaskServiceBenchmark benchmark) {
+            id = benchmark.taskService.createTask(benchmark.fixture.firstColumnId(), new NewTaskDto("To delete", null, null)).id();
+        }
+    }
+
+    /**
+     * Deletes the task each {@code createTask} call adds, so the column stays at {@code tasksPerColumn} instead of
+     * growing with every invocation.
+     */
+    @State(Scope.Thread)
+    public static class CreatedTask {
+        private String id;
+
+        @TearDown(Level.Invocation)
+        public void deleteTask(TaskServiceBenchmark benchmark) {
+            benchmark.taskService.deleteTask(id);
+        }
+    }
+}